@@ -3,7 +3,9 @@ package com.woowahanbank.backend.domain.banking.controller;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -14,6 +16,7 @@ import com.woowahanbank.backend.domain.banking.dto.PaymentRequestDto;
 import com.woowahanbank.backend.domain.banking.dto.PaymentResponseDto;
 import com.woowahanbank.backend.domain.banking.service.BankingService;
 import com.woowahanbank.backend.global.auth.security.CustomUserDetails;
+import com.woowahanbank.backend.global.idempotency.Idempotent;
 import com.woowahanbank.backend.global.response.BaseResponse;
 
 import lombok.RequiredArgsConstructor;
@@ -53,6 +56,7 @@ public class BankingController {
 	//	}
 
 	// todo: 알람 기능 완성 시 추가 작업 필요함
+	@Idempotent
 	@PostMapping("/withdraw/money")
 	public ResponseEntity<?> withdrawPoint(@AuthenticationPrincipal CustomUserDetails customUserDetails,
 		@RequestBody PaymentRequestDto paymentRequestDto) {
@@ -65,6 +69,7 @@ public class BankingController {
 		return BaseResponse.ok(HttpStatus.OK, "포인트 출금을 신청했습니다.");
 	}
 
+	@Idempotent
 	@PostMapping("/pinmoney")
 	public ResponseEntity<?> pinMoney(@AuthenticationPrincipal CustomUserDetails customUserDetails,
 		@RequestBody ChildPinMoney childPinMoney) {
@@ -72,4 +77,17 @@ public class BankingController {
 		bankingService.assignNewPinMoney(childPinMoney, customUserDetails.getUser());
 		return BaseResponse.ok(HttpStatus.OK, "어린이에게 새로운 용돈 지급날을 결정했습니다.");
 	}
+
+	@GetMapping("/pinmoney")
+	public ResponseEntity<?> getPinMoneySchedules(@AuthenticationPrincipal CustomUserDetails customUserDetails) {
+		return BaseResponse.okWithData(HttpStatus.OK, "용돈 일정 목록을 조회했습니다.",
+			bankingService.getPinMoneySchedules(customUserDetails.getUser()));
+	}
+
+	@DeleteMapping("/pinmoney/{id}")
+	public ResponseEntity<?> cancelPinMoney(@AuthenticationPrincipal CustomUserDetails customUserDetails,
+		@PathVariable Long id) {
+		bankingService.cancelPinMoney(id, customUserDetails.getUser());
+		return BaseResponse.ok(HttpStatus.OK, "용돈 일정을 취소했습니다.");
+	}
 }
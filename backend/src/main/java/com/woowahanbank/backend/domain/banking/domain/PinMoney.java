@@ -2,12 +2,16 @@ package com.woowahanbank.backend.domain.banking.domain;
 
 import java.time.LocalDate;
 
-import javax.persistence.CascadeType;
 import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
-import javax.persistence.OneToOne;
+import javax.persistence.Index;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 
 import com.woowahanbank.backend.domain.user.domain.User;
 
@@ -16,25 +20,34 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 부모가 자녀에게 주기적으로 보내는 용돈 일정. 자녀 한 명에게 여러 일정을 둘 수 있다.
+ */
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(indexes = @Index(name = "idx_pin_money_next_run", columnList = "next_run_at, id"))
 public class PinMoney {
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 
-	@OneToOne(cascade = CascadeType.MERGE)
-	private User user;
+	@ManyToOne(fetch = FetchType.LAZY)
+	private User parent;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	private User child;
 
 	private int pinMoney;
 
-	private LocalDate receiveTime;
+	@Enumerated(EnumType.STRING)
+	private PinMoneyCycle cycle;
+
+	private LocalDate nextRunAt;
 
-	public void nextPinMoneyDay() {
-		this.receiveTime = this.receiveTime.plusDays(7);
-	}
+	// 잔액이 모자라 지급하지 못한 날. 그날은 다시 집지 않고 다음 배치에서 같은 회차부터 다시 시도한다.
+	private LocalDate failedOn;
 }
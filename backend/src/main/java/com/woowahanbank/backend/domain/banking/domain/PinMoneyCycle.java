@@ -0,0 +1,18 @@
+package com.woowahanbank.backend.domain.banking.domain;
+
+import java.time.LocalDate;
+
+public enum PinMoneyCycle {
+	DAILY, WEEKLY, MONTHLY;
+
+	public LocalDate next(LocalDate date) {
+		switch (this) {
+			case DAILY:
+				return date.plusDays(1);
+			case MONTHLY:
+				return date.plusMonths(1);
+			default:
+				return date.plusWeeks(1);
+		}
+	}
+}
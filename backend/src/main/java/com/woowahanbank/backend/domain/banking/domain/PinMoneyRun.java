@@ -0,0 +1,32 @@
+package com.woowahanbank.backend.domain.banking.domain;
+
+import java.time.LocalDate;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 용돈 일정의 지급 회차 기록. (일정, 지급일)이 유일하므로 같은 회차는 한 번만 지급된다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_pin_money_run", columnNames = {"schedule_id", "run_date"}))
+public class PinMoneyRun {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	private Long scheduleId;
+
+	private LocalDate runDate;
+}
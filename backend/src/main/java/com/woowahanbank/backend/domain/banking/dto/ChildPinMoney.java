@@ -2,6 +2,8 @@ package com.woowahanbank.backend.domain.banking.dto;
 
 import java.time.LocalDate;
 
+import com.woowahanbank.backend.domain.banking.domain.PinMoneyCycle;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,4 +21,5 @@ public class ChildPinMoney {
 	private String childNickname;
 	private int pinMoney;
 	private LocalDate receiveTime;
+	private PinMoneyCycle cycle;
 }
@@ -0,0 +1,23 @@
+package com.woowahanbank.backend.domain.banking.dto;
+
+import java.time.LocalDate;
+
+import com.woowahanbank.backend.domain.banking.domain.PinMoneyCycle;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PinMoneyDue {
+	private Long id;
+	private Integer parentId;
+	private Integer childId;
+	private int pinMoney;
+	private PinMoneyCycle cycle;
+	private LocalDate runDate;
+}
@@ -0,0 +1,22 @@
+package com.woowahanbank.backend.domain.banking.dto;
+
+import java.time.LocalDate;
+
+import com.woowahanbank.backend.domain.banking.domain.PinMoneyCycle;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PinMoneyScheduleDto {
+	private Long id;
+	private String childNickname;
+	private int pinMoney;
+	private PinMoneyCycle cycle;
+	private LocalDate nextRunAt;
+}
@@ -0,0 +1,85 @@
+package com.woowahanbank.backend.domain.banking.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.woowahanbank.backend.domain.banking.domain.PinMoneyCycle;
+import com.woowahanbank.backend.domain.banking.dto.PinMoneyDue;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 용돈 배치 전용 JDBC 저장소.
+ * 지급일이 된 일정을 잠긴 행은 건너뛰며 집어 오므로 여러 작업자가 나눠 처리할 수 있고,
+ * (일정, 지급일) 실행 키를 남겨 같은 회차가 두 번 지급되지 않게 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PinMoneyJdbcRepository {
+	private static final String CLAIM_DUE = "SELECT p.id, p.parent_id, p.child_id, p.pin_money, p.cycle, p.next_run_at"
+		+ " FROM pin_money p"
+		+ " WHERE p.next_run_at <= ? AND (p.failed_on IS NULL OR p.failed_on < ?)"
+		+ " AND NOT EXISTS (SELECT 1 FROM pin_money_run r WHERE r.schedule_id = p.id AND r.run_date = p.next_run_at)"
+		+ " ORDER BY p.next_run_at, p.id LIMIT ?"
+		+ " FOR UPDATE SKIP LOCKED";
+	private static final String INSERT_RUN = "INSERT INTO pin_money_run (schedule_id, run_date) VALUES (?, ?)";
+	private static final String ADVANCE = "UPDATE pin_money SET next_run_at = ?, failed_on = NULL WHERE id = ?";
+	private static final String MARK_FAILED = "UPDATE pin_money SET failed_on = ? WHERE id = ?";
+
+	private static final RowMapper<PinMoneyDue> DUE_MAPPER = (rs, rowNum) -> PinMoneyDue.builder()
+		.id(rs.getLong("id"))
+		.parentId(rs.getInt("parent_id"))
+		.childId(rs.getInt("child_id"))
+		.pinMoney(rs.getInt("pin_money"))
+		.cycle(PinMoneyCycle.valueOf(rs.getString("cycle")))
+		.runDate(rs.getDate("next_run_at").toLocalDate())
+		.build();
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public List<PinMoneyDue> claimDue(LocalDate today, int size) {
+		return jdbcTemplate.query(CLAIM_DUE, DUE_MAPPER, Date.valueOf(today), Date.valueOf(today), size);
+	}
+
+	// 청크가 건드릴 부모와 자녀를 id 오름차순으로 한 번에 잠근다.
+	public void lockUsers(List<PinMoneyDue> dues) {
+		TreeSet<Integer> userIds = new TreeSet<>();
+		for (PinMoneyDue due : dues) {
+			userIds.add(due.getParentId());
+			userIds.add(due.getChildId());
+		}
+		String placeholders = userIds.stream().map(id -> "?").collect(Collectors.joining(", "));
+		jdbcTemplate.queryForList("SELECT id FROM `user` WHERE id IN (" + placeholders + ") ORDER BY id FOR UPDATE",
+			Integer.class, userIds.toArray());
+	}
+
+	// 실행 키는 (schedule_id, run_date) 유니크이므로 이미 지급된 회차라면 청크 전체가 롤백된다.
+	public void insertRuns(List<PinMoneyDue> dues) {
+		jdbcTemplate.batchUpdate(INSERT_RUN, dues, dues.size(), (ps, due) -> {
+			ps.setLong(1, due.getId());
+			ps.setDate(2, Date.valueOf(due.getRunDate()));
+		});
+	}
+
+	public void advance(List<PinMoneyDue> dues) {
+		jdbcTemplate.batchUpdate(ADVANCE, dues, dues.size(), (ps, due) -> {
+			ps.setDate(1, Date.valueOf(due.getCycle().next(due.getRunDate())));
+			ps.setLong(2, due.getId());
+		});
+	}
+
+	// 지급일은 그대로 두고 실패한 날만 남긴다. 실행 키가 없으므로 다음 배치가 같은 회차를 다시 집는다.
+	public void markFailed(List<PinMoneyDue> dues, LocalDate today) {
+		jdbcTemplate.batchUpdate(MARK_FAILED, dues, dues.size(), (ps, due) -> {
+			ps.setDate(1, Date.valueOf(today));
+			ps.setLong(2, due.getId());
+		});
+	}
+}
@@ -1,6 +1,5 @@
 package com.woowahanbank.backend.domain.banking.repository;
 
-import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,12 +7,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 import com.woowahanbank.backend.domain.banking.domain.PinMoney;
-import com.woowahanbank.backend.domain.user.domain.User;
 
 public interface PinMoneyRepository extends JpaRepository<PinMoney, Long> {
-	@Query("SELECT p FROM PinMoney p WHERE DATE(p.receiveTime) = :today")
-	List<PinMoney> findAllByReceiveTime(LocalDate today);
-
-	Optional<PinMoney> findByUser(User user);
+	@Query("SELECT p FROM PinMoney p JOIN FETCH p.child WHERE p.parent.id = :parentId ORDER BY p.id")
+	List<PinMoney> findAllByParentId(Integer parentId);
 
+	Optional<PinMoney> findByIdAndParentId(Long id, Integer parentId);
 }
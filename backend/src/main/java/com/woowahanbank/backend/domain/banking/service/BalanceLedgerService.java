@@ -0,0 +1,85 @@
+package com.woowahanbank.backend.domain.banking.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.woowahanbank.backend.domain.user.domain.User;
+import com.woowahanbank.backend.domain.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 유저 잔액 변경을 한 곳에서 처리한다.
+ * 엔티티를 읽고 고쳐 쓰는 대신 조건부 UPDATE 한 번으로 반영하므로 동시 이체에서도 금액이 유실되지 않는다.
+ * 여러 유저가 얽힌 이체는 유저 id 순서로 잠가 교착을 피하고, 한 다리라도 실패하면 앞서 반영한 다리를 되돌린다.
+ * 반영 후에는 이 트랜잭션이 이미 읽어 둔 유저 엔티티만 다시 읽어, 이후의 저장이 옛 잔액을 덮어쓰지 않게 한다.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class BalanceLedgerService {
+	private final UserRepository userRepository;
+	private final EntityManager entityManager;
+
+	public void apply(Integer userId, long delta) {
+		if (!tryApply(userId, delta))
+			throw new IllegalArgumentException("잔액이 부족합니다.");
+	}
+
+	public void transfer(Integer fromId, Integer toId, long amount) {
+		if (!tryTransfer(fromId, toId, amount))
+			throw new IllegalArgumentException("잔액이 부족합니다.");
+	}
+
+	public void applyAll(Map<Integer, Long> deltas) {
+		if (!tryApplyAll(deltas))
+			throw new IllegalArgumentException("잔액이 부족합니다.");
+	}
+
+	public boolean tryApply(Integer userId, long delta) {
+		if (userRepository.addMoney(userId, delta) != 1)
+			return false;
+		refreshIfLoaded(userId);
+		return true;
+	}
+
+	public boolean tryTransfer(Integer fromId, Integer toId, long amount) {
+		Map<Integer, Long> deltas = new TreeMap<>();
+		deltas.merge(fromId, -amount, Long::sum);
+		deltas.merge(toId, amount, Long::sum);
+		return tryApplyAll(deltas);
+	}
+
+	public boolean tryApplyAll(Map<Integer, Long> deltas) {
+		List<Map.Entry<Integer, Long>> applied = new ArrayList<>();
+		for (Map.Entry<Integer, Long> leg : new TreeMap<>(deltas).entrySet()) {
+			if (leg.getValue() == 0)
+				continue;
+			if (userRepository.addMoney(leg.getKey(), leg.getValue()) == 1) {
+				applied.add(leg);
+				continue;
+			}
+			// 이미 반영한 다리는 같은 트랜잭션에서 행 잠금을 쥐고 있으므로 그대로 되돌릴 수 있다.
+			for (int i = applied.size() - 1; i >= 0; i--)
+				userRepository.addMoney(applied.get(i).getKey(), -applied.get(i).getValue());
+			return false;
+		}
+		applied.forEach(leg -> refreshIfLoaded(leg.getKey()));
+		return true;
+	}
+
+	// 영속성 컨텍스트에 올라와 있는 유저만 새로 읽는다. 아직 읽지 않은 유저는 프록시만 돌아오므로 조회가 일어나지 않는다.
+	private void refreshIfLoaded(Integer userId) {
+		User user = entityManager.getReference(User.class, userId);
+		if (Hibernate.isInitialized(user))
+			entityManager.refresh(user);
+	}
+}
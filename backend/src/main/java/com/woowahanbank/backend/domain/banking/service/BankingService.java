@@ -1,7 +1,7 @@
 package com.woowahanbank.backend.domain.banking.service;
 
-import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
@@ -13,13 +13,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.woowahanbank.backend.domain.banking.domain.PinMoney;
+import com.woowahanbank.backend.domain.banking.domain.PinMoneyCycle;
 import com.woowahanbank.backend.domain.banking.dto.ChildPinMoney;
 import com.woowahanbank.backend.domain.banking.dto.PaymentResponseDto;
+import com.woowahanbank.backend.domain.banking.dto.PinMoneyScheduleDto;
 import com.woowahanbank.backend.domain.banking.repository.PinMoneyRepository;
 import com.woowahanbank.backend.domain.customer.dto.DepositorDto;
 import com.woowahanbank.backend.domain.customer.dto.LoanerDto;
@@ -27,9 +28,9 @@ import com.woowahanbank.backend.domain.customer.dto.SavingserDto;
 import com.woowahanbank.backend.domain.customer.service.DepositorServiceImpl;
 import com.woowahanbank.backend.domain.customer.service.LoanerServiceImpl;
 import com.woowahanbank.backend.domain.customer.service.SavingserServiceImpl;
-import com.woowahanbank.backend.domain.user.domain.Role;
 import com.woowahanbank.backend.domain.user.domain.User;
 import com.woowahanbank.backend.domain.user.repository.UserRepository;
+import com.woowahanbank.backend.global.outbound.OutboundClients;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -46,10 +47,10 @@ public class BankingService {
 	private final DepositorServiceImpl depositorService;
 	private final LoanerServiceImpl loanerService;
 	private final SavingserServiceImpl savingserService;
+	private final BalanceLedgerService balanceLedgerService;
+	private final OutboundClients outboundClients;
 
 	public PaymentResponseDto makePayment(Long amount) {
-		RestTemplate rt = new RestTemplate();
-
 		// Set headers
 		HttpHeaders headers = new HttpHeaders();
 		headers.set("Authorization", appKey);
@@ -71,12 +72,12 @@ public class BankingService {
 		HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(body, headers);
 
 		// Send POST request
-		ResponseEntity<String> response = rt.exchange(
-			"https://kapi.kakao.com/v1/payment/ready",
+		ResponseEntity<String> response = outboundClients.get(OutboundClients.KAKAO_PAY).execute(rt -> rt.exchange(
+			"/v1/payment/ready",
 			HttpMethod.POST,
 			request,
 			String.class
-		);
+		));
 
 		// Handle response
 		if (response.getStatusCodeValue() == 200) {
@@ -96,16 +97,14 @@ public class BankingService {
 		}
 	}
 
+	// 예전에는 아이만 잔액 검사를 했지만, 이제 부모도 잔액을 넘겨 쓸 수 없다. 모든 잔액은 0 이상으로 유지된다.
 	@Transactional
 	public void pointTransfer(User user, long amount) {
 		User userdb = userRepository.findByNickname(user.getNickname()).orElseThrow(IllegalArgumentException::new);
 
-		if (amount > userdb.getMoney() && user.getRoles() == Role.ROLE_CHILD) {
+		if (!balanceLedgerService.tryApply(userdb.getId(), -amount)) {
 			throw new IllegalArgumentException("포인트가 부족합니다.");
 		}
-
-		user.moneyTransfer(-amount);
-		userRepository.save(user);
 	}
 
 	@Transactional
@@ -114,32 +113,42 @@ public class BankingService {
 		User childUser = userRepository.findByNickname(childPinMoneyDto.getChildNickname())
 			.orElseThrow(() -> new IllegalArgumentException("어린이에 해당되는 유저가 없습니다."));
 
-		pinMoneyRepository.findByUser(childUser)
-			.ifPresent(pinMoney -> pinMoneyRepository.deleteById(pinMoney.getId()));
+		PinMoneyCycle cycle = childPinMoneyDto.getCycle() == null ? PinMoneyCycle.WEEKLY : childPinMoneyDto.getCycle();
 
 		// 당일 용돈 주기
-		childUser.moneyTransfer(childPinMoneyDto.getPinMoney());
-		parent.moneyTransfer(-childPinMoneyDto.getPinMoney());
+		balanceLedgerService.transfer(parent.getId(), childUser.getId(), childPinMoneyDto.getPinMoney());
 		// 다음 용돈일 지정
 		PinMoney newPinMoney = PinMoney.builder()
-			.user(childUser)
+			.parent(userRepository.getReferenceById(parent.getId()))
+			.child(childUser)
 			.pinMoney(childPinMoneyDto.getPinMoney())
-			.receiveTime(childPinMoneyDto.getReceiveTime().plusDays(7))
-			.build();
-		PinMoney newPinMoneyP = PinMoney.builder()
-			.user(parent)
-			.pinMoney(-childPinMoneyDto.getPinMoney())
-			.receiveTime(childPinMoneyDto.getReceiveTime().plusDays(7))
+			.cycle(cycle)
+			.nextRunAt(cycle.next(childPinMoneyDto.getReceiveTime()))
 			.build();
-		log.info("{}", newPinMoney);
 
 		pinMoneyRepository.save(newPinMoney);
-		pinMoneyRepository.save(newPinMoneyP);
-		userRepository.save(childUser);
-		userRepository.save(parent);
 		return childPinMoneyDto.getPinMoney();
 	}
 
+	public List<PinMoneyScheduleDto> getPinMoneySchedules(User parent) {
+		return pinMoneyRepository.findAllByParentId(parent.getId()).stream()
+			.map(pinMoney -> PinMoneyScheduleDto.builder()
+				.id(pinMoney.getId())
+				.childNickname(pinMoney.getChild().getNickname())
+				.pinMoney(pinMoney.getPinMoney())
+				.cycle(pinMoney.getCycle())
+				.nextRunAt(pinMoney.getNextRunAt())
+				.build())
+			.collect(Collectors.toList());
+	}
+
+	@Transactional
+	public void cancelPinMoney(Long id, User parent) {
+		PinMoney pinMoney = pinMoneyRepository.findByIdAndParentId(id, parent.getId())
+			.orElseThrow(() -> new IllegalArgumentException("해당 용돈 일정이 없습니다."));
+		pinMoneyRepository.delete(pinMoney);
+	}
+
 	public List<DepositorDto> getDepositorList(User user) {
 		return depositorService.getDepositorList(user);
 	}
@@ -151,14 +160,4 @@ public class BankingService {
 	public List<SavingserDto> getSavingList(User user) {
 		return savingserService.getSavingList(user);
 	}
-
-	public void updatePinMoneyAndTransfer() {
-		List<PinMoney> pinMoneyList = pinMoneyRepository.findAllByReceiveTime(LocalDate.now());
-		pinMoneyList.forEach(pinMoney -> {
-			pinMoney.nextPinMoneyDay();
-			pinMoney.getUser().moneyTransfer(pinMoney.getPinMoney());
-			pinMoneyRepository.save(pinMoney);
-		});
-	}
-
 }
@@ -0,0 +1,124 @@
+package com.woowahanbank.backend.domain.banking.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.woowahanbank.backend.domain.banking.dto.PinMoneyDue;
+import com.woowahanbank.backend.domain.banking.repository.PinMoneyJdbcRepository;
+import com.woowahanbank.backend.domain.point.dto.PointEntry;
+import com.woowahanbank.backend.domain.point.service.PointServiceImpl;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 용돈 지급 배치.
+ * 작업자마다 지급일이 된 일정을 청크 단위로 잠가 가져와 별도 트랜잭션으로 이체하고 다음 지급일로 넘긴다.
+ * 밀린 회차는 지급일이 오늘을 넘을 때까지 다시 잡혀 차례로 지급된다.
+ * 잔액이 모자라 이체하지 못한 일정은 지급일을 넘기지 않고 실패한 날만 남겨, 다음 배치에서 같은 회차부터 다시 시도한다.
+ * 청크는 관련 유저를 id 순서로 먼저 잠그고, 그래도 교착이나 잠금 대기 초과로 롤백되면 같은 청크를 다시 집어 온다.
+ */
+@Service
+@Slf4j
+public class PinMoneyBatchService {
+	private static final String MEMO = "용돈";
+
+	private final PinMoneyJdbcRepository pinMoneyJdbcRepository;
+	private final BalanceLedgerService balanceLedgerService;
+	private final PointServiceImpl pointService;
+	private final TransactionTemplate chunkTransaction;
+	private final int chunkSize;
+	private final int workers;
+	private final int maxRetries;
+
+	public PinMoneyBatchService(PinMoneyJdbcRepository pinMoneyJdbcRepository,
+		BalanceLedgerService balanceLedgerService, PointServiceImpl pointService,
+		PlatformTransactionManager transactionManager, @Value("${batch.pinmoney.chunk-size:500}") int chunkSize,
+		@Value("${batch.pinmoney.workers:4}") int workers, @Value("${batch.pinmoney.max-retries:3}") int maxRetries) {
+		this.pinMoneyJdbcRepository = pinMoneyJdbcRepository;
+		this.balanceLedgerService = balanceLedgerService;
+		this.pointService = pointService;
+		this.chunkTransaction = new TransactionTemplate(transactionManager);
+		this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.chunkSize = chunkSize;
+		this.workers = workers;
+		this.maxRetries = maxRetries;
+	}
+
+	public void run() {
+		LocalDate today = LocalDate.now();
+		ExecutorService executor = Executors.newFixedThreadPool(workers);
+		try {
+			List<CompletableFuture<Integer>> futures = IntStream.range(0, workers)
+				.mapToObj(i -> CompletableFuture.supplyAsync(() -> drain(today), executor))
+				.collect(Collectors.toList());
+			int paid = futures.stream().mapToInt(CompletableFuture::join).sum();
+			log.info("용돈 배치 완료: {}건", paid);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private int drain(LocalDate today) {
+		int paid = 0;
+		int retries = 0;
+		while (true) {
+			Integer count;
+			try {
+				count = chunkTransaction.execute(status -> processChunk(today));
+			} catch (PessimisticLockingFailureException e) {
+				// 롤백된 청크의 일정은 잠금이 풀려 있으므로 다음 시도에서 다시 집힌다.
+				if (++retries > maxRetries)
+					throw e;
+				log.warn("용돈 청크 재시도 {}/{}: {}", retries, maxRetries, e.getMessage());
+				continue;
+			}
+			retries = 0;
+			if (count == null || count == 0)
+				return paid;
+			paid += count;
+		}
+	}
+
+	private int processChunk(LocalDate today) {
+		List<PinMoneyDue> dues = pinMoneyJdbcRepository.claimDue(today, chunkSize);
+		if (dues.isEmpty())
+			return 0;
+
+		pinMoneyJdbcRepository.lockUsers(dues);
+		List<PinMoneyDue> paid = new ArrayList<>();
+		List<PinMoneyDue> failed = new ArrayList<>();
+		List<PointEntry> entries = new ArrayList<>();
+		for (PinMoneyDue due : dues) {
+			if (!balanceLedgerService.tryTransfer(due.getParentId(), due.getChildId(), due.getPinMoney())) {
+				log.warn("용돈 이체 실패, 다음 배치에서 재시도: scheduleId={}, runDate={}", due.getId(), due.getRunDate());
+				failed.add(due);
+				continue;
+			}
+			paid.add(due);
+			entries.add(PointEntry.builder()
+				.senderId(due.getParentId())
+				.receiverId(due.getChildId())
+				.memo(MEMO)
+				.amount(due.getPinMoney())
+				.build());
+		}
+		pinMoneyJdbcRepository.insertRuns(paid);
+		pointService.makePoints(entries);
+		pinMoneyJdbcRepository.advance(paid);
+		pinMoneyJdbcRepository.markFailed(failed, today);
+		return dues.size();
+	}
+}
@@ -0,0 +1,63 @@
+package com.woowahanbank.backend.domain.customer.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.woowahanbank.backend.domain.customer.dto.ApprovalDecisionDto;
+import com.woowahanbank.backend.domain.customer.dto.ApprovalDecisionResultDto;
+import com.woowahanbank.backend.domain.customer.dto.ApprovalInboxDto;
+import com.woowahanbank.backend.domain.customer.service.ApprovalDecisionService;
+import com.woowahanbank.backend.domain.customer.service.ApprovalInboxService;
+import com.woowahanbank.backend.global.auth.security.CustomUserDetails;
+import com.woowahanbank.backend.global.idempotency.Idempotent;
+import com.woowahanbank.backend.global.response.BaseResponse;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@Api(tags = {"Approval Inbox API"})
+@RequestMapping("/api/approvals")
+public class ApprovalInboxController {
+	private final ApprovalInboxService approvalInboxService;
+	private final ApprovalDecisionService approvalDecisionService;
+
+	@ApiOperation(value = "승인 대기함 조회", notes = "예금/대출/적금 승인 대기 신청을 신청 최신순으로 조회합니다.")
+	@ApiResponse(code = 200, message = "승인 대기 목록")
+	@GetMapping
+	public ResponseEntity<?> getInbox(@AuthenticationPrincipal CustomUserDetails customUser,
+		@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int size) {
+		ApprovalInboxDto inbox = approvalInboxService.getInbox(customUser.getUser(), cursor, size);
+		return BaseResponse.okWithData(HttpStatus.OK, "승인 대기 목록", inbox);
+	}
+
+	@ApiOperation(value = "승인 대기 건수 조회")
+	@ApiResponse(code = 200, message = "승인 대기 건수")
+	@GetMapping("/count")
+	public ResponseEntity<?> getPendingCount(@AuthenticationPrincipal CustomUserDetails customUser) {
+		long count = approvalInboxService.getPendingCount(customUser.getUser());
+		return BaseResponse.okWithData(HttpStatus.OK, "승인 대기 건수", count);
+	}
+
+	@ApiOperation(value = "신청 일괄 승인/거절", notes = "여러 신청을 한 번에 승인/거절하고 항목별 결과를 돌려줍니다.")
+	@ApiResponse(code = 200, message = "일괄 처리 결과")
+	@Idempotent
+	@PostMapping("/decisions")
+	public ResponseEntity<?> decide(@AuthenticationPrincipal CustomUserDetails customUser,
+		@RequestBody List<ApprovalDecisionDto> decisions) {
+		List<ApprovalDecisionResultDto> results = approvalDecisionService.decide(customUser.getUser(), decisions);
+		return BaseResponse.okWithData(HttpStatus.OK, "일괄 처리 결과", results);
+	}
+}
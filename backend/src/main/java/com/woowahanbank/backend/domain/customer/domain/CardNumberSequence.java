@@ -0,0 +1,20 @@
+package com.woowahanbank.backend.domain.customer.domain;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카드 번호 발급용 카운터. 서버마다 블록 단위로 잘라 가져가므로 행은 하나만 쓴다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class CardNumberSequence {
+	@Id
+	private Integer id;
+	private long nextValue;
+}
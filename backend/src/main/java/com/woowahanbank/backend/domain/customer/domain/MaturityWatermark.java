@@ -0,0 +1,37 @@
+package com.woowahanbank.backend.domain.customer.domain;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+
+import com.woowahanbank.backend.domain.financialproducts.domain.ProductType;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 종류별 만기 정산 위치. (expiry, id) 순으로 여기까지는 정산이 끝났다는 뜻이다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+@Builder
+public class MaturityWatermark {
+	@Id
+	@Enumerated(EnumType.STRING)
+	private ProductType productType;
+	private LocalDateTime lastExpiry;
+	private long lastId;
+
+	public void advance(LocalDateTime lastExpiry, long lastId) {
+		this.lastExpiry = lastExpiry;
+		this.lastId = lastId;
+	}
+}
@@ -0,0 +1,41 @@
+package com.woowahanbank.backend.domain.customer.domain;
+
+import java.time.LocalDate;
+
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import com.woowahanbank.backend.domain.financialproducts.domain.ProductType;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 잔액이 모자라 이자 배치에서 처리하지 못한 회차. 다음 배치부터 다시 시도하고, 처리되면 지운다.
+ * (상품 종류, 계약, 회차일)이 유일하므로 청크를 다시 돌려도 같은 회차가 두 번 쌓이지 않는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_rate_arrear",
+	columnNames = {"product_type", "contract_id", "due_date"}))
+public class RateArrear {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	private ProductType productType;
+
+	private Long contractId;
+
+	private LocalDate dueDate;
+}
@@ -0,0 +1,41 @@
+package com.woowahanbank.backend.domain.customer.domain;
+
+import java.time.LocalDate;
+
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+
+import com.woowahanbank.backend.domain.financialproducts.domain.ProductType;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 종류별 이자 배치의 진행 위치. 청크가 커밋될 때마다 마지막 계약 id를 기록한다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+@Builder
+public class RateCheckpoint {
+	@Id
+	@Enumerated(EnumType.STRING)
+	private ProductType productType;
+	private LocalDate runDate;
+	private long lastId;
+
+	public void restart(LocalDate runDate) {
+		this.runDate = runDate;
+		this.lastId = 0L;
+	}
+
+	public void advance(long lastId) {
+		this.lastId = lastId;
+	}
+}
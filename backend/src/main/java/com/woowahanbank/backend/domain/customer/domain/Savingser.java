@@ -8,8 +8,10 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 
 import org.hibernate.annotations.CreationTimestamp;
 
@@ -23,6 +25,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+	@Index(name = "idx_savingser_expiry", columnList = "expiry"),
+	@Index(name = "idx_savingser_billing_day", columnList = "billing_day, allow_product"),
+	@Index(name = "uk_savingser_card_number", columnList = "card_number", unique = true),
+	@Index(name = "idx_savingser_family_pending", columnList = "family_id, allow_product, date, id")})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Getter
@@ -45,6 +52,9 @@ public class Savingser {
 	private LocalDateTime date;
 	@CreationTimestamp
 	private LocalDateTime expiry;
+	private Integer billingDay;
+	// 승인할 가족. 승인 대기함 조회용으로 상품의 가족을 복사해 둔다.
+	private Long familyId;
 	private int regularMoney;
 
 	public void allow() {
@@ -56,6 +66,7 @@ public class Savingser {
 	public void changeDate(int period) {
 		this.date = LocalDateTime.now();
 		this.expiry = this.date.plus(period, ChronoUnit.MONTHS);
+		this.billingDay = this.date.getDayOfMonth();
 	}
 
 	public void depositMoney(int userMoney) {
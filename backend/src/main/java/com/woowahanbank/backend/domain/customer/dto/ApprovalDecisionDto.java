@@ -0,0 +1,19 @@
+package com.woowahanbank.backend.domain.customer.dto;
+
+import com.woowahanbank.backend.domain.financialproducts.domain.ProductType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalDecisionDto {
+	private ProductType productType;
+	private Long id;
+	// true 면 승인, false 면 거절
+	private boolean approve;
+}
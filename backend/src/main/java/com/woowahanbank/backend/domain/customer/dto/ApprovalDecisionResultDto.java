@@ -0,0 +1,21 @@
+package com.woowahanbank.backend.domain.customer.dto;
+
+import com.woowahanbank.backend.domain.financialproducts.domain.ProductType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalDecisionResultDto {
+	private ProductType productType;
+	private Long id;
+	private boolean approve;
+	private boolean success;
+	// 실패한 경우 사유
+	private String message;
+}
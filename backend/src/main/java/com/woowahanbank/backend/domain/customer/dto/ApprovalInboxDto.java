@@ -0,0 +1,19 @@
+package com.woowahanbank.backend.domain.customer.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalInboxDto {
+	private List<ApprovalItemDto> items;
+	// 다음 페이지를 읽을 때 넘겨줄 커서. 마지막 페이지면 null
+	private String nextCursor;
+	private long pendingCount;
+}
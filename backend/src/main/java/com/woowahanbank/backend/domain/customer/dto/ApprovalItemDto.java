@@ -0,0 +1,25 @@
+package com.woowahanbank.backend.domain.customer.dto;
+
+import java.time.LocalDateTime;
+
+import com.woowahanbank.backend.domain.financialproducts.domain.ProductType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalItemDto {
+	private ProductType productType;
+	private Long id;
+	private Integer userId;
+	private String userNickname;
+	private Long financialProductId;
+	private String productName;
+	private int money;
+	private LocalDateTime date;
+}
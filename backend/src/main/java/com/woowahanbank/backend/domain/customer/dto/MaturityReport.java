@@ -0,0 +1,16 @@
+package com.woowahanbank.backend.domain.customer.dto;
+
+import com.woowahanbank.backend.domain.financialproducts.domain.ProductType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class MaturityReport {
+	private final ProductType productType;
+	private final int scanned;
+	private final int settled;
+}
@@ -0,0 +1,21 @@
+package com.woowahanbank.backend.domain.customer.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaturityTarget {
+	private Long id;
+	private Integer userId;
+	private Integer parentId;
+	private int money;
+	private int rate;
+	private LocalDateTime expiry;
+}
@@ -0,0 +1,21 @@
+package com.woowahanbank.backend.domain.customer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateTarget {
+	private Long id;
+	private Integer userId;
+	private Integer parentId;
+	private int money;
+	private int regularMoney;
+	private int rate;
+	// 밀린 회차를 다시 처리할 때만 채운다.
+	private Long arrearId;
+}
@@ -0,0 +1,18 @@
+package com.woowahanbank.backend.domain.customer.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import lombok.Getter;
+
+/**
+ * 가족의 승인 대기 신청이 생기거나 승인/거절로 빠졌을 때 발행한다.
+ */
+@Getter
+public class PendingApprovalChangedEvent extends ApplicationEvent {
+	private final Long familyId;
+
+	public PendingApprovalChangedEvent(Object source, Long familyId) {
+		super(source);
+		this.familyId = familyId;
+	}
+}
@@ -0,0 +1,95 @@
+package com.woowahanbank.backend.domain.customer.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.woowahanbank.backend.domain.customer.dto.ApprovalItemDto;
+import com.woowahanbank.backend.domain.financialproducts.domain.ProductType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가족의 승인 대기 신청을 예금/대출/적금 테이블에서 UNION ALL 한 번으로 읽는다.
+ * 각 테이블은 (family_id, allow_product, date, id) 인덱스로 필요한 만큼만 읽고, 신청 시각 최신순으로 합친다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApprovalInboxRepository {
+	private static final RowMapper<ApprovalItemDto> ITEM_MAPPER = (rs, rowNum) -> {
+		Timestamp date = rs.getTimestamp("date");
+		return ApprovalItemDto.builder()
+			.productType(ProductType.valueOf(rs.getString("product_type")))
+			.id(rs.getLong("id"))
+			.userId(rs.getInt("user_id"))
+			.userNickname(rs.getString("nickname"))
+			.financialProductId(rs.getLong("product_id"))
+			.productName(rs.getString("product_name"))
+			.money(rs.getInt("money"))
+			.date(date == null ? null : date.toLocalDateTime())
+			.build();
+	};
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * (date, productType, id) 내림차순으로 커서 다음 size개를 읽는다. cursorDate가 null이면 첫 페이지다.
+	 * 커서 조건은 테이블마다 상품 종류가 고정이므로 인덱스 범위 조건으로 풀어서 건다.
+	 */
+	public List<ApprovalItemDto> findPending(long familyId, LocalDateTime cursorDate, ProductType cursorType,
+		long cursorId, int size) {
+		StringBuilder sql = new StringBuilder();
+		List<Object> args = new ArrayList<>();
+		for (ProductType productType : ProductType.values()) {
+			if (sql.length() > 0)
+				sql.append(" UNION ALL ");
+			sql.append("(SELECT '").append(productType.name()).append("' AS product_type, c.id, c.user_id,")
+				.append(" u.nickname, p.id AS product_id, p.name AS product_name, c.money, c.date")
+				.append(" FROM ").append(RateBatchRepository.tableOf(productType)).append(" c")
+				.append(" JOIN `user` u ON u.id = c.user_id")
+				.append(" JOIN financial_product p ON p.id = c.financial_product_id")
+				.append(" WHERE c.family_id = ? AND c.allow_product = 0");
+			args.add(familyId);
+			if (cursorDate != null) {
+				Timestamp date = Timestamp.valueOf(cursorDate);
+				int order = productType.name().compareTo(cursorType.name());
+				if (order > 0) {
+					sql.append(" AND c.date < ?");
+					args.add(date);
+				} else if (order < 0) {
+					sql.append(" AND c.date <= ?");
+					args.add(date);
+				} else {
+					sql.append(" AND (c.date < ? OR (c.date = ? AND c.id < ?))");
+					args.add(date);
+					args.add(date);
+					args.add(cursorId);
+				}
+			}
+			sql.append(" ORDER BY c.date DESC, c.id DESC LIMIT ?)");
+			args.add(size);
+		}
+		sql.append(" ORDER BY date DESC, product_type DESC, id DESC LIMIT ?");
+		args.add(size);
+		return jdbcTemplate.query(sql.toString(), ITEM_MAPPER, args.toArray());
+	}
+
+	public long countPending(long familyId) {
+		StringBuilder sql = new StringBuilder("SELECT ");
+		List<Object> args = new ArrayList<>();
+		for (ProductType productType : ProductType.values()) {
+			if (args.size() > 0)
+				sql.append(" + ");
+			sql.append("(SELECT COUNT(*) FROM ").append(RateBatchRepository.tableOf(productType))
+				.append(" WHERE family_id = ? AND allow_product = 0)");
+			args.add(familyId);
+		}
+		Long count = jdbcTemplate.queryForObject(sql.toString(), Long.class, args.toArray());
+		return count == null ? 0 : count;
+	}
+}
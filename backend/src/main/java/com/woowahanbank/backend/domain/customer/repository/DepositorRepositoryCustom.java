@@ -0,0 +1,15 @@
+package com.woowahanbank.backend.domain.customer.repository;
+
+import java.util.List;
+
+import com.woowahanbank.backend.domain.customer.dto.DepositorDto;
+
+public interface DepositorRepositoryCustom {
+	List<DepositorDto> findDisallowDtosByFamilyId(Long familyId);
+
+	List<DepositorDto> findDisallowDtosByProductId(Long productId);
+
+	List<DepositorDto> findDtosByUserId(Integer userId);
+
+	List<DepositorDto> findDtosByNickname(String nickname);
+}
@@ -0,0 +1,80 @@
+package com.woowahanbank.backend.domain.customer.repository;
+
+import static com.woowahanbank.backend.domain.customer.domain.QDepositor.*;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.woowahanbank.backend.domain.customer.dto.DepositorDto;
+import com.woowahanbank.backend.domain.financialproducts.domain.QFinancialProduct;
+import com.woowahanbank.backend.domain.user.domain.QUser;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예금 목록 조회용 프로젝션.
+ * 유저와 상품을 조인해 필요한 컬럼만 읽으므로 목록 하나가 쿼리 한 번으로 끝난다.
+ */
+@RequiredArgsConstructor
+public class DepositorRepositoryImpl implements DepositorRepositoryCustom {
+	private static final QUser USER = new QUser("depositorUser");
+	private static final QFinancialProduct PRODUCT = new QFinancialProduct("depositorProduct");
+
+	private final JPAQueryFactory queryFactory;
+
+	@Override
+	public List<DepositorDto> findDisallowDtosByFamilyId(Long familyId) {
+		return fetch(USER.family.id.eq(familyId).and(depositor.allowProduct.isFalse()), depositor.id.desc());
+	}
+
+	@Override
+	public List<DepositorDto> findDisallowDtosByProductId(Long productId) {
+		return fetch(PRODUCT.id.eq(productId).and(depositor.allowProduct.isFalse()), depositor.id.desc());
+	}
+
+	@Override
+	public List<DepositorDto> findDtosByUserId(Integer userId) {
+		return fetch(USER.id.eq(userId), depositor.id.asc());
+	}
+
+	@Override
+	public List<DepositorDto> findDtosByNickname(String nickname) {
+		return fetch(USER.nickname.eq(nickname), depositor.id.asc());
+	}
+
+	private List<DepositorDto> fetch(BooleanExpression condition, OrderSpecifier<Long> order) {
+		return queryFactory
+			.select(depositor.id, USER.id, USER.nickname, PRODUCT.id, PRODUCT.name, depositor.money,
+				depositor.cardNumber, depositor.date, depositor.expiry)
+			.from(depositor)
+			.join(depositor.user, USER)
+			.join(depositor.financialProduct, PRODUCT)
+			.where(condition)
+			.orderBy(order)
+			.fetch()
+			.stream()
+			.map(this::toDto)
+			.collect(Collectors.toList());
+	}
+
+	private DepositorDto toDto(Tuple tuple) {
+		LocalDateTime expiry = tuple.get(depositor.expiry);
+		return DepositorDto.builder()
+			.id(tuple.get(depositor.id))
+			.userId(tuple.get(USER.id))
+			.userNickname(tuple.get(USER.nickname))
+			.financialProductId(tuple.get(PRODUCT.id))
+			.productName(tuple.get(PRODUCT.name))
+			.money(tuple.get(depositor.money))
+			.cardNumber(tuple.get(depositor.cardNumber))
+			.date(tuple.get(depositor.date))
+			.expiry(expiry == null ? "" : expiry.format(DateTimeFormatter.ofPattern("YMMdd")))
+			.build();
+	}
+}
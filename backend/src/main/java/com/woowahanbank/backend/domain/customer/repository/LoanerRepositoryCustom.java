@@ -0,0 +1,15 @@
+package com.woowahanbank.backend.domain.customer.repository;
+
+import java.util.List;
+
+import com.woowahanbank.backend.domain.customer.dto.LoanerDto;
+
+public interface LoanerRepositoryCustom {
+	List<LoanerDto> findDisallowDtosByFamilyId(Long familyId);
+
+	List<LoanerDto> findDisallowDtosByProductId(Long productId);
+
+	List<LoanerDto> findDtosByUserId(Integer userId);
+
+	List<LoanerDto> findDtosByNickname(String nickname);
+}
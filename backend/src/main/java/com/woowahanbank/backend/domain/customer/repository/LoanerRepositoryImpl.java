@@ -0,0 +1,80 @@
+package com.woowahanbank.backend.domain.customer.repository;
+
+import static com.woowahanbank.backend.domain.customer.domain.QLoaner.*;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.woowahanbank.backend.domain.customer.dto.LoanerDto;
+import com.woowahanbank.backend.domain.financialproducts.domain.QFinancialProduct;
+import com.woowahanbank.backend.domain.user.domain.QUser;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대출 목록 조회용 프로젝션.
+ * 유저와 상품을 조인해 필요한 컬럼만 읽으므로 목록 하나가 쿼리 한 번으로 끝난다.
+ */
+@RequiredArgsConstructor
+public class LoanerRepositoryImpl implements LoanerRepositoryCustom {
+	private static final QUser USER = new QUser("loanerUser");
+	private static final QFinancialProduct PRODUCT = new QFinancialProduct("loanerProduct");
+
+	private final JPAQueryFactory queryFactory;
+
+	@Override
+	public List<LoanerDto> findDisallowDtosByFamilyId(Long familyId) {
+		return fetch(USER.family.id.eq(familyId).and(loaner.allowProduct.isFalse()), loaner.id.desc());
+	}
+
+	@Override
+	public List<LoanerDto> findDisallowDtosByProductId(Long productId) {
+		return fetch(PRODUCT.id.eq(productId).and(loaner.allowProduct.isFalse()), loaner.id.desc());
+	}
+
+	@Override
+	public List<LoanerDto> findDtosByUserId(Integer userId) {
+		return fetch(USER.id.eq(userId), loaner.id.asc());
+	}
+
+	@Override
+	public List<LoanerDto> findDtosByNickname(String nickname) {
+		return fetch(USER.nickname.eq(nickname), loaner.id.asc());
+	}
+
+	private List<LoanerDto> fetch(BooleanExpression condition, OrderSpecifier<Long> order) {
+		return queryFactory
+			.select(loaner.id, USER.id, USER.nickname, PRODUCT.id, PRODUCT.name, loaner.money,
+				loaner.cardNumber, loaner.date, loaner.expiry)
+			.from(loaner)
+			.join(loaner.user, USER)
+			.join(loaner.financialProduct, PRODUCT)
+			.where(condition)
+			.orderBy(order)
+			.fetch()
+			.stream()
+			.map(this::toDto)
+			.collect(Collectors.toList());
+	}
+
+	private LoanerDto toDto(Tuple tuple) {
+		LocalDateTime expiry = tuple.get(loaner.expiry);
+		return LoanerDto.builder()
+			.id(tuple.get(loaner.id))
+			.userId(tuple.get(USER.id))
+			.userNickname(tuple.get(USER.nickname))
+			.financialProductId(tuple.get(PRODUCT.id))
+			.productName(tuple.get(PRODUCT.name))
+			.money(tuple.get(loaner.money))
+			.cardNumber(tuple.get(loaner.cardNumber))
+			.date(tuple.get(loaner.date))
+			.expiry(expiry == null ? "" : expiry.format(DateTimeFormatter.ofPattern("YMMdd")))
+			.build();
+	}
+}
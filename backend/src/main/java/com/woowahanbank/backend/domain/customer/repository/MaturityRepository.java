@@ -0,0 +1,51 @@
+package com.woowahanbank.backend.domain.customer.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.woowahanbank.backend.domain.customer.dto.MaturityTarget;
+import com.woowahanbank.backend.domain.financialproducts.domain.ProductType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 만기 정산 전용 JDBC 저장소. expiry 인덱스를 (expiry, id) 키셋으로 훑어 만기된 계약만 읽고, 삭제는 배치로 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MaturityRepository {
+	private static final RowMapper<MaturityTarget> TARGET_MAPPER = (rs, rowNum) -> MaturityTarget.builder()
+		.id(rs.getLong("id"))
+		.userId(rs.getInt("user_id"))
+		.parentId(rs.getInt("parent_id"))
+		.money(rs.getInt("money"))
+		.rate(rs.getInt("rate"))
+		.expiry(rs.getTimestamp("expiry").toLocalDateTime())
+		.build();
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public List<MaturityTarget> findMatured(ProductType productType, LocalDateTime lastExpiry, long lastId,
+		LocalDateTime now, int size) {
+		String sql = "SELECT c.id, c.user_id, c.money, c.expiry, p.parent_id, p.rate"
+			+ " FROM " + RateBatchRepository.tableOf(productType) + " c"
+			+ " JOIN financial_product p ON p.id = c.financial_product_id"
+			+ " WHERE c.expiry <= ? AND (c.expiry > ? OR (c.expiry = ? AND c.id > ?))"
+			+ " AND c.allow_product = 1"
+			+ " ORDER BY c.expiry, c.id LIMIT ?";
+		Timestamp last = Timestamp.valueOf(lastExpiry);
+		return jdbcTemplate.query(sql, TARGET_MAPPER, Timestamp.valueOf(now), last, last, lastId, size);
+	}
+
+	public void deleteAll(ProductType productType, List<Long> ids) {
+		if (ids.isEmpty())
+			return;
+		String sql = "DELETE FROM " + RateBatchRepository.tableOf(productType) + " WHERE id = ?";
+		jdbcTemplate.batchUpdate(sql, ids, ids.size(), (ps, id) -> ps.setLong(1, id));
+	}
+}
@@ -0,0 +1,9 @@
+package com.woowahanbank.backend.domain.customer.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.woowahanbank.backend.domain.customer.domain.MaturityWatermark;
+import com.woowahanbank.backend.domain.financialproducts.domain.ProductType;
+
+public interface MaturityWatermarkRepository extends JpaRepository<MaturityWatermark, ProductType> {
+}
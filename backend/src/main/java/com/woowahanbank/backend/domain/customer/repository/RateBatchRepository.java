@@ -0,0 +1,134 @@
+package com.woowahanbank.backend.domain.customer.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.woowahanbank.backend.domain.customer.dto.RateTarget;
+import com.woowahanbank.backend.domain.financialproducts.domain.ProductType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이자 배치 전용 JDBC 저장소. 계약과 상품을 한 번에 조인해 id 순으로 잘라 읽고, 금액 변경은 배치 UPDATE로 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RateBatchRepository {
+	private static final RowMapper<RateTarget> TARGET_MAPPER = (rs, rowNum) -> RateTarget.builder()
+		.id(rs.getLong("id"))
+		.userId(rs.getInt("user_id"))
+		.parentId(rs.getInt("parent_id"))
+		.money(rs.getInt("money"))
+		.regularMoney(rs.getInt("regular_money"))
+		.rate(rs.getInt("rate"))
+		.build();
+	private static final RowMapper<RateTarget> ARREAR_MAPPER = (rs, rowNum) -> {
+		RateTarget target = TARGET_MAPPER.mapRow(rs, rowNum);
+		target.setArrearId(rs.getLong("arrear_id"));
+		return target;
+	};
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public List<RateTarget> findTargets(ProductType productType, int billingDay, long lastId, int size) {
+		return jdbcTemplate.query(targetsSql(productType), TARGET_MAPPER, billingDay, lastId, size);
+	}
+
+	// 실행 계획을 확인하는 벤치마크가 같은 쿼리를 쓰도록 따로 둔다.
+	static String targetsSql(ProductType productType) {
+		String regularMoney = productType == ProductType.SAVINGS ? "c.regular_money" : "0";
+		return "SELECT c.id, c.user_id, c.money, " + regularMoney + " AS regular_money, p.parent_id, p.rate"
+			+ " FROM " + tableOf(productType) + " c"
+			+ " JOIN financial_product p ON p.id = c.financial_product_id"
+			+ " WHERE c.billing_day = ? AND c.allow_product = 1 AND c.id > ?"
+			+ " ORDER BY c.id LIMIT ?";
+	}
+
+	/**
+	 * dueDate 이전 회차 중 아직 처리하지 못한 것을 밀린 회차 id 순으로 읽는다. 한 계약에 밀린 회차가 여럿이면 회차마다 한 행이다.
+	 */
+	public List<RateTarget> findArrears(ProductType productType, LocalDate dueDate, long lastArrearId, int size) {
+		String regularMoney = productType == ProductType.SAVINGS ? "c.regular_money" : "0";
+		String sql = "SELECT a.id AS arrear_id, c.id, c.user_id, c.money, " + regularMoney + " AS regular_money,"
+			+ " p.parent_id, p.rate"
+			+ " FROM rate_arrear a"
+			+ " JOIN " + tableOf(productType) + " c ON c.id = a.contract_id"
+			+ " JOIN financial_product p ON p.id = c.financial_product_id"
+			+ " WHERE a.product_type = ? AND a.due_date < ? AND a.id > ?"
+			+ " ORDER BY a.id LIMIT ?";
+		return jdbcTemplate.query(sql, ARREAR_MAPPER, productType.name(), Date.valueOf(dueDate), lastArrearId, size);
+	}
+
+	public void addArrears(ProductType productType, List<Long> contractIds, LocalDate dueDate) {
+		if (contractIds.isEmpty())
+			return;
+		String sql = "INSERT IGNORE INTO rate_arrear (product_type, contract_id, due_date) VALUES (?, ?, ?)";
+		jdbcTemplate.batchUpdate(sql, contractIds, contractIds.size(), (ps, contractId) -> {
+			ps.setString(1, productType.name());
+			ps.setLong(2, contractId);
+			ps.setDate(3, Date.valueOf(dueDate));
+		});
+	}
+
+	public void deleteArrears(List<Long> arrearIds) {
+		if (arrearIds.isEmpty())
+			return;
+		jdbcTemplate.batchUpdate("DELETE FROM rate_arrear WHERE id = ?", arrearIds, arrearIds.size(),
+			(ps, arrearId) -> ps.setLong(1, arrearId));
+	}
+
+	public void addContractMoney(ProductType productType, Map<Long, Integer> deltas) {
+		if (deltas.isEmpty())
+			return;
+		String sql = "UPDATE " + tableOf(productType) + " SET money = money + ? WHERE id = ?";
+		jdbcTemplate.batchUpdate(sql, new ArrayList<>(deltas.entrySet()), deltas.size(), (ps, delta) -> {
+			ps.setInt(1, delta.getValue());
+			ps.setLong(2, delta.getKey());
+		});
+	}
+
+	/**
+	 * 잔액이 음수가 되지 않는 유저만 반영하고, 반영하지 못한 유저 id를 돌려준다.
+	 * 유저 id 순서로 갱신해 다른 배치와 같은 순서로 행을 잠근다.
+	 */
+	public Set<Integer> addUserMoney(Map<Integer, Long> deltas) {
+		Set<Integer> rejected = new HashSet<>();
+		if (deltas.isEmpty())
+			return rejected;
+		List<Map.Entry<Integer, Long>> rows = new ArrayList<>(new TreeMap<>(deltas).entrySet());
+		String sql = "UPDATE `user` SET money = money + ? WHERE id = ? AND money + ? >= 0";
+		int[][] counts = jdbcTemplate.batchUpdate(sql, rows, rows.size(), (ps, delta) -> {
+			ps.setLong(1, delta.getValue());
+			ps.setInt(2, delta.getKey());
+			ps.setLong(3, delta.getValue());
+		});
+		for (int i = 0; i < rows.size(); i++) {
+			if (counts[0][i] == 0)
+				rejected.add(rows.get(i).getKey());
+		}
+		return rejected;
+	}
+
+	static String tableOf(ProductType productType) {
+		switch (productType) {
+			case DEPOSIT:
+				return "depositor";
+			case LOAN:
+				return "loaner";
+			case SAVINGS:
+				return "savingser";
+			default:
+				throw new IllegalArgumentException("지원하지 않는 상품입니다.");
+		}
+	}
+}
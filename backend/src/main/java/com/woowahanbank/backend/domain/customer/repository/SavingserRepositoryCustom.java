@@ -0,0 +1,15 @@
+package com.woowahanbank.backend.domain.customer.repository;
+
+import java.util.List;
+
+import com.woowahanbank.backend.domain.customer.dto.SavingserDto;
+
+public interface SavingserRepositoryCustom {
+	List<SavingserDto> findDisallowDtosByFamilyId(Long familyId);
+
+	List<SavingserDto> findDisallowDtosByProductId(Long productId);
+
+	List<SavingserDto> findDtosByUserId(Integer userId);
+
+	List<SavingserDto> findDtosByNickname(String nickname);
+}
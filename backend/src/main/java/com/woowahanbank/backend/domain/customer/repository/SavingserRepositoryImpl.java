@@ -0,0 +1,81 @@
+package com.woowahanbank.backend.domain.customer.repository;
+
+import static com.woowahanbank.backend.domain.customer.domain.QSavingser.*;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.woowahanbank.backend.domain.customer.dto.SavingserDto;
+import com.woowahanbank.backend.domain.financialproducts.domain.QFinancialProduct;
+import com.woowahanbank.backend.domain.user.domain.QUser;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 적금 목록 조회용 프로젝션.
+ * 유저와 상품을 조인해 필요한 컬럼만 읽으므로 목록 하나가 쿼리 한 번으로 끝난다.
+ */
+@RequiredArgsConstructor
+public class SavingserRepositoryImpl implements SavingserRepositoryCustom {
+	private static final QUser USER = new QUser("savingserUser");
+	private static final QFinancialProduct PRODUCT = new QFinancialProduct("savingserProduct");
+
+	private final JPAQueryFactory queryFactory;
+
+	@Override
+	public List<SavingserDto> findDisallowDtosByFamilyId(Long familyId) {
+		return fetch(USER.family.id.eq(familyId).and(savingser.allowProduct.isFalse()), savingser.id.desc());
+	}
+
+	@Override
+	public List<SavingserDto> findDisallowDtosByProductId(Long productId) {
+		return fetch(PRODUCT.id.eq(productId).and(savingser.allowProduct.isFalse()), savingser.id.desc());
+	}
+
+	@Override
+	public List<SavingserDto> findDtosByUserId(Integer userId) {
+		return fetch(USER.id.eq(userId), savingser.id.asc());
+	}
+
+	@Override
+	public List<SavingserDto> findDtosByNickname(String nickname) {
+		return fetch(USER.nickname.eq(nickname), savingser.id.asc());
+	}
+
+	private List<SavingserDto> fetch(BooleanExpression condition, OrderSpecifier<Long> order) {
+		return queryFactory
+			.select(savingser.id, USER.id, USER.nickname, PRODUCT.id, PRODUCT.name, savingser.money,
+				savingser.cardNumber, savingser.date, savingser.expiry, savingser.regularMoney)
+			.from(savingser)
+			.join(savingser.user, USER)
+			.join(savingser.financialProduct, PRODUCT)
+			.where(condition)
+			.orderBy(order)
+			.fetch()
+			.stream()
+			.map(this::toDto)
+			.collect(Collectors.toList());
+	}
+
+	private SavingserDto toDto(Tuple tuple) {
+		LocalDateTime expiry = tuple.get(savingser.expiry);
+		return SavingserDto.builder()
+			.id(tuple.get(savingser.id))
+			.userId(tuple.get(USER.id))
+			.userNickname(tuple.get(USER.nickname))
+			.financialProductId(tuple.get(PRODUCT.id))
+			.productName(tuple.get(PRODUCT.name))
+			.money(tuple.get(savingser.money))
+			.cardNumber(tuple.get(savingser.cardNumber))
+			.date(tuple.get(savingser.date))
+			.expiry(expiry == null ? "" : expiry.format(DateTimeFormatter.ofPattern("YMMdd")))
+			.regularMoney(tuple.get(savingser.regularMoney))
+			.build();
+	}
+}
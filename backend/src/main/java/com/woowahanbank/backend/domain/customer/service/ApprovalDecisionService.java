@@ -0,0 +1,285 @@
+package com.woowahanbank.backend.domain.customer.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.woowahanbank.backend.domain.banking.service.BalanceLedgerService;
+import com.woowahanbank.backend.domain.customer.domain.Depositor;
+import com.woowahanbank.backend.domain.customer.domain.Loaner;
+import com.woowahanbank.backend.domain.customer.domain.Savingser;
+import com.woowahanbank.backend.domain.customer.dto.ApprovalDecisionDto;
+import com.woowahanbank.backend.domain.customer.dto.ApprovalDecisionResultDto;
+import com.woowahanbank.backend.domain.customer.event.PendingApprovalChangedEvent;
+import com.woowahanbank.backend.domain.customer.repository.DepositorRepository;
+import com.woowahanbank.backend.domain.customer.repository.LoanerRepository;
+import com.woowahanbank.backend.domain.customer.repository.SavingserRepository;
+import com.woowahanbank.backend.domain.financialproducts.domain.FinancialProduct;
+import com.woowahanbank.backend.domain.financialproducts.domain.ProductType;
+import com.woowahanbank.backend.domain.point.dto.PointEntry;
+import com.woowahanbank.backend.domain.point.service.PointServiceImpl;
+import com.woowahanbank.backend.domain.user.domain.Role;
+import com.woowahanbank.backend.domain.user.domain.User;
+import com.woowahanbank.backend.domain.user.repository.UserRepository;
+import com.woowahanbank.backend.global.notification.dto.NotificationDto;
+import com.woowahanbank.backend.global.notification.event.NotificationEvent;
+import com.woowahanbank.backend.global.util.NotificationUtil;
+
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예금/대출/적금 신청 일괄 승인/거절.
+ * 신청, 유저 잔액은 종류별 IN 조회로 한 번에 읽고, 잔액 변경은 유저별로 모아 한 번에, 거래 내역은 배치 INSERT로 남긴다.
+ * 잔액이 모자라는 등 처리할 수 없는 신청은 건너뛰고 항목별 결과로 돌려준다.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ApprovalDecisionService {
+	private static final int ADMIN_ID = 1; // 가상의 예금/적금 유저
+	private static final int MAX_DECISIONS = 100;
+
+	private final DepositorRepository depositorRepository;
+	private final LoanerRepository loanerRepository;
+	private final SavingserRepository savingserRepository;
+	private final UserRepository userRepository;
+	private final CardNumberAllocator cardNumberAllocator;
+	private final BalanceLedgerService balanceLedgerService;
+	private final PointServiceImpl pointService;
+	private final ApplicationEventPublisher eventPublisher;
+
+	public List<ApprovalDecisionResultDto> decide(User parent, List<ApprovalDecisionDto> decisions) {
+		if (parent.getRoles() == Role.ROLE_CHILD)
+			throw new IllegalArgumentException("자녀는 허락 할 수 없습니다.");
+		if (parent.getFamily() == null)
+			throw new IllegalArgumentException("가족이 없습니다.");
+		if (decisions.size() > MAX_DECISIONS)
+			throw new IllegalArgumentException("한 번에 " + MAX_DECISIONS + "건까지 처리할 수 있습니다.");
+
+		Map<String, Application> applications = load(decisions);
+		Map<Integer, Long> balances = loadBalances(parent, applications.values());
+		Map<Integer, Long> deltas = new HashMap<>();
+		List<PointEntry> entries = new ArrayList<>();
+		Map<ProductType, List<Long>> refused = new EnumMap<>(ProductType.class);
+		List<NotificationEvent> notifications = new ArrayList<>();
+		List<ApprovalDecisionResultDto> results = new ArrayList<>();
+		Set<String> seen = new HashSet<>();
+
+		for (ApprovalDecisionDto decision : decisions) {
+			String key = keyOf(decision.getProductType(), decision.getId());
+			Application application = applications.get(key);
+			String failure = null;
+			if (!seen.add(key))
+				failure = "중복된 요청입니다.";
+			else if (application == null)
+				failure = "존재하지 않는 신청입니다.";
+			else if (!parent.getFamily().getId().equals(application.product.getFamily().getId()))
+				failure = "해당 가족이 아닙니다.";
+			else if (application.allowed)
+				failure = "이미 허가된 상품입니다.";
+			else if (decision.isApprove() && !reserve(application, parent, balances, deltas))
+				failure = "잔액이 부족합니다.";
+
+			if (failure == null) {
+				if (decision.isApprove()) {
+					approve(application, parent, entries);
+				} else {
+					refused.computeIfAbsent(application.productType, type -> new ArrayList<>()).add(decision.getId());
+				}
+				notifications.add(notification(application, parent, decision.isApprove()));
+			}
+			results.add(ApprovalDecisionResultDto.builder()
+				.productType(decision.getProductType())
+				.id(decision.getId())
+				.approve(decision.isApprove())
+				.success(failure == null)
+				.message(failure)
+				.build());
+		}
+
+		// 잔액 반영이 영속성 컨텍스트를 비우므로 승인한 계약의 변경은 그 전에 끝나 있어야 한다.
+		balanceLedgerService.applyAll(deltas);
+		pointService.makePoints(entries);
+		deleteRefused(refused);
+		notifications.forEach(eventPublisher::publishEvent);
+		if (!notifications.isEmpty())
+			eventPublisher.publishEvent(new PendingApprovalChangedEvent(this, parent.getFamily().getId()));
+		return results;
+	}
+
+	private Map<String, Application> load(List<ApprovalDecisionDto> decisions) {
+		Map<ProductType, Set<Long>> ids = new EnumMap<>(ProductType.class);
+		for (ApprovalDecisionDto decision : decisions) {
+			if (decision.getProductType() == null || decision.getId() == null)
+				throw new IllegalArgumentException("상품 종류와 신청 id가 필요합니다.");
+			ids.computeIfAbsent(decision.getProductType(), type -> new HashSet<>()).add(decision.getId());
+		}
+		List<Application> applications = new ArrayList<>();
+		if (ids.containsKey(ProductType.DEPOSIT))
+			depositorRepository.findAllWithUserAndProductByIdIn(ids.get(ProductType.DEPOSIT))
+				.forEach(depositor -> applications.add(Application.of(depositor)));
+		if (ids.containsKey(ProductType.LOAN))
+			loanerRepository.findAllWithUserAndProductByIdIn(ids.get(ProductType.LOAN))
+				.forEach(loaner -> applications.add(Application.of(loaner)));
+		if (ids.containsKey(ProductType.SAVINGS))
+			savingserRepository.findAllWithUserAndProductByIdIn(ids.get(ProductType.SAVINGS))
+				.forEach(savingser -> applications.add(Application.of(savingser)));
+		return applications.stream()
+			.collect(Collectors.toMap(application -> keyOf(application.productType, application.id),
+				application -> application));
+	}
+
+	// 인증 정보의 잔액은 캐시된 값일 수 있으므로 관련 유저의 잔액을 새로 읽는다.
+	private Map<Integer, Long> loadBalances(User parent, Iterable<Application> applications) {
+		Set<Integer> userIds = new HashSet<>();
+		userIds.add(parent.getId());
+		applications.forEach(application -> userIds.add(application.child.getId()));
+		return userRepository.findAllById(userIds).stream()
+			.collect(Collectors.toMap(User::getId, User::getMoney));
+	}
+
+	// 앞선 항목까지 반영한 잔액으로 이 신청의 출금이 가능한지 보고, 가능하면 잔액 변경을 예약한다.
+	private boolean reserve(Application application, User parent, Map<Integer, Long> balances,
+		Map<Integer, Long> deltas) {
+		Map<Integer, Long> legs = new HashMap<>();
+		switch (application.productType) {
+			case LOAN:
+				legs.merge(parent.getId(), (long)-application.money, Long::sum);
+				legs.merge(application.child.getId(), (long)application.money, Long::sum);
+				break;
+			case DEPOSIT:
+			case SAVINGS:
+				legs.merge(application.child.getId(), (long)-application.money, Long::sum);
+				break;
+		}
+		for (Map.Entry<Integer, Long> leg : legs.entrySet()) {
+			if (balances.getOrDefault(leg.getKey(), 0L) + leg.getValue() < 0)
+				return false;
+		}
+		legs.forEach((userId, delta) -> {
+			balances.merge(userId, delta, Long::sum);
+			deltas.merge(userId, delta, Long::sum);
+		});
+		return true;
+	}
+
+	private void approve(Application application, User parent, List<PointEntry> entries) {
+		FinancialProduct product = application.product;
+		String cardNumber = cardNumberAllocator.allocate(application.productType, product.getFamily().getId(),
+			product.getId(), parent.getId());
+		switch (application.productType) {
+			case DEPOSIT: {
+				Depositor depositor = (Depositor)application.contract;
+				depositor.allow();
+				depositor.changeDate(product.getPeriod());
+				depositor.makeCardNumber(cardNumber);
+				entries.add(entry(application.child.getId(), ADMIN_ID, "예금 상품 가입", application.money));
+				break;
+			}
+			case LOAN: {
+				Loaner loaner = (Loaner)application.contract;
+				loaner.allow();
+				loaner.changeDate(product.getPeriod());
+				loaner.makeCardNumber(cardNumber);
+				entries.add(entry(parent.getId(), application.child.getId(), "대출 금", application.money));
+				break;
+			}
+			case SAVINGS: {
+				Savingser savingser = (Savingser)application.contract;
+				savingser.allow();
+				savingser.changeDate(product.getPeriod());
+				savingser.makeCardNumber(cardNumber);
+				savingser.depositMoney(application.money);
+				entries.add(entry(application.child.getId(), ADMIN_ID, "정기 적금", application.money));
+				break;
+			}
+		}
+	}
+
+	private void deleteRefused(Map<ProductType, List<Long>> refused) {
+		refused.forEach((productType, ids) -> {
+			switch (productType) {
+				case DEPOSIT:
+					depositorRepository.deleteAllByIdInBatch(ids);
+					break;
+				case LOAN:
+					loanerRepository.deleteAllByIdInBatch(ids);
+					break;
+				case SAVINGS:
+					savingserRepository.deleteAllByIdInBatch(ids);
+					break;
+			}
+		});
+	}
+
+	private NotificationEvent notification(Application application, User parent, boolean approve) {
+		String label = labelOf(application.productType);
+		return new NotificationEvent(
+			this, application.child.getNickname(),
+			NotificationUtil.clickUrl(approve ? "/account" : "/financeDetail/" + application.id),
+			NotificationDto.builder()
+				.title(label + " 상품 " + (approve ? "승인" : "거절"))
+				.body(parent.getNickname() + "님이 " + label + " 상품 [" + application.product.getName()
+					+ "] 을 " + (approve ? "승인" : "거절") + "했습니다.")
+				.build()
+		);
+	}
+
+	private PointEntry entry(Integer senderId, Integer receiverId, String memo, int money) {
+		return PointEntry.builder().senderId(senderId).receiverId(receiverId).memo(memo).amount(money).build();
+	}
+
+	private static String keyOf(ProductType productType, Long id) {
+		return productType + ":" + id;
+	}
+
+	private static String labelOf(ProductType productType) {
+		switch (productType) {
+			case DEPOSIT:
+				return "예금";
+			case LOAN:
+				return "대출";
+			case SAVINGS:
+				return "적금";
+			default:
+				throw new IllegalArgumentException("지원하지 않는 상품입니다.");
+		}
+	}
+
+	// 세 종류 계약을 같은 방식으로 다루기 위한 묶음. 금액은 승인 시 움직이는 금액이다.
+	@AllArgsConstructor
+	private static class Application {
+		private final ProductType productType;
+		private final Long id;
+		private final Object contract;
+		private final User child;
+		private final FinancialProduct product;
+		private final int money;
+		private final boolean allowed;
+
+		static Application of(Depositor depositor) {
+			return new Application(ProductType.DEPOSIT, depositor.getId(), depositor, depositor.getUser(),
+				depositor.getFinancialProduct(), depositor.getMoney(), depositor.isAllowProduct());
+		}
+
+		static Application of(Loaner loaner) {
+			return new Application(ProductType.LOAN, loaner.getId(), loaner, loaner.getUser(),
+				loaner.getFinancialProduct(), loaner.getMoney(), loaner.isAllowProduct());
+		}
+
+		static Application of(Savingser savingser) {
+			return new Application(ProductType.SAVINGS, savingser.getId(), savingser, savingser.getUser(),
+				savingser.getFinancialProduct(), savingser.getRegularMoney(), savingser.isAllowProduct());
+		}
+	}
+}
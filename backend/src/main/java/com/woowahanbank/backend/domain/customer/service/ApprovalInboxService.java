@@ -0,0 +1,114 @@
+package com.woowahanbank.backend.domain.customer.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.woowahanbank.backend.domain.customer.dto.ApprovalInboxDto;
+import com.woowahanbank.backend.domain.customer.dto.ApprovalItemDto;
+import com.woowahanbank.backend.domain.customer.event.PendingApprovalChangedEvent;
+import com.woowahanbank.backend.domain.customer.repository.ApprovalInboxRepository;
+import com.woowahanbank.backend.domain.financialproducts.domain.ProductType;
+import com.woowahanbank.backend.domain.user.domain.Role;
+import com.woowahanbank.backend.domain.user.domain.User;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 부모의 승인 대기함. 예금/대출/적금 신청을 한 목록으로 커서 페이지네이션하고, 대기 건수 배지는 Redis에 보관한다.
+ * 배지는 신청, 승인, 거절이 커밋된 뒤 지우고 다음 조회에서 다시 센다.
+ */
+@Service
+@Slf4j
+public class ApprovalInboxService {
+	private static final String KEY_PREFIX = "approval:pending:";
+	private static final int MAX_PAGE_SIZE = 100;
+	private static final ZoneId ZONE = ZoneId.systemDefault();
+
+	private final ApprovalInboxRepository approvalInboxRepository;
+	private final RedisTemplate<String, String> template;
+	private final Duration ttl;
+
+	public ApprovalInboxService(ApprovalInboxRepository approvalInboxRepository,
+		RedisTemplate<String, String> template,
+		@Value("${customer.approval-count.ttl-seconds:600}") long ttlSeconds) {
+		this.approvalInboxRepository = approvalInboxRepository;
+		this.template = template;
+		this.ttl = Duration.ofSeconds(ttlSeconds);
+	}
+
+	public ApprovalInboxDto getInbox(User parent, String cursor, int size) {
+		Long familyId = familyIdOf(parent);
+		int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		LocalDateTime cursorDate = null;
+		ProductType cursorType = null;
+		long cursorId = 0;
+		if (cursor != null && !cursor.isEmpty()) {
+			String[] parts = cursor.split("_");
+			if (parts.length != 3)
+				throw new IllegalArgumentException("잘못된 커서입니다.");
+			try {
+				cursorDate = LocalDateTime.ofInstant(Instant.EPOCH.plus(Long.parseLong(parts[0]), ChronoUnit.MICROS),
+					ZONE);
+				cursorType = ProductType.valueOf(parts[1]);
+				cursorId = Long.parseLong(parts[2]);
+			} catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException("잘못된 커서입니다.");
+			}
+		}
+		List<ApprovalItemDto> items = approvalInboxRepository.findPending(familyId, cursorDate, cursorType, cursorId,
+			pageSize);
+		return ApprovalInboxDto.builder()
+			.items(items)
+			.nextCursor(items.size() < pageSize ? null : cursorOf(items.get(items.size() - 1)))
+			.pendingCount(getPendingCount(parent))
+			.build();
+	}
+
+	public long getPendingCount(User parent) {
+		Long familyId = familyIdOf(parent);
+		String key = KEY_PREFIX + familyId;
+		try {
+			String cached = template.opsForValue().get(key);
+			if (cached != null)
+				return Long.parseLong(cached);
+		} catch (Exception e) {
+			log.warn("승인 대기 건수 캐시 조회 실패: {}", e.getMessage());
+		}
+		long count = approvalInboxRepository.countPending(familyId);
+		try {
+			template.opsForValue().set(key, String.valueOf(count), ttl);
+		} catch (Exception e) {
+			log.warn("승인 대기 건수 캐시 저장 실패: {}", e.getMessage());
+		}
+		return count;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void evict(PendingApprovalChangedEvent event) {
+		if (event.getFamilyId() != null)
+			template.delete(KEY_PREFIX + event.getFamilyId());
+	}
+
+	private Long familyIdOf(User parent) {
+		if (parent.getRoles() != Role.ROLE_PARENT)
+			throw new IllegalArgumentException("부모만 승인 대기함을 볼 수 있습니다.");
+		if (parent.getFamily() == null)
+			throw new IllegalArgumentException("가족이 없습니다.");
+		return parent.getFamily().getId();
+	}
+
+	// 신청 시각은 datetime(6) 이므로 밀리초로 자르면 같은 밀리초 안의 다음 행을 건너뛴다. 마이크로초까지 넣는다.
+	private String cursorOf(ApprovalItemDto item) {
+		return ChronoUnit.MICROS.between(Instant.EPOCH, item.getDate().atZone(ZONE).toInstant()) + "_"
+			+ item.getProductType().name() + "_" + item.getId();
+	}
+}
@@ -0,0 +1,170 @@
+package com.woowahanbank.backend.domain.customer.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.woowahanbank.backend.domain.financialproducts.domain.ProductType;
+
+/**
+ * 예금/대출/적금 카드 번호 발급기.
+ * DB 카운터를 블록 단위로 예약해 쓰고, 카운터 값을 9자리 안에서 Feistel 순열로 섞어 본문을 만든다.
+ * 순열은 일대일이므로 이 발급기가 만든 번호끼리는 겹치지 않는다. 예전에 무작위로 발급된 번호는 마지막 자리가
+ * 예전 검증 숫자 공식을 따르므로, 그 공식과 Luhn 숫자가 같아지는 카운터는 건너뛰어 조회 없이도 겹치지 않게 한다.
+ * 번호는 [가족 id 자리수][가족 id 첫 자리][가족 id 끝 자리][상품 id 끝 자리][부모 id 끝 자리][상품 종류] + 본문 9자리 + Luhn 검증 숫자 형식이다.
+ */
+@Service
+public class CardNumberAllocator {
+	private static final int SEQUENCE_ID = 1;
+	private static final long BODY_SPACE = 1_000_000_000L;
+	private static final int HALF_BITS = 15;
+	private static final int HALF_MASK = (1 << HALF_BITS) - 1;
+	private static final int ROUNDS = 4;
+	private static final int[] ROUND_KEYS = {0x5bd1, 0x2c6f, 0x7a93, 0x1e4d};
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate reserveTransaction;
+	private final int blockSize;
+	private long next;
+	private long end;
+
+	public CardNumberAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+		@Value("${card.number.block-size:100}") int blockSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.reserveTransaction = new TransactionTemplate(transactionManager);
+		this.reserveTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.blockSize = blockSize;
+	}
+
+	public String allocate(ProductType productType, Long familyId, Long productId, Integer parentId) {
+		String prefix = prefix(productType, familyId, productId, parentId);
+		while (true) {
+			String cardNumber = cardNumber(prefix, nextCounter());
+			if (cardNumber != null)
+				return cardNumber;
+		}
+	}
+
+	// 예전 발급 코드로도 나올 수 있는 번호면 null을 돌려준다. 카운터 일곱 개 중 하나꼴로 건너뛴다.
+	static String cardNumber(String prefix, long counter) {
+		String payload = prefix + String.format("%09d", permute(counter));
+		int digit = luhnDigit(payload);
+		if (digit == legacyCheckDigit(payload))
+			return null;
+		return payload + digit;
+	}
+
+	// 블록 예약은 DB를 거치므로 잠금 밖에서 한다. 동시에 예약한 블록 중 먼저 들어온 것만 쓰고 나머지는 버린다.
+	private long nextCounter() {
+		while (true) {
+			synchronized (this) {
+				if (next < end) {
+					if (next >= BODY_SPACE)
+						throw new IllegalArgumentException("발급 가능한 카드 번호를 모두 사용했습니다.");
+					return next++;
+				}
+			}
+			long reservedEnd = reserveBlock();
+			synchronized (this) {
+				if (next >= end) {
+					end = reservedEnd;
+					next = reservedEnd - blockSize;
+				}
+			}
+		}
+	}
+
+	// 다른 서버와 겹치지 않도록 행을 잠근 채 블록 끝을 당겨 놓고, 새 블록의 끝 값을 돌려준다.
+	private long reserveBlock() {
+		return reserveTransaction.execute(status -> {
+			jdbcTemplate.update("INSERT IGNORE INTO card_number_sequence (id, next_value) VALUES (?, 0)", SEQUENCE_ID);
+			Long start = jdbcTemplate.queryForObject(
+				"SELECT next_value FROM card_number_sequence WHERE id = ? FOR UPDATE", Long.class, SEQUENCE_ID);
+			jdbcTemplate.update("UPDATE card_number_sequence SET next_value = ? WHERE id = ?", start + blockSize,
+				SEQUENCE_ID);
+			return start + blockSize;
+		});
+	}
+
+	// 30비트 Feistel 순열을 10^9 범위를 벗어나면 다시 돌리는 방식(cycle walking)으로 9자리 안에 가둔다.
+	static long permute(long counter) {
+		long value = counter;
+		do {
+			value = feistel(value);
+		} while (value >= BODY_SPACE);
+		return value;
+	}
+
+	private static long feistel(long value) {
+		int left = (int)(value >>> HALF_BITS) & HALF_MASK;
+		int right = (int)value & HALF_MASK;
+		for (int round = 0; round < ROUNDS; round++) {
+			int mixed = left ^ round(right, ROUND_KEYS[round]);
+			left = right;
+			right = mixed;
+		}
+		return ((long)left << HALF_BITS) | right;
+	}
+
+	private static int round(int half, int key) {
+		int x = (half * 0x9e37 + key) & 0xffff;
+		x ^= x >>> 7;
+		x = (x * 0x2c1b) & 0xffff;
+		return (x ^ (x >>> 9)) & HALF_MASK;
+	}
+
+	static int luhnDigit(String payload) {
+		int sum = 0;
+		boolean doubled = true;
+		for (int i = payload.length() - 1; i >= 0; i--) {
+			int digit = payload.charAt(i) - '0';
+			if (doubled) {
+				digit *= 2;
+				if (digit > 9)
+					digit -= 9;
+			}
+			sum += digit;
+			doubled = !doubled;
+		}
+		return (10 - sum % 10) % 10;
+	}
+
+	// 예전 makeCardNumber의 검증 숫자. 접두어 세 번째 자리는 빠지고, 두 배 한 값에서 9를 빼지 않으며, 10이면 17자리가 된다.
+	static int legacyCheckDigit(String payload) {
+		int[] prefixWeights = {1, 2, 0, 1, 2, 1};
+		int sum = 0;
+		for (int i = 0; i < prefixWeights.length; i++)
+			sum += (payload.charAt(i) - '0') * prefixWeights[i];
+		for (int i = prefixWeights.length; i < payload.length(); i++)
+			sum += (payload.charAt(i) - '0') * ((i - prefixWeights.length) % 2 == 0 ? 2 : 1);
+		return 10 - sum % 10;
+	}
+
+	private static String prefix(ProductType productType, Long familyId, Long productId, Integer parentId) {
+		String family = String.valueOf(familyId);
+		return new StringBuilder()
+			.append(family.length())
+			.append(family.charAt(0))
+			.append(family.charAt(family.length() - 1))
+			.append(productId % 10)
+			.append(parentId % 10)
+			.append(typeDigit(productType))
+			.toString();
+	}
+
+	private static int typeDigit(ProductType productType) {
+		switch (productType) {
+			case DEPOSIT:
+				return 1;
+			case SAVINGS:
+				return 2;
+			case LOAN:
+				return 3;
+			default:
+				throw new IllegalArgumentException("지원하지 않는 상품입니다.");
+		}
+	}
+}
@@ -1,22 +1,21 @@
 package com.woowahanbank.backend.domain.customer.service;
 
 import java.text.DecimalFormat;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
-import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
 
 import javax.transaction.Transactional;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import com.woowahanbank.backend.domain.banking.service.BalanceLedgerService;
 import com.woowahanbank.backend.domain.customer.domain.Depositor;
 import com.woowahanbank.backend.domain.customer.dto.DepositorDto;
+import com.woowahanbank.backend.domain.customer.event.PendingApprovalChangedEvent;
 import com.woowahanbank.backend.domain.customer.repository.DepositorRepository;
 import com.woowahanbank.backend.domain.financialproducts.domain.FinancialProduct;
+import com.woowahanbank.backend.domain.financialproducts.domain.ProductType;
 import com.woowahanbank.backend.domain.financialproducts.repository.FinancialProductRepository;
 import com.woowahanbank.backend.domain.point.service.PointServiceImpl;
 import com.woowahanbank.backend.domain.user.domain.User;
@@ -37,6 +36,10 @@ public class DepositorServiceImpl implements CustomerService<DepositorDto> {
 	private final UserRepository userRepository;
 	private final PointServiceImpl pointService;
 	private final ApplicationEventPublisher eventPublisher;
+	private final RateBatchService rateBatchService;
+	private final MaturityService maturityService;
+	private final CardNumberAllocator cardNumberAllocator;
+	private final BalanceLedgerService balanceLedgerService;
 	DecimalFormat formatter = new DecimalFormat("###,###");
 
 	@Override
@@ -49,9 +52,11 @@ public class DepositorServiceImpl implements CustomerService<DepositorDto> {
 			.user(user)
 			.financialProduct(financialProduct)
 			.allowProduct(false)
+			.familyId(financialProduct.getFamily().getId())
 			.money(depositorDto.getMoney())
 			.build();
 		depositorRepository.save(depositor);
+		eventPublisher.publishEvent(new PendingApprovalChangedEvent(this, financialProduct.getFamily().getId()));
 		eventPublisher.publishEvent(new NotificationEvent(
 			this, parent.getNickname(),
 			NotificationUtil.clickUrl("/financeDetail/" + financialProduct.getId()),
@@ -65,13 +70,7 @@ public class DepositorServiceImpl implements CustomerService<DepositorDto> {
 
 	@Override
 	public List<DepositorDto> getDisallow(CustomUserDetails customUser) {
-		List<Depositor> list = depositorRepository.findAllByUser_FamilyIdAndAllowProductIsFalseOrderByIdDesc(
-			customUser.getUser().getFamily().getId());
-		List<DepositorDto> res = new ArrayList<>();
-		for (int i = 0; i < list.size(); i++) {
-			res.add(changeToDto(list.get(i)));
-		}
-		return res;
+		return depositorRepository.findDisallowDtosByFamilyId(customUser.getUser().getFamily().getId());
 	}
 
 	@Override
@@ -84,13 +83,14 @@ public class DepositorServiceImpl implements CustomerService<DepositorDto> {
 		depositor.allow();
 		User admin = userRepository.findById(1).get(); // 가상의 예금 유저
 		depositor.changeDate(financialProduct.getPeriod());
-		String cardNum = makeCardNumber(financialProduct.getFamily().getId(), financialProduct.getId(), parent.getId());
+		String cardNum = cardNumberAllocator.allocate(ProductType.DEPOSIT, financialProduct.getFamily().getId(),
+			financialProduct.getId(), parent.getId());
 		depositor.makeCardNumber(cardNum);
 		User child = userRepository.findById(depositor.getUser().getId()).get();
 		int dMoney = depositor.getMoney();
-		child.moneyTransfer(-dMoney);
-		userRepository.save(child);
+		balanceLedgerService.apply(child.getId(), -dMoney);
 		depositorRepository.save(depositor);
+		eventPublisher.publishEvent(new PendingApprovalChangedEvent(this, financialProduct.getFamily().getId()));
 		pointService.makePoint(child, admin, "예금 상품 가입", dMoney);
 		eventPublisher.publishEvent(new NotificationEvent(
 			this, child.getNickname(),
@@ -121,113 +121,34 @@ public class DepositorServiceImpl implements CustomerService<DepositorDto> {
 				.build()
 		));
 		depositorRepository.deleteById(id);
+		eventPublisher.publishEvent(new PendingApprovalChangedEvent(this, financialProduct.getFamily().getId()));
 	}
 
 	@Override
 	public List<DepositorDto> getDisallowProducts(Long productId) {
-		List<Depositor> list = depositorRepository.findAllByFinancialProduct_IdAndAllowProductIsFalseOrderByIdDesc(
-			productId);
-		List<DepositorDto> res = new ArrayList<>();
-		for (int i = 0; i < list.size(); i++) {
-			res.add(changeToDto(list.get(i)));
-		}
-		return res;
+		return depositorRepository.findDisallowDtosByProductId(productId);
 	}
 
 	@Override
 	public void calculateRates() {
-		int today = LocalDateTime.now().getDayOfMonth();
-		List<Depositor> list = depositorRepository.findByDate_Date(today);
-		User admin = userRepository.findById(1).get(); // 가상의 예금 유저
-		for (int i = 0; i < list.size(); i++) {
-			Depositor depositor = list.get(i);
-			FinancialProduct financialProduct = financialProductRepository.findById(
-				depositor.getFinancialProduct().getId()).get();
-			User parent = userRepository.findById(financialProduct.getParent().getId()).get();
-			int money = depositor.getMoney() * financialProduct.getRate() / 100;
-			depositor.depositMoney(money);
-			parent.moneyTransfer(-money);
-			userRepository.save(parent);
-			depositorRepository.save(depositor);
-			pointService.makePoint(parent, admin, "예금 이자", money);
-		}
+		rateBatchService.calculateRates(ProductType.DEPOSIT);
 	}
 
 	@Override
 	public void removeProduct() {
-		List<Depositor> list = depositorRepository.findByExpiryAfter(LocalDateTime.now());
-		User admin = userRepository.findById(1).get(); // 가상의 예금 유저
-		for (int i = 0; i < list.size(); i++) {
-			Depositor depo = list.get(i);
-			int money = depo.getMoney();
-			User child = userRepository.findById(depo.getUser().getId()).get();
-			child.moneyTransfer(money);
-			userRepository.save(child);
-			pointService.makePoint(admin, child, "예금 만기", money);
-			depositorRepository.delete(depo);
-		}
+		maturityService.settle(ProductType.DEPOSIT);
 	}
 
 	@Override
 	public List<DepositorDto> getProductsByNickname(String nickname) {
-		User user = userRepository.findByNickname(nickname).get();
-		List<Depositor> list = depositorRepository.findByUser(user);
-		List<DepositorDto> res = new ArrayList<>();
-		for (int i = 0; i < list.size(); i++) {
-			res.add(changeToDto(list.get(i)));
-		}
-		return res;
-	}
-
-	private String makeCardNumber(Long familyId, Long productId, Integer parentId) {
-		Random random = new Random();
-		StringBuilder sb;
-		while (true) {
-			int num = 0;
-			int last = (int)(familyId % 10);
-			while (familyId >= 10) {
-				familyId /= 10;
-				num++;
-			}
-			sb = new StringBuilder();
-			sb.append(num + 1).append(familyId).append(last).append(productId % 10).append(parentId % 10).append(1);
-			int sum = num + 1 + (int)(familyId % 10) * 2 + (int)(productId % 10) + (parentId % 10) * 2 + 1;
-			for (int i = 0; i < 9; i++) {
-				int randNum = random.nextInt(10);
-				sb.append(randNum);
-				if (i % 2 == 0)
-					sum += randNum * 2;
-				else
-					sum += randNum;
-			}
-			sb.append(10 - (sum % 10));
-			Depositor depo = depositorRepository.findByCardNumber(sb.toString());
-			if (depo == null)
-				break;
-		}
-		return sb.toString();
+		List<DepositorDto> products = depositorRepository.findDtosByNickname(nickname);
+		// 예전처럼 없는 닉네임이면 예외를 던진다. 목록이 비었을 때만 확인하므로 보통은 쿼리 한 번으로 끝난다.
+		if (products.isEmpty() && !userRepository.existsByNickname(nickname))
+			throw new NoSuchElementException("존재하지 않는 닉네임입니다.");
+		return products;
 	}
 
 	public List<DepositorDto> getDepositorList(User user) {
-		return depositorRepository.findByUser(user).stream().map(this::changeToDto)
-			.collect(Collectors.toList());
+		return depositorRepository.findDtosByUserId(user.getId());
 	}
-
-	private DepositorDto changeToDto(Depositor depositor) {
-		FinancialProduct financialProduct = financialProductRepository.findById(
-			depositor.getFinancialProduct().getId()).get();
-		return DepositorDto.builder()
-			.id(depositor.getId())
-			.userId(depositor.getUser().getId())
-			.userNickname((depositor.getUser().getNickname()))
-			.money(depositor.getMoney())
-			.cardNumber(depositor.getCardNumber())
-			.date(depositor.getDate())
-			.expiry(depositor.getExpiry() == null ? "" :
-				depositor.getExpiry().format(DateTimeFormatter.ofPattern("YMMdd")).toString())
-			.financialProductId(financialProduct.getId())
-			.productName(financialProduct.getName())
-			.build();
-	}
-
 }
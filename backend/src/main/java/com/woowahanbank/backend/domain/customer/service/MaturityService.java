@@ -0,0 +1,153 @@
+package com.woowahanbank.backend.domain.customer.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.woowahanbank.backend.domain.banking.service.BalanceLedgerService;
+import com.woowahanbank.backend.domain.customer.domain.MaturityWatermark;
+import com.woowahanbank.backend.domain.customer.dto.MaturityReport;
+import com.woowahanbank.backend.domain.customer.dto.MaturityTarget;
+import com.woowahanbank.backend.domain.customer.repository.MaturityRepository;
+import com.woowahanbank.backend.domain.customer.repository.MaturityWatermarkRepository;
+import com.woowahanbank.backend.domain.customer.repository.RateBatchRepository;
+import com.woowahanbank.backend.domain.financialproducts.domain.ProductType;
+import com.woowahanbank.backend.domain.point.dto.PointEntry;
+import com.woowahanbank.backend.domain.point.service.PointServiceImpl;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 예금/대출/적금 만기 정산.
+ * 지난 실행의 워터마크 이후 만기된 계약만 페이지 단위로 읽어 환급, 포인트 기록, 삭제를 배치로 처리한다.
+ * 잔액이 모자라 상환하지 못한 대출이 있으면 워터마크를 그 앞에 멈춰 다음 실행에서 다시 시도한다.
+ */
+@Service
+@Slf4j
+public class MaturityService {
+	private static final int DEPOSIT_ADMIN_ID = 1; // 가상의 예금 유저
+	private static final int SAVINGS_ADMIN_ID = 2; // 가상의 적금 유저
+	private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+	private final MaturityRepository maturityRepository;
+	private final MaturityWatermarkRepository maturityWatermarkRepository;
+	private final RateBatchRepository rateBatchRepository;
+	private final BalanceLedgerService balanceLedgerService;
+	private final PointServiceImpl pointService;
+	private final TransactionTemplate pageTransaction;
+	private final int pageSize;
+
+	public MaturityService(MaturityRepository maturityRepository,
+		MaturityWatermarkRepository maturityWatermarkRepository, RateBatchRepository rateBatchRepository,
+		BalanceLedgerService balanceLedgerService, PointServiceImpl pointService,
+		PlatformTransactionManager transactionManager, @Value("${batch.maturity.page-size:500}") int pageSize) {
+		this.maturityRepository = maturityRepository;
+		this.maturityWatermarkRepository = maturityWatermarkRepository;
+		this.rateBatchRepository = rateBatchRepository;
+		this.balanceLedgerService = balanceLedgerService;
+		this.pointService = pointService;
+		this.pageTransaction = new TransactionTemplate(transactionManager);
+		this.pageTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.pageSize = pageSize;
+	}
+
+	public MaturityReport settle(ProductType productType) {
+		LocalDateTime now = LocalDateTime.now();
+		Cursor cursor = pageTransaction.execute(status -> {
+			MaturityWatermark watermark = maturityWatermarkRepository.findById(productType)
+				.orElseGet(() -> maturityWatermarkRepository.save(
+					MaturityWatermark.builder().productType(productType).lastExpiry(BEGINNING).lastId(0L).build()));
+			return new Cursor(watermark.getLastExpiry(), watermark.getLastId());
+		});
+		boolean more = true;
+		while (more)
+			more = pageTransaction.execute(status -> processPage(productType, now, cursor));
+
+		MaturityReport report = new MaturityReport(productType, cursor.scanned, cursor.settled);
+		log.info("만기 정산 완료: {}", report);
+		return report;
+	}
+
+	private boolean processPage(ProductType productType, LocalDateTime now, Cursor cursor) {
+		List<MaturityTarget> targets = maturityRepository.findMatured(productType, cursor.expiry, cursor.id, now,
+			pageSize);
+		if (targets.isEmpty())
+			return false;
+
+		Map<Integer, Long> userDeltas = new HashMap<>();
+		List<PointEntry> entries = new ArrayList<>();
+		List<Long> settledIds = new ArrayList<>();
+		MaturityWatermark watermark = maturityWatermarkRepository.findById(productType).get();
+		for (MaturityTarget target : targets) {
+			if (settle(productType, target, userDeltas, entries)) {
+				settledIds.add(target.getId());
+				if (!cursor.held)
+					watermark.advance(target.getExpiry(), target.getId());
+			} else {
+				cursor.held = true;
+			}
+			cursor.expiry = target.getExpiry();
+			cursor.id = target.getId();
+		}
+
+		// 환급은 모두 입금이라 잔액 조건에 걸리지 않는다. 걸렸다면 이 페이지 전체를 되돌린다.
+		if (!rateBatchRepository.addUserMoney(userDeltas).isEmpty())
+			throw new IllegalStateException("만기 환급을 반영하지 못했습니다: " + productType);
+		pointService.makePoints(entries);
+		maturityRepository.deleteAll(productType, settledIds);
+		cursor.scanned += targets.size();
+		cursor.settled += settledIds.size();
+		return targets.size() == pageSize;
+	}
+
+	private boolean settle(ProductType productType, MaturityTarget target, Map<Integer, Long> userDeltas,
+		List<PointEntry> entries) {
+		int money = target.getMoney();
+		switch (productType) {
+			case DEPOSIT:
+				userDeltas.merge(target.getUserId(), (long)money, Long::sum);
+				entries.add(entry(DEPOSIT_ADMIN_ID, target.getUserId(), "예금 만기", money));
+				return true;
+			case LOAN:
+				// 잔액이 모자라면 상환하지 않고 다음 배치에서 다시 시도한다.
+				if (!balanceLedgerService.tryTransfer(target.getUserId(), target.getParentId(), money)) {
+					log.warn("대출금 환원 실패: loanerId={}, money={}", target.getId(), money);
+					return false;
+				}
+				entries.add(entry(target.getUserId(), target.getParentId(), "대출금 환원", money));
+				return true;
+			case SAVINGS:
+				money += (money * target.getRate()) / 100;
+				userDeltas.merge(target.getUserId(), (long)money, Long::sum);
+				entries.add(entry(SAVINGS_ADMIN_ID, target.getUserId(), "적금 만기", money));
+				return true;
+			default:
+				throw new IllegalArgumentException("지원하지 않는 상품입니다.");
+		}
+	}
+
+	private PointEntry entry(Integer senderId, Integer receiverId, String memo, int money) {
+		return PointEntry.builder().senderId(senderId).receiverId(receiverId).memo(memo).amount(money).build();
+	}
+
+	private static class Cursor {
+		private LocalDateTime expiry;
+		private long id;
+		private boolean held;
+		private int scanned;
+		private int settled;
+
+		private Cursor(LocalDateTime expiry, long id) {
+			this.expiry = expiry;
+			this.id = id;
+		}
+	}
+}
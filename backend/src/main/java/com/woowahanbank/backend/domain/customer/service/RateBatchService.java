@@ -0,0 +1,193 @@
+package com.woowahanbank.backend.domain.customer.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.woowahanbank.backend.domain.customer.domain.RateCheckpoint;
+import com.woowahanbank.backend.domain.customer.dto.RateTarget;
+import com.woowahanbank.backend.domain.customer.repository.RateBatchRepository;
+import com.woowahanbank.backend.domain.customer.repository.RateCheckpointRepository;
+import com.woowahanbank.backend.domain.financialproducts.domain.ProductType;
+import com.woowahanbank.backend.domain.point.dto.PointEntry;
+import com.woowahanbank.backend.domain.point.service.PointServiceImpl;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 예금/대출/적금 이자 배치.
+ * 대상 계약을 id 기준 청크로 읽어 청크마다 별도 트랜잭션으로 커밋하고, 체크포인트에서 재시작한다.
+ * 잔액이 모자란 유저의 계약은 그 회차를 밀린 회차로 남기고, 다음 배치부터 잔액이 생길 때까지 다시 처리한다.
+ */
+@Service
+@Slf4j
+public class RateBatchService {
+	private static final int DEPOSIT_ADMIN_ID = 1; // 가상의 예금 유저
+	private static final int SAVINGS_ADMIN_ID = 2; // 가상의 적금 유저
+
+	private final RateBatchRepository rateBatchRepository;
+	private final RateCheckpointRepository rateCheckpointRepository;
+	private final PointServiceImpl pointService;
+	private final TransactionTemplate chunkTransaction;
+	private final int chunkSize;
+
+	public RateBatchService(RateBatchRepository rateBatchRepository,
+		RateCheckpointRepository rateCheckpointRepository, PointServiceImpl pointService,
+		PlatformTransactionManager transactionManager, @Value("${batch.rate.chunk-size:500}") int chunkSize) {
+		this.rateBatchRepository = rateBatchRepository;
+		this.rateCheckpointRepository = rateCheckpointRepository;
+		this.pointService = pointService;
+		this.chunkTransaction = new TransactionTemplate(transactionManager);
+		this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.chunkSize = chunkSize;
+	}
+
+	public void calculateRates(ProductType productType) {
+		LocalDate today = LocalDate.now();
+		Long lastId = chunkTransaction.execute(status -> startCheckpoint(productType, today));
+		int chunks = 0;
+		while (lastId != null) {
+			long from = lastId;
+			lastId = chunkTransaction.execute(status -> processChunk(productType, today, from));
+			if (lastId != null)
+				chunks++;
+		}
+		Long lastArrearId = 0L;
+		while (lastArrearId != null) {
+			long from = lastArrearId;
+			lastArrearId = chunkTransaction.execute(status -> processArrearChunk(productType, today, from));
+		}
+		log.info("{} 이자 배치 완료: {}개 청크", productType, chunks);
+	}
+
+	private Long startCheckpoint(ProductType productType, LocalDate today) {
+		RateCheckpoint checkpoint = rateCheckpointRepository.findById(productType)
+			.orElseGet(() -> RateCheckpoint.builder().productType(productType).runDate(today).lastId(0L).build());
+		if (!today.equals(checkpoint.getRunDate()))
+			checkpoint.restart(today);
+		rateCheckpointRepository.save(checkpoint);
+		return checkpoint.getLastId();
+	}
+
+	private Long processChunk(ProductType productType, LocalDate today, long lastId) {
+		List<RateTarget> targets = rateBatchRepository.findTargets(productType, today.getDayOfMonth(), lastId,
+			chunkSize);
+		if (targets.isEmpty())
+			return null;
+
+		List<RateTarget> skipped = settle(productType, targets);
+		rateBatchRepository.addArrears(productType,
+			skipped.stream().map(RateTarget::getId).collect(Collectors.toList()), today);
+
+		long nextId = targets.get(targets.size() - 1).getId();
+		rateCheckpointRepository.findById(productType).get().advance(nextId);
+		return nextId;
+	}
+
+	// 오늘 이전에 밀린 회차를 다시 처리한다. 처리된 회차는 지우고, 이번에도 모자라면 그대로 둔다.
+	private Long processArrearChunk(ProductType productType, LocalDate today, long lastArrearId) {
+		List<RateTarget> arrears = rateBatchRepository.findArrears(productType, today, lastArrearId, chunkSize);
+		if (arrears.isEmpty())
+			return null;
+
+		Set<Long> skippedIds = settle(productType, arrears).stream()
+			.map(RateTarget::getArrearId)
+			.collect(Collectors.toSet());
+		List<Long> settledIds = arrears.stream()
+			.map(RateTarget::getArrearId)
+			.filter(arrearId -> !skippedIds.contains(arrearId))
+			.collect(Collectors.toList());
+		rateBatchRepository.deleteArrears(settledIds);
+		return arrears.get(arrears.size() - 1).getArrearId();
+	}
+
+	/**
+	 * 계약들의 이번 회차를 반영하고, 잔액이 모자란 유저가 낀 탓에 반영하지 못한 계약을 돌려준다.
+	 */
+	private List<RateTarget> settle(ProductType productType, List<RateTarget> targets) {
+		List<RateTarget> settled = new ArrayList<>(targets);
+		List<RateTarget> skipped = new ArrayList<>();
+		Set<Integer> shortUsers = rateBatchRepository.addUserMoney(userDeltas(productType, settled));
+		while (!shortUsers.isEmpty()) {
+			// 잔액이 모자란 유저가 있으면 나머지 유저에 반영한 금액을 되돌리고, 그 유저가 낀 계약을 빼고 다시 반영한다.
+			Map<Integer, Long> applied = userDeltas(productType, settled);
+			applied.keySet().removeAll(shortUsers);
+			applied.replaceAll((userId, delta) -> -delta);
+			rateBatchRepository.addUserMoney(applied);
+			Set<Integer> skippedUsers = shortUsers;
+			settled.removeIf(target -> {
+				boolean skip = skippedUsers.contains(target.getUserId()) || skippedUsers.contains(target.getParentId());
+				if (skip) {
+					log.warn("{} 잔액 부족으로 밀린 회차로 남김: contractId={}", productType, target.getId());
+					skipped.add(target);
+				}
+				return skip;
+			});
+			shortUsers = rateBatchRepository.addUserMoney(userDeltas(productType, settled));
+		}
+
+		Map<Long, Integer> contractDeltas = new HashMap<>();
+		List<PointEntry> entries = new ArrayList<>();
+		for (RateTarget target : settled) {
+			switch (productType) {
+				case DEPOSIT: {
+					int money = target.getMoney() * target.getRate() / 100;
+					contractDeltas.merge(target.getId(), money, Integer::sum);
+					entries.add(entry(target.getParentId(), DEPOSIT_ADMIN_ID, "예금 이자", money));
+					break;
+				}
+				case LOAN: {
+					int money = target.getMoney() * target.getRate() / 100;
+					entries.add(entry(target.getUserId(), target.getParentId(), "대출이자", money));
+					break;
+				}
+				case SAVINGS: {
+					int regMoney = target.getRegularMoney();
+					contractDeltas.merge(target.getId(), regMoney, Integer::sum);
+					entries.add(entry(target.getUserId(), SAVINGS_ADMIN_ID, "정기 적금", regMoney));
+					break;
+				}
+			}
+		}
+
+		rateBatchRepository.addContractMoney(productType, contractDeltas);
+		pointService.makePoints(entries);
+		return skipped;
+	}
+
+	private Map<Integer, Long> userDeltas(ProductType productType, List<RateTarget> targets) {
+		Map<Integer, Long> userDeltas = new HashMap<>();
+		for (RateTarget target : targets) {
+			switch (productType) {
+				case DEPOSIT:
+					userDeltas.merge(target.getParentId(), (long)-(target.getMoney() * target.getRate() / 100),
+						Long::sum);
+					break;
+				case LOAN: {
+					long money = target.getMoney() * target.getRate() / 100;
+					userDeltas.merge(target.getUserId(), -money, Long::sum);
+					userDeltas.merge(target.getParentId(), money, Long::sum);
+					break;
+				}
+				case SAVINGS:
+					userDeltas.merge(target.getUserId(), (long)-target.getRegularMoney(), Long::sum);
+					break;
+			}
+		}
+		return userDeltas;
+	}
+
+	private PointEntry entry(Integer senderId, Integer receiverId, String memo, int money) {
+		return PointEntry.builder().senderId(senderId).receiverId(receiverId).memo(memo).amount(money).build();
+	}
+}
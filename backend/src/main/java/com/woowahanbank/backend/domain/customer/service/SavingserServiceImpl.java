@@ -1,22 +1,21 @@
 package com.woowahanbank.backend.domain.customer.service;
 
 import java.text.DecimalFormat;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
-import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
 
 import javax.transaction.Transactional;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import com.woowahanbank.backend.domain.banking.service.BalanceLedgerService;
 import com.woowahanbank.backend.domain.customer.domain.Savingser;
 import com.woowahanbank.backend.domain.customer.dto.SavingserDto;
+import com.woowahanbank.backend.domain.customer.event.PendingApprovalChangedEvent;
 import com.woowahanbank.backend.domain.customer.repository.SavingserRepository;
 import com.woowahanbank.backend.domain.financialproducts.domain.FinancialProduct;
+import com.woowahanbank.backend.domain.financialproducts.domain.ProductType;
 import com.woowahanbank.backend.domain.financialproducts.repository.FinancialProductRepository;
 import com.woowahanbank.backend.domain.point.service.PointServiceImpl;
 import com.woowahanbank.backend.domain.user.domain.User;
@@ -37,6 +36,10 @@ public class SavingserServiceImpl implements CustomerService<SavingserDto> {
 	private final UserRepository userRepository;
 	private final PointServiceImpl pointService;
 	private final ApplicationEventPublisher eventPublisher;
+	private final RateBatchService rateBatchService;
+	private final MaturityService maturityService;
+	private final CardNumberAllocator cardNumberAllocator;
+	private final BalanceLedgerService balanceLedgerService;
 	DecimalFormat formatter = new DecimalFormat("###,###");
 
 	@Override
@@ -49,10 +52,12 @@ public class SavingserServiceImpl implements CustomerService<SavingserDto> {
 			.user(user)
 			.financialProduct(financialProduct)
 			.allowProduct(false)
+			.familyId(financialProduct.getFamily().getId())
 			.money(0)
 			.regularMoney(savingserDto.getRegularMoney())
 			.build();
 		savingserRepository.save(savingser);
+		eventPublisher.publishEvent(new PendingApprovalChangedEvent(this, financialProduct.getFamily().getId()));
 		eventPublisher.publishEvent(new NotificationEvent(
 			this, parent.getNickname(),
 			NotificationUtil.clickUrl("/financeDetail/" + financialProduct.getId()),
@@ -66,13 +71,7 @@ public class SavingserServiceImpl implements CustomerService<SavingserDto> {
 
 	@Override
 	public List<SavingserDto> getDisallow(CustomUserDetails customUser) {
-		List<Savingser> list = savingserRepository.findAllByUser_FamilyIdAndAllowProductIsFalseOrderByIdDesc(
-			customUser.getUser().getFamily().getId());
-		List<SavingserDto> res = new ArrayList<>();
-		for (int i = 0; i < list.size(); i++) {
-			res.add(changeToDto(list.get(i)));
-		}
-		return res;
+		return savingserRepository.findDisallowDtosByFamilyId(customUser.getUser().getFamily().getId());
 	}
 
 	@Override
@@ -84,15 +83,16 @@ public class SavingserServiceImpl implements CustomerService<SavingserDto> {
 			throw new IllegalArgumentException("해당 가족이 아닙니다.");
 		savingser.allow();
 		savingser.changeDate(financialProduct.getPeriod());
-		String cardNum = makeCardNumber(financialProduct.getFamily().getId(), financialProduct.getId(), parent.getId());
+		String cardNum = cardNumberAllocator.allocate(ProductType.SAVINGS, financialProduct.getFamily().getId(),
+			financialProduct.getId(), parent.getId());
 		savingser.makeCardNumber(cardNum);
 		User admin = userRepository.findById(1).get(); // 가상의 admin 유저
 		User child = userRepository.findById(savingser.getUser().getId()).get();
 		int money = savingser.getRegularMoney();
-		child.moneyTransfer(-money);
-		userRepository.save(child);
+		balanceLedgerService.apply(child.getId(), -money);
 		savingser.depositMoney(money);
 		savingserRepository.save(savingser);
+		eventPublisher.publishEvent(new PendingApprovalChangedEvent(this, financialProduct.getFamily().getId()));
 		pointService.makePoint(child, admin, "정기 적금", money);
 		eventPublisher.publishEvent(new NotificationEvent(
 			this, child.getNickname(),
@@ -123,114 +123,34 @@ public class SavingserServiceImpl implements CustomerService<SavingserDto> {
 				.build()
 		));
 		savingserRepository.deleteById(id);
+		eventPublisher.publishEvent(new PendingApprovalChangedEvent(this, financialProduct.getFamily().getId()));
 	}
 
 	@Override
 	public List<SavingserDto> getDisallowProducts(Long productId) {
-		List<Savingser> list = savingserRepository.findAllByFinancialProduct_IdAndAllowProductIsFalseOrderByIdDesc(
-			productId);
-		List<SavingserDto> res = new ArrayList<>();
-		for (int i = 0; i < list.size(); i++) {
-			res.add(changeToDto(list.get(i)));
-		}
-		return res;
+		return savingserRepository.findDisallowDtosByProductId(productId);
 	}
 
 	@Override
 	public void calculateRates() {
-		int today = LocalDateTime.now().getDayOfMonth();
-		List<Savingser> list = savingserRepository.findByDate_Date(today);
-		User admin = userRepository.findById(2).get(); // 가상의 적금 유저
-		for (int i = 0; i < list.size(); i++) {
-			Savingser savingser = list.get(i);
-			User child = userRepository.findById(savingser.getUser().getId()).get();
-			int regMoney = savingser.getRegularMoney();
-			child.moneyTransfer(-regMoney);
-			savingser.depositMoney(regMoney);
-			userRepository.save(child);
-			savingserRepository.save(savingser);
-			pointService.makePoint(child, admin, "정기 적금", regMoney);
-		}
+		rateBatchService.calculateRates(ProductType.SAVINGS);
 	}
 
 	@Override
 	public void removeProduct() {
-		List<Savingser> list = savingserRepository.findByExpiryAfter(LocalDateTime.now());
-		User admin = userRepository.findById(2).get(); // 가상의 적금 유저
-		for (int i = 0; i < list.size(); i++) {
-			Savingser savi = list.get(i);
-			FinancialProduct financialProduct = financialProductRepository.findById(savi.getFinancialProduct().getId())
-				.get();
-			int money = savi.getMoney();
-			money += (money * financialProduct.getRate()) / 100;
-			User child = userRepository.findById(savi.getUser().getId()).get();
-			child.moneyTransfer(money);
-			userRepository.save(child);
-			savingserRepository.delete(savi);
-			pointService.makePoint(admin, child, "적금 만기", money);
-		}
+		maturityService.settle(ProductType.SAVINGS);
 	}
 
 	@Override
 	public List<SavingserDto> getProductsByNickname(String nickname) {
-		User user = userRepository.findByNickname(nickname).get();
-		List<Savingser> list = savingserRepository.findByUser(user);
-		List<SavingserDto> res = new ArrayList<>();
-		for (int i = 0; i < list.size(); i++) {
-			res.add(changeToDto(list.get(i)));
-		}
-		return res;
-	}
-
-	private String makeCardNumber(Long familyId, Long productId, Integer parentId) {
-		Random random = new Random();
-		StringBuilder sb;
-		while (true) {
-			int num = 0;
-			int last = (int)(familyId % 10);
-			while (familyId >= 10) {
-				familyId /= 10;
-				num++;
-			}
-			sb = new StringBuilder();
-			sb.append(num + 1).append(familyId).append(last).append(productId % 10).append(parentId % 10).append(2);
-			int sum = num + 1 + (int)(familyId % 10) * 2 + (int)(productId % 10) + (parentId % 10) * 2 + 2;
-			for (int i = 0; i < 9; i++) {
-				int randNum = random.nextInt(10);
-				sb.append(randNum);
-				if (i % 2 == 0)
-					sum += randNum * 2;
-				else
-					sum += randNum;
-			}
-			sb.append(10 - (sum % 10));
-			Savingser sav = savingserRepository.findByCardNumber(sb.toString());
-			if (sav == null)
-				break;
-		}
-		return sb.toString();
+		List<SavingserDto> products = savingserRepository.findDtosByNickname(nickname);
+		// 예전처럼 없는 닉네임이면 예외를 던진다. 목록이 비었을 때만 확인하므로 보통은 쿼리 한 번으로 끝난다.
+		if (products.isEmpty() && !userRepository.existsByNickname(nickname))
+			throw new NoSuchElementException("존재하지 않는 닉네임입니다.");
+		return products;
 	}
 
 	public List<SavingserDto> getSavingList(User user) {
-		return savingserRepository.findByUser(user).stream().map(this::changeToDto)
-			.collect(Collectors.toList());
-	}
-
-	private SavingserDto changeToDto(Savingser savingser) {
-		FinancialProduct financialProduct = financialProductRepository.findById(
-			savingser.getFinancialProduct().getId()).get();
-		return SavingserDto.builder()
-			.id(savingser.getId())
-			.userId(savingser.getUser().getId())
-			.userNickname(savingser.getUser().getNickname())
-			.money(savingser.getMoney())
-			.cardNumber(savingser.getCardNumber())
-			.date(savingser.getDate())
-			.expiry(savingser.getExpiry() == null ? "" :
-				savingser.getExpiry().format(DateTimeFormatter.ofPattern("YMMdd")).toString())
-			.financialProductId(financialProduct.getId())
-			.productName(financialProduct.getName())
-			.regularMoney(savingser.getRegularMoney())
-			.build();
+		return savingserRepository.findDtosByUserId(user.getId());
 	}
 }
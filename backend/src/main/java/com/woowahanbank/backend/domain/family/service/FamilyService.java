@@ -9,12 +9,15 @@ import com.woowahanbank.backend.domain.family.repository.InvitationRepository;
 import com.woowahanbank.backend.domain.user.domain.Role;
 import com.woowahanbank.backend.domain.user.domain.User;
 import com.woowahanbank.backend.domain.user.repository.UserRepository;
+import com.woowahanbank.backend.global.auth.jwt.PrincipalChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -27,6 +30,7 @@ public class FamilyService {
     private final FamilyRepository familyRepository;
     private final UserRepository userRepository;
     private final InvitationRepository invitationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<FamilyUserDto> findFamilyMembers(User user) {
         List<User> users = userRepository.findByFamily(user.getFamily());
@@ -45,6 +49,7 @@ public class FamilyService {
                 .build();
         family.addUser(user);
         family = familyRepository.save(family);
+        principalChanged(user);
         Long generatedId = family.getId();
 
         return generatedId;
@@ -55,6 +60,7 @@ public class FamilyService {
                 .filter(u -> u.getRoles() == Role.ROLE_PARENT)
                 .orElseThrow(() -> new IllegalArgumentException("부모 회원만 가능한 기능이거나 유저를 찾을 수 없습니다"));
         user.getFamily().updateFamilyName(familyName);
+        principalChanged(user.getFamily().getUsers().toArray(new User[0]));
     }
 
     public void deleteFamily(String nickname) {
@@ -68,6 +74,7 @@ public class FamilyService {
                         users -> {
                             family.removeUser(user);
                             familyRepository.deleteById(family.getId());
+                            principalChanged(user);
                         },
                         () -> {
                             throw new IllegalArgumentException("가족에 남은 회원이 본인만 있어야 합니다");
@@ -100,6 +107,7 @@ public class FamilyService {
                 .orElseThrow(() -> new IllegalArgumentException("초대 내용을 찾을 수 없습니다"));
         Family family = invitation.getFamily();
         family.addUser(invitation.getToUser());
+        principalChanged(invitation.getToUser());
 
         invitationRepository.delete(invitation);
     }
@@ -114,6 +122,13 @@ public class FamilyService {
         }
 
         family.removeUser(targetUser);
+        principalChanged(targetUser);
+    }
+
+    // 가족이 바뀐 유저의 인증 캐시를 비운다.
+    private void principalChanged(User... users) {
+        eventPublisher.publishEvent(new PrincipalChangedEvent(this,
+                Arrays.stream(users).map(User::getUserId).collect(Collectors.toList())));
     }
 
     private User findUserOrElseThrow(String nickname) {
@@ -140,6 +155,7 @@ public class FamilyService {
         Family byFamilyName = familyRepository.findByFamilyName(familyName).orElseThrow(() -> new IllegalArgumentException("가족을 찾을 수 없습니다."));
         User byNickname = userRepository.findByNickname(userNickName).orElseThrow(() -> new IllegalArgumentException("유저가 없습니다."));
         byNickname.setFamily(byFamilyName);
+        principalChanged(byNickname);
     }
 
     public void deleteInv (String familyName, String userNickName) {
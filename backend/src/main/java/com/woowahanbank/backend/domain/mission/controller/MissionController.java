@@ -3,8 +3,10 @@ package com.woowahanbank.backend.domain.mission.controller;
 import com.woowahanbank.backend.domain.mission.dto.MissionDetailDto;
 import com.woowahanbank.backend.domain.mission.dto.MissionGiveMoneyDto;
 import com.woowahanbank.backend.domain.mission.dto.MissionMakeDto;
+import com.woowahanbank.backend.domain.mission.dto.MissionStatusCountDto;
 import com.woowahanbank.backend.domain.user.domain.User;
 import com.woowahanbank.backend.global.auth.security.CustomUserDetails;
+import com.woowahanbank.backend.global.idempotency.Idempotent;
 import com.woowahanbank.backend.global.response.BaseResponse;
 
 import org.springframework.aop.scope.ScopedProxyUtils;
@@ -15,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
 
 import com.woowahanbank.backend.domain.mission.service.MissionService;
 import com.woowahanbank.backend.domain.mission.domain.Mission;
+import com.woowahanbank.backend.domain.mission.domain.MissionStatus;
 
 import lombok.RequiredArgsConstructor;
 
@@ -38,21 +41,34 @@ public class MissionController {
 	}
 
 	@GetMapping("/family-id")
-	public ResponseEntity<?> getMissionListByFamilyId(@AuthenticationPrincipal CustomUserDetails customUser) {
+	public ResponseEntity<?> getMissionListByFamilyId(@AuthenticationPrincipal CustomUserDetails customUser,
+		@RequestParam(required = false) String childNickname, @RequestParam(required = false) MissionStatus status,
+		@RequestParam(required = false) Long lastId, @RequestParam(required = false) Integer size) {
 		User customUserUser = customUser.getUser();
 
-		List<MissionMakeDto> missionListByFamilyId = missionService.getMissionByFamilyId(customUserUser);
+		List<MissionMakeDto> missionListByFamilyId = missionService.getMissions(customUserUser, childNickname, status,
+			lastId, size);
 		return BaseResponse.okWithData(HttpStatus.OK, "가족 전체 미션 리스트", missionListByFamilyId);
 	}
 
 	@GetMapping("/child-nickname")
-	public ResponseEntity<?> getMissionListByChildNickName(@AuthenticationPrincipal CustomUserDetails customUser) {
+	public ResponseEntity<?> getMissionListByChildNickName(@AuthenticationPrincipal CustomUserDetails customUser,
+		@RequestParam(required = false) String childNickname, @RequestParam(required = false) MissionStatus status,
+		@RequestParam(required = false) Long lastId, @RequestParam(required = false) Integer size) {
 		User customUserUser = customUser.getUser();
 
-		List<MissionMakeDto> missionListByChildNickName = missionService.getMissionByChildNickName(customUserUser);
+		List<MissionMakeDto> missionListByChildNickName = missionService.getMissions(customUserUser, childNickname,
+			status, lastId, size);
 		return BaseResponse.okWithData(HttpStatus.OK, "가족 전체 미션 리스트", missionListByChildNickName);
 	}
 
+	@GetMapping("/counts")
+	public ResponseEntity<?> getMissionStatusCounts(@AuthenticationPrincipal CustomUserDetails customUser,
+		@RequestParam(required = false) String childNickname) {
+		MissionStatusCountDto counts = missionService.getStatusCounts(customUser.getUser(), childNickname);
+		return BaseResponse.okWithData(HttpStatus.OK, "상태별 미션 개수", counts);
+	}
+
 	@GetMapping("/detail/{missionId}")
 	public ResponseEntity<?> getMissionDetailByMissionId(@PathVariable Long missionId) {
 		MissionDetailDto missionDetailDto = missionService.getDetail(missionId);
@@ -76,6 +92,7 @@ public class MissionController {
 		missionService.deleteMissionById(missionId);
 	}
 
+	@Idempotent
 	@PutMapping("/give-money")
 	public ResponseEntity<?> giveMoneyTochild(@RequestBody MissionGiveMoneyDto missionGiveMoneyDto) {
 		missionService.missionClearMoney(missionGiveMoneyDto);
@@ -15,6 +15,10 @@ import lombok.*;
 
 @ApiModel(description = "Mission Entity")
 @Entity
+@Table(indexes = {
+	@Index(name = "idx_mission_family_child_status", columnList = "family_id_id, child_user_id, status, id"),
+	@Index(name = "idx_mission_family_id", columnList = "family_id_id, id"),
+	@Index(name = "idx_mission_status_deadline", columnList = "status, mission_terminate_date")})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
@@ -37,7 +41,7 @@ public class Mission {
 	private Family familyId;
 
 	@ApiModelProperty(notes = "아이 닉네임")
-	@ManyToOne(fetch=FetchType.EAGER)
+	@ManyToOne(fetch=FetchType.LAZY)
 	private User childUser;
 
 	@ApiModelProperty(notes = "부모님 닉네임")
@@ -48,8 +52,9 @@ public class Mission {
 	private String missionDescription;
 
 	@ApiModelProperty(notes = "미션 상황")
-	@Column(name = "mission_status", columnDefinition = "VARCHAR(255) DEFAULT '진행중'")
-	private String missionStatus;
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 16)
+	private MissionStatus status;
 
 	@ApiModelProperty(notes = "미션 포인트")
 	private Integer missionPoint;
@@ -58,14 +63,14 @@ public class Mission {
 	private Date missionTerminateDate;
 
 	public void start() {
-		this.missionStatus = "진행중";
+		this.status = MissionStatus.IN_PROGRESS;
 	}
 	public void solved(){
-		this.missionStatus = "완료";
+		this.status = MissionStatus.COMPLETED;
 	}
 
 	public void refuse(){
-		this.missionStatus = "거절";
+		this.status = MissionStatus.REFUSED;
 	}
 
 }
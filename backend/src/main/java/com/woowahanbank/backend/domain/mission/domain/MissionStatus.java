@@ -0,0 +1,27 @@
+package com.woowahanbank.backend.domain.mission.domain;
+
+import java.util.Arrays;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum MissionStatus {
+	IN_PROGRESS("진행중"),
+	COMPLETED("완료"),
+	REFUSED("거절"),
+	EXPIRED("기한만료");
+
+	// 화면에 보여주는 이름. 응답에는 이 값을 내려준다.
+	private final String label;
+
+	public static MissionStatus from(String value) {
+		if (value == null || value.isEmpty())
+			return IN_PROGRESS;
+		return Arrays.stream(values())
+			.filter(status -> status.label.equals(value) || status.name().equals(value))
+			.findFirst()
+			.orElseThrow(() -> new IllegalArgumentException("미션 상태가 올바르지 않습니다."));
+	}
+}
@@ -0,0 +1,19 @@
+package com.woowahanbank.backend.domain.mission.dto;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class MissionDeadlineDto {
+	private Long missionId;
+	private String missionName;
+	private String childNickname;
+	private Date deadline;
+}
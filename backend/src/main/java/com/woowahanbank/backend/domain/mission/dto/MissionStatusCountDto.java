@@ -0,0 +1,17 @@
+package com.woowahanbank.backend.domain.mission.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class MissionStatusCountDto {
+	private long inProgress;
+	private long completed;
+	private long refused;
+	private long expired;
+}
@@ -1,20 +1,18 @@
 package com.woowahanbank.backend.domain.mission.repository;
 
-import com.woowahanbank.backend.domain.family.domain.Family;
 import com.woowahanbank.backend.domain.mission.domain.Mission;
-import com.woowahanbank.backend.domain.user.domain.User;
+import com.woowahanbank.backend.domain.mission.domain.MissionStatus;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
-public interface MissionRepository extends JpaRepository<Mission, Long> {
-
-    List<Mission> findByFamilyId(Family familyId);
-
-    List<Mission> findByChildUser(User childUser);
+public interface MissionRepository extends JpaRepository<Mission, Long>, MissionRepositoryCustom {
 
     void deleteByMissionName(String missionName);
 
@@ -22,4 +20,9 @@ public interface MissionRepository extends JpaRepository<Mission, Long> {
 
     void deleteById(Long missionId);
 
+    // from 상태인 미션만 바꾸고, 바뀐 행 수를 돌려준다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Mission m SET m.status = :to WHERE m.id IN :ids AND m.status = :from")
+    int updateStatus(@Param("ids") List<Long> ids, @Param("from") MissionStatus from, @Param("to") MissionStatus to);
+
 }
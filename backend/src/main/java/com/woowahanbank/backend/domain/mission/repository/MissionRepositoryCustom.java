@@ -0,0 +1,21 @@
+package com.woowahanbank.backend.domain.mission.repository;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import com.woowahanbank.backend.domain.mission.domain.MissionStatus;
+import com.woowahanbank.backend.domain.mission.dto.MissionDeadlineDto;
+import com.woowahanbank.backend.domain.mission.dto.MissionMakeDto;
+
+public interface MissionRepositoryCustom {
+	List<MissionMakeDto> findPage(Long familyId, Integer childId, MissionStatus status, long lastId, Integer size);
+
+	Map<MissionStatus, Long> countByStatus(Long familyId, Integer childId);
+
+	List<MissionDeadlineDto> findDeadlines(List<Long> ids, MissionStatus status, boolean lock);
+
+	List<MissionDeadlineDto> findOpenDeadlines(long lastId, int size);
+
+	List<Long> findOverdueIds(Date now, int size);
+}
@@ -0,0 +1,142 @@
+package com.woowahanbank.backend.domain.mission.repository;
+
+import static com.woowahanbank.backend.domain.mission.domain.QMission.*;
+
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.persistence.LockModeType;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.woowahanbank.backend.domain.mission.domain.MissionStatus;
+import com.woowahanbank.backend.domain.mission.dto.MissionDeadlineDto;
+import com.woowahanbank.backend.domain.mission.dto.MissionMakeDto;
+import com.woowahanbank.backend.domain.user.domain.QUser;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 미션 목록 조회용 프로젝션.
+ * (가족, 아이, 상태, id) 인덱스를 타도록 조건을 걸고 id 기준 키셋으로 한 페이지씩 읽는다.
+ */
+@RequiredArgsConstructor
+public class MissionRepositoryImpl implements MissionRepositoryCustom {
+	private static final QUser CHILD = new QUser("missionChild");
+
+	private final JPAQueryFactory queryFactory;
+
+	// size 가 null 이면 끝까지 읽는다.
+	@Override
+	public List<MissionMakeDto> findPage(Long familyId, Integer childId, MissionStatus status, long lastId,
+		Integer size) {
+		JPAQuery<Tuple> query = queryFactory
+			.select(mission.id, mission.missionName, mission.missionDescription, mission.missionPoint,
+				mission.status, mission.missionTerminateDate)
+			.from(mission)
+			.where(condition(familyId, childId).and(statusEq(status)), mission.id.lt(lastId))
+			.orderBy(mission.id.desc());
+		if (size != null)
+			query.limit(size);
+		return query
+			.fetch()
+			.stream()
+			.map(this::toDto)
+			.collect(Collectors.toList());
+	}
+
+	// 상태별 개수를 GROUP BY 한 번으로 센다. 없는 상태는 0으로 채운다.
+	@Override
+	public Map<MissionStatus, Long> countByStatus(Long familyId, Integer childId) {
+		NumberExpression<Long> count = mission.id.count();
+		Map<MissionStatus, Long> counts = new EnumMap<>(MissionStatus.class);
+		for (MissionStatus status : MissionStatus.values())
+			counts.put(status, 0L);
+		for (Tuple tuple : queryFactory
+			.select(mission.status, count)
+			.from(mission)
+			.where(condition(familyId, childId))
+			.groupBy(mission.status)
+			.fetch())
+			counts.put(tuple.get(mission.status), tuple.get(count));
+		return counts;
+	}
+
+	// 마감 처리할 미션과 알림 받을 아이 닉네임을 한 번에 읽는다. lock 이면 상태를 바꿀 때까지 행을 잠근다.
+	@Override
+	public List<MissionDeadlineDto> findDeadlines(List<Long> ids, MissionStatus status, boolean lock) {
+		JPAQuery<Tuple> query = queryFactory
+			.select(mission.id, mission.missionName, CHILD.nickname, mission.missionTerminateDate)
+			.from(mission)
+			.join(mission.childUser, CHILD)
+			.where(mission.id.in(ids), mission.status.eq(status));
+		if (lock)
+			query.setLockMode(LockModeType.PESSIMISTIC_WRITE);
+		return query.fetch()
+			.stream()
+			.map(tuple -> MissionDeadlineDto.builder()
+				.missionId(tuple.get(mission.id))
+				.missionName(tuple.get(mission.missionName))
+				.childNickname(tuple.get(CHILD.nickname))
+				.deadline(tuple.get(mission.missionTerminateDate))
+				.build())
+			.collect(Collectors.toList());
+	}
+
+	@Override
+	public List<MissionDeadlineDto> findOpenDeadlines(long lastId, int size) {
+		return queryFactory
+			.select(mission.id, mission.missionTerminateDate)
+			.from(mission)
+			.where(mission.id.gt(lastId), mission.status.eq(MissionStatus.IN_PROGRESS),
+				mission.missionTerminateDate.isNotNull())
+			.orderBy(mission.id.asc())
+			.limit(size)
+			.fetch()
+			.stream()
+			.map(tuple -> MissionDeadlineDto.builder()
+				.missionId(tuple.get(mission.id))
+				.deadline(tuple.get(mission.missionTerminateDate))
+				.build())
+			.collect(Collectors.toList());
+	}
+
+	// 마감이 지났는데 아직 진행중인 미션을 마감이 이른 순으로 읽는다. 만료 처리하면 빠지므로 커서 없이 앞에서부터 다시 읽는다.
+	@Override
+	public List<Long> findOverdueIds(Date now, int size) {
+		return queryFactory
+			.select(mission.id)
+			.from(mission)
+			.where(mission.status.eq(MissionStatus.IN_PROGRESS), mission.missionTerminateDate.lt(now))
+			.orderBy(mission.missionTerminateDate.asc())
+			.limit(size)
+			.fetch();
+	}
+
+	private BooleanExpression condition(Long familyId, Integer childId) {
+		BooleanExpression condition = mission.familyId.id.eq(familyId);
+		return childId == null ? condition : condition.and(mission.childUser.id.eq(childId));
+	}
+
+	private BooleanExpression statusEq(MissionStatus status) {
+		return status == null ? null : mission.status.eq(status);
+	}
+
+	private MissionMakeDto toDto(Tuple tuple) {
+		Integer point = tuple.get(mission.missionPoint);
+		return MissionMakeDto.builder()
+			.missionId(tuple.get(mission.id))
+			.missionName(tuple.get(mission.missionName))
+			.missionDescription(tuple.get(mission.missionDescription))
+			.missionPoint(point == null ? 0 : point)
+			.missionStatus(tuple.get(mission.status).getLabel())
+			.missionTerminateDate(tuple.get(mission.missionTerminateDate))
+			.build();
+	}
+}
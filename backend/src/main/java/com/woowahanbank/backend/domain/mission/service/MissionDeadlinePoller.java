@@ -0,0 +1,127 @@
+package com.woowahanbank.backend.domain.mission.service;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.woowahanbank.backend.domain.mission.dto.MissionDeadlineDto;
+import com.woowahanbank.backend.domain.mission.repository.MissionRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 마감 대기열에서 때가 된 미션을 배치로 꺼내 만료 처리와 마감 임박 알림을 보낸다.
+ * 한 번 폴링에 드는 비용은 꺼낸 미션 수에만 비례하고, 미션 테이블은 대기열이 비었을 때 한 번만 훑어 채운다.
+ * 꺼낸 뒤 처리 전에 서버가 죽으면 그 id는 대기열에서 사라지므로, 마감이 지났는데 진행중인 미션을 DB에서 주기적으로 찾아 만료 처리한다.
+ * 마감 임박 알림은 이 보정 대상이 아니다.
+ */
+@Component
+@Slf4j
+public class MissionDeadlinePoller {
+	private static final String SYNCED_KEY = "mission:deadline:synced";
+	private static final Duration SYNCED_TTL = Duration.ofDays(1);
+	private static final long RECONCILE_GRACE_MILLIS = 60_000;
+
+	private final MissionDeadlineQueue missionDeadlineQueue;
+	private final MissionService missionService;
+	private final MissionRepository missionRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final int batchSize;
+
+	public MissionDeadlinePoller(MissionDeadlineQueue missionDeadlineQueue, MissionService missionService,
+		MissionRepository missionRepository, RedisTemplate<String, String> redisTemplate,
+		@Value("${mission.deadline.batch-size:200}") int batchSize) {
+		this.missionDeadlineQueue = missionDeadlineQueue;
+		this.missionService = missionService;
+		this.missionRepository = missionRepository;
+		this.redisTemplate = redisTemplate;
+		this.batchSize = batchSize;
+	}
+
+	// 대기열 도입 전에 만든 미션이나 Redis가 비워진 경우를 위해, 표시 키가 없을 때 진행중인 미션을 다시 넣는다.
+	// 표시 키는 하루 뒤 사라지므로 그 사이 대기열이 어긋나도 하루에 한 번은 다시 맞춘다.
+	// 여러 서버가 동시에 채워도 같은 점수로 다시 넣을 뿐이다.
+	@EventListener(ApplicationReadyEvent.class)
+	public void resync() {
+		if (Boolean.TRUE.equals(redisTemplate.hasKey(SYNCED_KEY)))
+			return;
+		long lastId = 0;
+		int count = 0;
+		List<MissionDeadlineDto> page;
+		do {
+			page = missionRepository.findOpenDeadlines(lastId, batchSize);
+			for (MissionDeadlineDto deadline : page) {
+				missionDeadlineQueue.schedule(deadline.getMissionId(), deadline.getDeadline());
+				lastId = deadline.getMissionId();
+			}
+			count += page.size();
+		} while (page.size() == batchSize);
+		redisTemplate.opsForValue().set(SYNCED_KEY, "1", SYNCED_TTL);
+		log.info("미션 마감 대기열 채움: {}건", count);
+	}
+
+	// 대기열에서 잃어버린 마감을 DB 기준으로 처리하고, 표시 키가 사라졌으면 대기열도 다시 채운다.
+	// 만료 처리는 진행중인 미션만 바꾸므로 대기열 처리와 겹쳐도 한 번만 만료된다.
+	@Scheduled(initialDelayString = "${mission.deadline.reconcile-interval-ms:600000}",
+		fixedDelayString = "${mission.deadline.reconcile-interval-ms:600000}")
+	public void reconcile() {
+		resync();
+		// 대기열이 곧 꺼낼 미션까지 보정으로 세지 않도록 마감이 조금 지난 것만 본다.
+		Date now = new Date(System.currentTimeMillis() - RECONCILE_GRACE_MILLIS);
+		int expired = 0;
+		List<Long> overdue;
+		do {
+			overdue = missionRepository.findOverdueIds(now, batchSize);
+			if (overdue.isEmpty())
+				break;
+			int changed = missionService.expireMissions(overdue);
+			expired += changed;
+			// 다른 서버가 먼저 만료시켰거나 바뀐 것이 없으면 같은 행을 다시 읽게 되므로 멈춘다.
+			if (changed == 0)
+				break;
+		} while (overdue.size() == batchSize);
+		if (expired > 0)
+			log.warn("대기열에서 빠진 미션 만료 보정: {}건", expired);
+	}
+
+	@Scheduled(fixedDelayString = "${mission.deadline.poll-interval-ms:5000}")
+	public void poll() {
+		long now = System.currentTimeMillis();
+		drain(MissionDeadlineQueue.REMINDER_KEY, now, true);
+		drain(MissionDeadlineQueue.DEADLINE_KEY, now, false);
+	}
+
+	// 실패한 배치는 되돌려 두고 이번 폴링을 끝내야 같은 id를 바로 다시 꺼내지 않는다.
+	private void drain(String key, long now, boolean reminder) {
+		List<Long> due;
+		do {
+			due = reminder ? missionDeadlineQueue.popDueReminders(now, batchSize)
+				: missionDeadlineQueue.popDueDeadlines(now, batchSize);
+			if (due.isEmpty() || !process(key, due, now, reminder))
+				return;
+		} while (due.size() == batchSize);
+	}
+
+	private boolean process(String key, List<Long> missionIds, long now, boolean reminder) {
+		try {
+			if (reminder) {
+				missionService.remindMissions(missionIds);
+			} else {
+				int expired = missionService.expireMissions(missionIds);
+				log.info("미션 만료 처리: {}건 중 {}건", missionIds.size(), expired);
+			}
+		} catch (RuntimeException e) {
+			log.warn("미션 마감 처리 실패, 다음 폴링에 다시 시도: {}건", missionIds.size(), e);
+			missionDeadlineQueue.requeue(key, missionIds, now);
+			return false;
+		}
+		return true;
+	}
+}
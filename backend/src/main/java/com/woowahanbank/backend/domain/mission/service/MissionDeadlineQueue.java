@@ -0,0 +1,79 @@
+package com.woowahanbank.backend.domain.mission.service;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 미션 마감 대기열. 마감 시각과 알림 시각을 점수로 한 Redis sorted set 두 개에 미션 id를 넣어 둔다.
+ * 꺼낼 때는 때가 된 id를 Lua 스크립트로 읽고 지우는 것까지 한 번에 하므로 여러 서버가 같이 돌아도 한 번만 꺼내진다.
+ */
+@Component
+public class MissionDeadlineQueue {
+	static final String DEADLINE_KEY = "mission:deadline";
+	static final String REMINDER_KEY = "mission:reminder";
+
+	private static final RedisScript<List> POP_DUE = new DefaultRedisScript<>(
+		"local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) "
+			+ "if #ids > 0 then redis.call('ZREM', KEYS[1], unpack(ids)) end "
+			+ "return ids", List.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final long reminderLeadMillis;
+
+	public MissionDeadlineQueue(RedisTemplate<String, String> redisTemplate,
+		@Value("${mission.deadline.reminder-lead-ms:3600000}") long reminderLeadMillis) {
+		this.redisTemplate = redisTemplate;
+		this.reminderLeadMillis = reminderLeadMillis;
+	}
+
+	// 알림 시각이 이미 지났으면 알림은 건너뛰고 마감만 넣는다.
+	public void schedule(Long missionId, Date deadline) {
+		if (deadline == null)
+			return;
+		String member = String.valueOf(missionId);
+		long deadlineAt = deadline.getTime();
+		redisTemplate.opsForZSet().add(DEADLINE_KEY, member, deadlineAt);
+		if (deadlineAt - reminderLeadMillis > System.currentTimeMillis())
+			redisTemplate.opsForZSet().add(REMINDER_KEY, member, deadlineAt - reminderLeadMillis);
+	}
+
+	public void cancel(Long missionId) {
+		String member = String.valueOf(missionId);
+		redisTemplate.opsForZSet().remove(DEADLINE_KEY, member);
+		redisTemplate.opsForZSet().remove(REMINDER_KEY, member);
+	}
+
+	public void clear() {
+		redisTemplate.delete(List.of(DEADLINE_KEY, REMINDER_KEY));
+	}
+
+	public List<Long> popDueDeadlines(long now, int limit) {
+		return popDue(DEADLINE_KEY, now, limit);
+	}
+
+	public List<Long> popDueReminders(long now, int limit) {
+		return popDue(REMINDER_KEY, now, limit);
+	}
+
+	// 처리에 실패한 id를 다음 폴링에서 다시 꺼내도록 되돌린다.
+	public void requeue(String key, List<Long> missionIds, long at) {
+		missionIds.forEach(id -> redisTemplate.opsForZSet().add(key, String.valueOf(id), at));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Long> popDue(String key, long now, int limit) {
+		List<String> ids = redisTemplate.execute(POP_DUE, Collections.singletonList(key), String.valueOf(now),
+			String.valueOf(limit));
+		if (ids == null)
+			return Collections.emptyList();
+		return ids.stream().map(Long::valueOf).collect(Collectors.toList());
+	}
+}
@@ -1,18 +1,27 @@
 package com.woowahanbank.backend.domain.mission.service;
 
+import com.woowahanbank.backend.domain.banking.service.BalanceLedgerService;
 import com.woowahanbank.backend.domain.family.domain.Family;
 import com.woowahanbank.backend.domain.family.repository.FamilyRepository;
 import com.woowahanbank.backend.domain.mission.domain.Mission;
+import com.woowahanbank.backend.domain.mission.domain.MissionStatus;
+import com.woowahanbank.backend.domain.mission.dto.MissionDeadlineDto;
 import com.woowahanbank.backend.domain.mission.dto.MissionDetailDto;
 import com.woowahanbank.backend.domain.mission.dto.MissionGiveMoneyDto;
 import com.woowahanbank.backend.domain.mission.dto.MissionMakeDto;
+import com.woowahanbank.backend.domain.mission.dto.MissionStatusCountDto;
 import com.woowahanbank.backend.domain.mission.repository.MissionRepository;
+import com.woowahanbank.backend.domain.user.domain.Role;
 import com.woowahanbank.backend.domain.user.domain.User;
 import com.woowahanbank.backend.domain.user.repository.UserRepository;
+import com.woowahanbank.backend.global.notification.dto.NotificationDto;
+import com.woowahanbank.backend.global.notification.event.NotificationEvent;
+import com.woowahanbank.backend.global.util.NotificationUtil;
 
 import lombok.RequiredArgsConstructor;
 
 import org.checkerframework.checker.nullness.Opt;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.annotation.Transient;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,11 +31,15 @@ import java.util.*;
 @Service
 @RequiredArgsConstructor
 public class MissionService {
-
+	private static final int DEFAULT_PAGE_SIZE = 20;
+	private static final int MAX_PAGE_SIZE = 100;
 
 	private final MissionRepository missionRepository;
 	private final UserRepository userRepository;
 	private final FamilyRepository familyRepository;
+	private final BalanceLedgerService balanceLedgerService;
+	private final MissionDeadlineQueue missionDeadlineQueue;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public void createMission(MissionMakeDto missionMakeDto) {
@@ -47,55 +60,51 @@ public class MissionService {
 			.childUser(childUser)
 			.missionDescription(missionMakeDto.getMissionDescription())
 			.missionPoint(missionMakeDto.getMissionPoint())
-			.missionStatus(missionMakeDto.getMissionStatus())
+			.status(MissionStatus.from(missionMakeDto.getMissionStatus()))
 			.missionTerminateDate(missionMakeDto.getMissionTerminateDate())
 			.build();
 
 		System.out.println(mission);
 
 		missionRepository.save(mission);
+		missionDeadlineQueue.schedule(mission.getId(), mission.getMissionTerminateDate());
 	}
 
-	public List<MissionMakeDto> getMissionByFamilyId(User user) {
-
-		List<MissionMakeDto> missionDtoList = new ArrayList<>();
+	// 부모는 가족 전체(아이 닉네임을 주면 그 아이만), 아이는 자기 미션만 최신순으로 lastId 다음 페이지를 읽는다.
+	public List<MissionMakeDto> getMissions(User user, String childNickname, MissionStatus status, Long lastId,
+		Integer size) {
 		Family family = user.getFamily();
-		List<Mission> missionList = missionRepository.findByFamilyId(family);
-
-		for (Mission mission : missionList) {
-
-			MissionMakeDto missionMakeDto = new MissionMakeDto();
-			missionMakeDto.setMissionId(mission.getId());
-			missionMakeDto.setMissionName(mission.getMissionName());
-			missionMakeDto.setMissionDescription(mission.getMissionDescription());
-			missionMakeDto.setMissionPoint(mission.getMissionPoint());
-			missionMakeDto.setMissionStatus(mission.getMissionStatus());
-
-			missionDtoList.add(missionMakeDto);
-		}
-
-		return missionDtoList;
+		if (family == null)
+			return Collections.emptyList();
+		// lastId 와 size 를 둘 다 안 보내면 예전처럼 전부 돌려준다.
+		Integer pageSize = lastId == null && size == null ? null
+			: Integer.valueOf(Math.max(1, Math.min(size == null ? DEFAULT_PAGE_SIZE : size, MAX_PAGE_SIZE)));
+		return missionRepository.findPage(family.getId(), childIdOf(user, childNickname), status,
+			lastId == null ? Long.MAX_VALUE : lastId, pageSize);
 	}
 
-	public List<MissionMakeDto> getMissionByChildNickName(User user) {
-
-		List<MissionMakeDto> missionDtoList = new ArrayList<>();
-
+	public MissionStatusCountDto getStatusCounts(User user, String childNickname) {
 		Family family = user.getFamily();
-		List<Mission> missionList = missionRepository.findByFamilyId(family);
-
-		for (Mission mission : missionList) {
-			MissionMakeDto missionMakeDto = new MissionMakeDto();
-			missionMakeDto.setMissionId(mission.getId());
-			missionMakeDto.setMissionName(mission.getMissionName());
-			missionMakeDto.setMissionDescription(mission.getMissionDescription());
-			missionMakeDto.setMissionPoint(mission.getMissionPoint());
-			missionMakeDto.setMissionStatus(mission.getMissionStatus());
-
-			missionDtoList.add(missionMakeDto);
-		}
+		if (family == null)
+			return new MissionStatusCountDto();
+		Map<MissionStatus, Long> counts = missionRepository.countByStatus(family.getId(),
+			childIdOf(user, childNickname));
+		return MissionStatusCountDto.builder()
+			.inProgress(counts.get(MissionStatus.IN_PROGRESS))
+			.completed(counts.get(MissionStatus.COMPLETED))
+			.refused(counts.get(MissionStatus.REFUSED))
+			.expired(counts.get(MissionStatus.EXPIRED))
+			.build();
+	}
 
-		return missionDtoList;
+	private Integer childIdOf(User user, String childNickname) {
+		if (user.getRoles() == Role.ROLE_CHILD)
+			return user.getId();
+		if (childNickname == null || childNickname.isEmpty())
+			return null;
+		User child = userRepository.findByNickname(childNickname)
+			.orElseThrow(() -> new IllegalArgumentException("회원 정보 없음"));
+		return child.getId();
 	}
 
 	public MissionDetailDto getDetail(Long id) {
@@ -107,44 +116,51 @@ public class MissionService {
 			.childName(mission.getChildUser().getNickname())
 			.missionDescription(mission.getMissionDescription())
 			.missionPoint(mission.getMissionPoint())
-			.missionStatus(mission.getMissionStatus())
+			.missionStatus(mission.getStatus().getLabel())
 			.missionTerminateDate(mission.getMissionTerminateDate())
 			.build();
 	}
 
 	@Transactional
 	public MissionDetailDto updateMissionStatus(Long missionId) {
-		Mission mission = missionRepository.findById(missionId)
-			.orElseThrow(() -> new IllegalArgumentException(" 미션 정보 없음"));
-		mission.solved();
+		Mission mission = finish(missionId, MissionStatus.COMPLETED);
 		return MissionDetailDto.builder()
 			.missionId(mission.getId())
 			.missionName(mission.getMissionName())
 			.childName(mission.getChildUser().getNickname())
 			.missionDescription(mission.getMissionDescription())
 			.missionPoint(mission.getMissionPoint())
-			.missionStatus(mission.getMissionStatus())
+			.missionStatus(mission.getStatus().getLabel())
 			.missionTerminateDate(mission.getMissionTerminateDate())
 			.build();
 	}
 
 	@Transactional
 	public MissionDetailDto refuseMission(Long missionId) {
-		Mission mission = missionRepository.findById(missionId)
-			.orElseThrow(() -> new IllegalArgumentException(" 미션 정보 없음"));
-		mission.refuse();
+		Mission mission = finish(missionId, MissionStatus.REFUSED);
 		return MissionDetailDto.builder()
 			.missionId(mission.getId())
 			.missionName(mission.getMissionName())
 			.childName(mission.getChildUser().getNickname())
 			.missionDescription(mission.getMissionDescription())
 			.missionPoint(mission.getMissionPoint())
-			.missionStatus(mission.getMissionStatus())
+			.missionStatus(mission.getStatus().getLabel())
 			.missionTerminateDate(mission.getMissionTerminateDate())
 			.build();
 
 	}
 
+	// 진행중인 미션만 끝낼 수 있다. 만료 처리와 겹쳐도 한쪽만 바뀌도록 상태를 조건으로 건 UPDATE 로 바꾼다.
+	private Mission finish(Long missionId, MissionStatus to) {
+		if (!missionRepository.existsById(missionId))
+			throw new IllegalArgumentException(" 미션 정보 없음");
+		if (missionRepository.updateStatus(List.of(missionId), MissionStatus.IN_PROGRESS, to) == 0)
+			throw new IllegalArgumentException("진행중인 미션이 아닙니다.");
+		missionDeadlineQueue.cancel(missionId);
+		return missionRepository.findById(missionId)
+			.orElseThrow(() -> new IllegalArgumentException(" 미션 정보 없음"));
+	}
+
 	@Transactional
 	public void missionClearMoney(MissionGiveMoneyDto missionGiveMoneyDto) {
 		Mission mission = missionRepository.findById(missionGiveMoneyDto.getMissionId())
@@ -153,18 +169,51 @@ public class MissionService {
 			.orElseThrow(() -> new IllegalArgumentException("회원 정보 없음"));
 		User parent = userRepository.findByUserId(mission.getParentUser().getUserId())
 			.orElseThrow(() -> new IllegalArgumentException("부모 정보 없음"));
-		// 부모 정보도 얻어서 돈 빼야함
-		user.updatePoint(missionGiveMoneyDto.getMoney());
-		parent.minusPoint(missionGiveMoneyDto.getMoney());
+		balanceLedgerService.transfer(parent.getId(), user.getId(), missionGiveMoneyDto.getMoney());
+
+	}
+
+	// 마감이 지났는데 아직 진행중인 미션만 만료로 바꾸고 아이에게 알린다.
+	@Transactional
+	public int expireMissions(List<Long> missionIds) {
+		List<MissionDeadlineDto> targets = missionRepository.findDeadlines(missionIds, MissionStatus.IN_PROGRESS,
+			true);
+		if (targets.isEmpty())
+			return 0;
+		List<Long> ids = new ArrayList<>();
+		for (MissionDeadlineDto target : targets) {
+			ids.add(target.getMissionId());
+			notifyChild(target, "미션 기한 만료", "[" + target.getMissionName() + "] 미션 기한이 지났어요.");
+		}
+		return missionRepository.updateStatus(ids, MissionStatus.IN_PROGRESS, MissionStatus.EXPIRED);
+	}
+
+	@Transactional
+	public void remindMissions(List<Long> missionIds) {
+		for (MissionDeadlineDto target : missionRepository.findDeadlines(missionIds, MissionStatus.IN_PROGRESS,
+			false))
+			notifyChild(target, "미션 마감 임박", "[" + target.getMissionName() + "] 미션 마감이 얼마 남지 않았어요.");
+	}
 
+	private void notifyChild(MissionDeadlineDto target, String title, String body) {
+		eventPublisher.publishEvent(new NotificationEvent(
+			this, target.getChildNickname(),
+			NotificationUtil.clickUrl("/missionDetail/" + target.getMissionId()),
+			NotificationDto.builder()
+				.title(title)
+				.body(body)
+				.build()
+		));
 	}
 
 	public void deleteMissionById(Long missionId) {
 		missionRepository.deleteById(missionId);
+		missionDeadlineQueue.cancel(missionId);
 	}
 
 	public void deleteAll() {
 		missionRepository.deleteAll();
+		missionDeadlineQueue.clear();
 	}
 }
 
@@ -1,15 +1,21 @@
 package com.woowahanbank.backend.domain.point.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.woowahanbank.backend.domain.point.dto.PointDto;
+import com.woowahanbank.backend.domain.point.domain.PeriodType;
+import com.woowahanbank.backend.domain.point.dto.PointPageDto;
+import com.woowahanbank.backend.domain.point.dto.PointSummaryDto;
+import com.woowahanbank.backend.domain.point.service.PointRollupService;
 import com.woowahanbank.backend.domain.point.service.PointServiceImpl;
 import com.woowahanbank.backend.global.response.BaseResponse;
 
@@ -20,9 +26,20 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/point")
 public class PointController {
 	private final PointServiceImpl pointService;
+	private final PointRollupService pointRollupService;
 	@GetMapping("/{userId}")
-	public ResponseEntity<?> getAllPointList(@PathVariable Long userId) {
-		List<PointDto> pointDtoList = pointService.getMyPointList(userId);
-		return BaseResponse.okWithData(HttpStatus.OK, "나의 모든 거래 내역", pointDtoList);
+	public ResponseEntity<?> getAllPointList(@PathVariable Long userId,
+		@RequestParam(required = false) Long lastId, @RequestParam(defaultValue = "20") int size) {
+		PointPageDto pointPage = pointService.getMyPointList(userId, lastId, size);
+		return BaseResponse.okWithData(HttpStatus.OK, "나의 모든 거래 내역", pointPage);
+	}
+
+	@GetMapping("/{userId}/summary")
+	public ResponseEntity<?> getPointSummary(@PathVariable Integer userId,
+		@RequestParam(defaultValue = "MONTH") PeriodType period,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+		List<PointSummaryDto> summaries = pointRollupService.getSummary(userId, period, from, to);
+		return BaseResponse.okWithData(HttpStatus.OK, "거래 요약", summaries);
 	}
 }
@@ -0,0 +1,5 @@
+package com.woowahanbank.backend.domain.point.domain;
+
+public enum PeriodType {
+	DAY, MONTH
+}
@@ -0,0 +1,42 @@
+package com.woowahanbank.backend.domain.point.domain;
+
+import java.time.LocalDate;
+
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저별 일/월 단위 거래 집계. (유저, 기간, 메모)마다 한 행을 유지한다.
+ */
+@Entity
+@Table(name = "point_rollup", uniqueConstraints = @UniqueConstraint(name = "uk_point_rollup",
+	columnNames = {"user_id", "period_type", "period_start", "memo"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+@Builder
+public class PointRollup {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+	private Integer userId;
+	@Enumerated(EnumType.STRING)
+	private PeriodType periodType;
+	private LocalDate periodStart;
+	private String memo;
+	private long inflow;
+	private long outflow;
+	private int txCount;
+}
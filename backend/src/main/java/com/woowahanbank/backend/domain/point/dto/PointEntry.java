@@ -0,0 +1,21 @@
+package com.woowahanbank.backend.domain.point.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointEntry {
+	private Long id;
+	private Integer senderId;
+	private Integer receiverId;
+	private int amount;
+	private String memo;
+	private LocalDateTime time;
+}
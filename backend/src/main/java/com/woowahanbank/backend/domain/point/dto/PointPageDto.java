@@ -0,0 +1,19 @@
+package com.woowahanbank.backend.domain.point.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointPageDto {
+	private List<PointDto> points;
+	// 다음 페이지를 읽을 때 lastId로 넘겨줄 값. 마지막 페이지면 null
+	private Long lastId;
+	private boolean hasNext;
+}
@@ -0,0 +1,20 @@
+package com.woowahanbank.backend.domain.point.dto;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointSummaryDto {
+	private LocalDate periodStart;
+	private long inflow;
+	private long outflow;
+	private Map<String, Integer> counts;
+}
@@ -0,0 +1,60 @@
+package com.woowahanbank.backend.domain.point.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.woowahanbank.backend.domain.point.dto.PointEntry;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 배치 작업에서 거래 내역을 한 번에 기록하고, 거래 내역을 키셋 페이지로 읽기 위한 JDBC 저장소.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointJdbcRepository {
+	private static final String INSERT_POINT =
+		"INSERT INTO point (sender_id, receiver_id, amount, memo, time) VALUES (?, ?, ?, ?, ?)";
+	// 보낸 내역과 받은 내역을 각각 (sender_id, id), (receiver_id, id) 인덱스로 범위 스캔한 뒤 합친다.
+	private static final String SELECT_HISTORY_PAGE =
+		"SELECT id, sender_id, receiver_id, amount, memo, time FROM ("
+			+ "(SELECT id, sender_id, receiver_id, amount, memo, time FROM point"
+			+ " WHERE sender_id = ? AND id < ? ORDER BY id DESC LIMIT ?)"
+			+ " UNION "
+			+ "(SELECT id, sender_id, receiver_id, amount, memo, time FROM point"
+			+ " WHERE receiver_id = ? AND id < ? ORDER BY id DESC LIMIT ?)"
+			+ ") p ORDER BY id DESC LIMIT ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void batchInsert(List<PointEntry> entries) {
+		if (entries.isEmpty())
+			return;
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(INSERT_POINT, entries, entries.size(), (ps, entry) -> {
+			ps.setInt(1, entry.getSenderId());
+			ps.setInt(2, entry.getReceiverId());
+			ps.setInt(3, entry.getAmount());
+			ps.setString(4, entry.getMemo());
+			ps.setTimestamp(5, now);
+		});
+	}
+
+	public List<PointEntry> findHistoryPage(long userId, long lastId, int size) {
+		return jdbcTemplate.query(SELECT_HISTORY_PAGE, (rs, rowNum) -> {
+			Timestamp time = rs.getTimestamp("time");
+			return PointEntry.builder()
+				.id(rs.getLong("id"))
+				.senderId(rs.getInt("sender_id"))
+				.receiverId(rs.getInt("receiver_id"))
+				.amount(rs.getInt("amount"))
+				.memo(rs.getString("memo"))
+				.time(time == null ? null : time.toLocalDateTime())
+				.build();
+		}, userId, lastId, size, userId, lastId, size, size);
+	}
+}
@@ -0,0 +1,93 @@
+package com.woowahanbank.backend.domain.point.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.woowahanbank.backend.domain.point.domain.PeriodType;
+import com.woowahanbank.backend.domain.point.dto.PointEntry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+/**
+ * point_rollup 갱신용 JDBC 저장소.
+ * 거래가 기록될 때 증분으로 더하고, 재집계 시에는 point 테이블에서 통째로 다시 만든다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointRollupJdbcRepository {
+	private static final String UPSERT_ROLLUP =
+		"INSERT INTO point_rollup (user_id, period_type, period_start, memo, inflow, outflow, tx_count)"
+			+ " VALUES (?, ?, ?, ?, ?, ?, ?)"
+			+ " ON DUPLICATE KEY UPDATE inflow = inflow + VALUES(inflow), outflow = outflow + VALUES(outflow),"
+			+ " tx_count = tx_count + VALUES(tx_count)";
+	private static final String DELETE_ROLLUP = "DELETE FROM point_rollup";
+	private static final String REBUILD_ROLLUP =
+		"INSERT INTO point_rollup (user_id, period_type, period_start, memo, inflow, outflow, tx_count)"
+			+ " SELECT user_id, ?, period_start, memo, SUM(inflow), SUM(outflow), COUNT(*) FROM ("
+			+ "SELECT receiver_id AS user_id, %1$s AS period_start, COALESCE(memo, '') AS memo,"
+			+ " amount AS inflow, 0 AS outflow FROM point"
+			+ " UNION ALL "
+			+ "SELECT sender_id, %1$s, COALESCE(memo, ''), 0, amount FROM point"
+			+ ") t WHERE user_id IS NOT NULL GROUP BY user_id, period_start, memo";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void accumulate(List<PointEntry> entries) {
+		Map<Key, long[]> deltas = new LinkedHashMap<>();
+		for (PointEntry entry : entries) {
+			LocalDate day = (entry.getTime() == null ? LocalDateTime.now() : entry.getTime()).toLocalDate();
+			String memo = entry.getMemo() == null ? "" : entry.getMemo();
+			for (PeriodType periodType : PeriodType.values()) {
+				LocalDate start = periodType == PeriodType.DAY ? day : day.withDayOfMonth(1);
+				add(deltas, new Key(entry.getReceiverId(), periodType, start, memo), entry.getAmount(), 0);
+				add(deltas, new Key(entry.getSenderId(), periodType, start, memo), 0, entry.getAmount());
+			}
+		}
+		if (deltas.isEmpty())
+			return;
+		List<Map.Entry<Key, long[]>> rows = new ArrayList<>(deltas.entrySet());
+		jdbcTemplate.batchUpdate(UPSERT_ROLLUP, rows, rows.size(), (ps, row) -> {
+			Key key = row.getKey();
+			long[] delta = row.getValue();
+			ps.setInt(1, key.getUserId());
+			ps.setString(2, key.getPeriodType().name());
+			ps.setDate(3, Date.valueOf(key.getPeriodStart()));
+			ps.setString(4, key.getMemo());
+			ps.setLong(5, delta[0]);
+			ps.setLong(6, delta[1]);
+			ps.setLong(7, delta[2]);
+		});
+	}
+
+	public void rebuild() {
+		jdbcTemplate.update(DELETE_ROLLUP);
+		jdbcTemplate.update(String.format(REBUILD_ROLLUP, "DATE(time)"), PeriodType.DAY.name());
+		jdbcTemplate.update(String.format(REBUILD_ROLLUP, "DATE_FORMAT(time, '%Y-%m-01')"), PeriodType.MONTH.name());
+	}
+
+	private void add(Map<Key, long[]> deltas, Key key, long inflow, long outflow) {
+		if (key.getUserId() == null)
+			return;
+		long[] delta = deltas.computeIfAbsent(key, k -> new long[3]);
+		delta[0] += inflow;
+		delta[1] += outflow;
+		delta[2]++;
+	}
+
+	@Value
+	private static class Key {
+		Integer userId;
+		PeriodType periodType;
+		LocalDate periodStart;
+		String memo;
+	}
+}
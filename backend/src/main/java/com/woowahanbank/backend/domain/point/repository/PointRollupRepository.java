@@ -0,0 +1,14 @@
+package com.woowahanbank.backend.domain.point.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.woowahanbank.backend.domain.point.domain.PeriodType;
+import com.woowahanbank.backend.domain.point.domain.PointRollup;
+
+public interface PointRollupRepository extends JpaRepository<PointRollup, Long> {
+	List<PointRollup> findAllByUserIdAndPeriodTypeAndPeriodStartBetweenOrderByPeriodStartDesc(Integer userId,
+		PeriodType periodType, LocalDate from, LocalDate to);
+}
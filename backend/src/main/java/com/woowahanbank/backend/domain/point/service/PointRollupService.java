@@ -0,0 +1,60 @@
+package com.woowahanbank.backend.domain.point.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.woowahanbank.backend.domain.point.domain.PeriodType;
+import com.woowahanbank.backend.domain.point.domain.PointRollup;
+import com.woowahanbank.backend.domain.point.dto.PointEntry;
+import com.woowahanbank.backend.domain.point.dto.PointSummaryDto;
+import com.woowahanbank.backend.domain.point.repository.PointRollupJdbcRepository;
+import com.woowahanbank.backend.domain.point.repository.PointRollupRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class PointRollupService {
+	private final PointRollupRepository pointRollupRepository;
+	private final PointRollupJdbcRepository pointRollupJdbcRepository;
+
+	public void accumulate(List<PointEntry> entries) {
+		pointRollupJdbcRepository.accumulate(entries);
+	}
+
+	@Transactional(readOnly = true)
+	public List<PointSummaryDto> getSummary(Integer userId, PeriodType periodType, LocalDate from, LocalDate to) {
+		LocalDate end = to == null ? LocalDate.now() : to;
+		LocalDate start = from;
+		if (start == null)
+			start = periodType == PeriodType.DAY ? end.minusDays(30) : end.minusMonths(11);
+		if (periodType == PeriodType.MONTH)
+			start = start.withDayOfMonth(1);
+
+		Map<LocalDate, PointSummaryDto> summaries = new LinkedHashMap<>();
+		for (PointRollup rollup : pointRollupRepository
+			.findAllByUserIdAndPeriodTypeAndPeriodStartBetweenOrderByPeriodStartDesc(userId, periodType, start, end)) {
+			PointSummaryDto summary = summaries.computeIfAbsent(rollup.getPeriodStart(),
+				periodStart -> PointSummaryDto.builder().periodStart(periodStart).counts(new HashMap<>()).build());
+			summary.setInflow(summary.getInflow() + rollup.getInflow());
+			summary.setOutflow(summary.getOutflow() + rollup.getOutflow());
+			summary.getCounts().merge(rollup.getMemo(), rollup.getTxCount(), Integer::sum);
+		}
+		return new ArrayList<>(summaries.values());
+	}
+
+	public void rebuild() {
+		pointRollupJdbcRepository.rebuild();
+		log.info("거래 집계 재생성 완료");
+	}
+}
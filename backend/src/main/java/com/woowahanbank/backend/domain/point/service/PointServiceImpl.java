@@ -1,52 +1,82 @@
-package com.woowahanbank.backend.domain.point.service;
-
-import java.util.ArrayList;
-import java.util.List;
-
-import javax.transaction.Transactional;
-
-import org.springframework.stereotype.Service;
-
-import com.woowahanbank.backend.domain.point.domain.Point;
-import com.woowahanbank.backend.domain.point.dto.PointDto;
-import com.woowahanbank.backend.domain.point.repository.PointRepository;
-import com.woowahanbank.backend.domain.user.domain.User;
-import com.woowahanbank.backend.domain.user.repository.UserRepository;
-
-import lombok.RequiredArgsConstructor;
-
-@Service
-@Transactional
-@RequiredArgsConstructor
-public class PointServiceImpl {
-	private final UserRepository userRepository;
-	private final PointRepository pointRepository;
-
-	public List<PointDto> getMyPointList(Long userId) {
-		List<Point> entityList = pointRepository.findAllBySender_IdOrReceiver_IdOrderByIdDesc(userId, userId);
-		List<PointDto> resList = new ArrayList<>();
-		for (int i = 0; i < entityList.size(); i++) {
-			resList.add(changeToDto(entityList.get(i)));
-		}
-		return resList;
-	}
-
-	public void makePoint(User sender, User receiver, String memo, int money) {
-		Point point = Point.builder()
-			.sender(sender).receiver(receiver).amount(money).memo(memo).build();
-		pointRepository.save(point);
-	}
-
-	private PointDto changeToDto(Point point) {
-		User sender = userRepository.findById(point.getSender().getId()).get();
-		User receiver = userRepository.findById(point.getReceiver().getId()).get();
-		return PointDto.builder()
-			.id(point.getId())
-			.senderNickname(sender.getNickname())
-			.receiverNickname(receiver.getNickname())
-			.amount(point.getAmount())
-			.memo(point.getMemo())
-			.time(point.getTime())
-			.build();
-	}
-}
+package com.woowahanbank.backend.domain.point.service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.transaction.Transactional;
+
+import org.springframework.stereotype.Service;
+
+import com.woowahanbank.backend.domain.point.domain.Point;
+import com.woowahanbank.backend.domain.point.dto.PointDto;
+import com.woowahanbank.backend.domain.point.dto.PointEntry;
+import com.woowahanbank.backend.domain.point.dto.PointPageDto;
+import com.woowahanbank.backend.domain.point.repository.PointJdbcRepository;
+import com.woowahanbank.backend.domain.point.repository.PointRepository;
+import com.woowahanbank.backend.domain.user.domain.User;
+import com.woowahanbank.backend.domain.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class PointServiceImpl {
+	private static final int MAX_PAGE_SIZE = 100;
+
+	private final UserRepository userRepository;
+	private final PointRepository pointRepository;
+	private final PointJdbcRepository pointJdbcRepository;
+	private final PointRollupService pointRollupService;
+
+	// 한 건을 더 읽어 다음 페이지가 있는지 판단한다.
+	public PointPageDto getMyPointList(Long userId, Long lastId, int size) {
+		int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		List<PointEntry> rows = pointJdbcRepository.findHistoryPage(userId, lastId == null ? Long.MAX_VALUE : lastId,
+			pageSize + 1);
+		boolean hasNext = rows.size() > pageSize;
+		List<PointEntry> page = hasNext ? rows.subList(0, pageSize) : rows;
+		// 페이지에 등장하는 유저의 닉네임을 한 번에 조회한다. 닉네임이 없는 유저(관리자 계정 등)도 있어 toMap 대신 put으로 모은다.
+		Set<Integer> userIds = new HashSet<>();
+		for (PointEntry entry : page) {
+			userIds.add(entry.getSenderId());
+			userIds.add(entry.getReceiverId());
+		}
+		Map<Integer, String> nicknames = userRepository.findAllById(userIds).stream()
+			.collect(HashMap::new, (map, user) -> map.put(user.getId(), user.getNickname()), HashMap::putAll);
+		return PointPageDto.builder()
+			.points(page.stream().map(entry -> changeToDto(entry, nicknames)).collect(Collectors.toList()))
+			.lastId(hasNext ? page.get(page.size() - 1).getId() : null)
+			.hasNext(hasNext)
+			.build();
+	}
+
+	public void makePoint(User sender, User receiver, String memo, int money) {
+		Point point = Point.builder()
+			.sender(sender).receiver(receiver).amount(money).memo(memo).build();
+		pointRepository.save(point);
+		pointRollupService.accumulate(List.of(PointEntry.builder()
+			.senderId(sender.getId()).receiverId(receiver.getId()).amount(money).memo(memo).time(point.getTime())
+			.build()));
+	}
+
+	public void makePoints(List<PointEntry> entries) {
+		pointJdbcRepository.batchInsert(entries);
+		pointRollupService.accumulate(entries);
+	}
+
+	private PointDto changeToDto(PointEntry entry, Map<Integer, String> nicknames) {
+		return PointDto.builder()
+			.id(entry.getId())
+			.senderNickname(nicknames.get(entry.getSenderId()))
+			.receiverNickname(nicknames.get(entry.getReceiverId()))
+			.amount(entry.getAmount())
+			.memo(entry.getMemo())
+			.time(entry.getTime())
+			.build();
+	}
+}
@@ -0,0 +1,118 @@
+package com.woowahanbank.backend.domain.quiz.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.woowahanbank.backend.domain.quiz.domain.Quiz;
+import com.woowahanbank.backend.domain.quiz.dto.GptMessage;
+import com.woowahanbank.backend.domain.quiz.dto.GptRequestDto;
+import com.woowahanbank.backend.domain.quiz.dto.GptResponseDto;
+import com.woowahanbank.backend.global.outbound.OutboundClient;
+import com.woowahanbank.backend.global.outbound.OutboundClients;
+import com.woowahanbank.backend.global.util.JwtTokenUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * OpenAI chat completions로 5지 선다 금융 퀴즈를 만든다.
+ * 요청 헤더는 생성 시 한 번만 만들고 이후에는 읽기만 하므로 여러 스레드에서 써도 된다.
+ * 호출은 openai 전용 {@link OutboundClient} 를 거치므로 풀, 타임아웃, 동시 호출 수가 다른 외부 호출과 분리된다.
+ */
+@Component
+@ConditionalOnProperty(name = "quiz.client", havingValue = "openai", matchIfMissing = true)
+@Slf4j
+public class OpenAiQuizGenerationClient implements QuizGenerationClient {
+    private static final String GPT_PATH = "/v1/chat/completions";
+    private static final String PROMPT = "너는 똑똑한 경제 선생님이야, 쉬운 문제 중심으로 금융 문제 1개를 5지 선다로 내어줘"
+            + " 항상 아래와 같은 형식을 맞추어서 대답해줘 그리고 각 형식은 한 줄로 만 답 해주고 한국말로 답해줘"
+            + "시작: (오늘 날짜)\n"
+            + "문제: (문제, 글자수는 30글자 이하로)\n"
+            + "1번 선지: (1번 선지, 선지는 무조건 숫자로만)\n"
+            + "2번 선지: (2번 선지, 선지는 무조건 숫자로만)\n"
+            + "3번 선지: (3번 선지, 선지는 무조건 숫자로만)\n"
+            + "4번 선지: (4번 선지, 선지는 무조건 숫자로만)\n"
+            + "5번 선지: (5번 선지, 선지는 무조건 숫자로만)n"
+            + "정답: (무조건 정답 선지 번호만 출력해, 앞에 '정답: '를 꼭 넣어줘)\n"
+            + "해설: (해설, 앞에 '해설: '를 꼭 넣어줘)\n";
+    // 문자열에서 데이터 추출을 위한 정규 표현식 패턴
+    private static final Pattern LINE = Pattern.compile("(문제|1번 선지|2번 선지|3번 선지|4번 선지|5번 선지|정답|해설):\\s*(.*)");
+
+    private enum Field {QUESTION, CHOICE1, CHOICE2, CHOICE3, CHOICE4, CHOICE5, ANSWER, COMMENTARY}
+
+    private static final Map<String, Field> FIELDS = Map.of(
+            "문제", Field.QUESTION,
+            "1번 선지", Field.CHOICE1,
+            "2번 선지", Field.CHOICE2,
+            "3번 선지", Field.CHOICE3,
+            "4번 선지", Field.CHOICE4,
+            "5번 선지", Field.CHOICE5,
+            "정답", Field.ANSWER,
+            "해설", Field.COMMENTARY);
+
+    private final OutboundClient outboundClient;
+    private final HttpHeaders headers;
+    private final ObjectMapper objectMapper;
+    private final String model;
+
+    public OpenAiQuizGenerationClient(ObjectMapper objectMapper, OutboundClients outboundClients,
+                                      @Value("${gpt.key}") String gptKey,
+                                      @Value("${quiz.gpt.model:gpt-3.5-turbo}") String model) {
+        this.objectMapper = objectMapper;
+        this.model = model;
+        this.outboundClient = outboundClients.get(OutboundClients.OPENAI);
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.setContentType(MediaType.APPLICATION_JSON);
+        httpHeaders.set(JwtTokenUtil.HEADER_STRING, JwtTokenUtil.TOKEN_PREFIX + gptKey);
+        this.headers = HttpHeaders.readOnlyHttpHeaders(httpHeaders);
+    }
+
+    @Override
+    public Quiz generate() throws Exception {
+        GptRequestDto gptRequestDto = GptRequestDto.builder()
+                .model(model)
+                .messages(List.of(new GptMessage("system", PROMPT)))
+                .build();
+        HttpEntity<String> entity = new HttpEntity<>(objectMapper.writeValueAsString(gptRequestDto), headers);
+        ResponseEntity<String> response = outboundClient.execute(
+                rt -> rt.exchange(GPT_PATH, HttpMethod.POST, entity, String.class));
+        if (!response.getStatusCode().is2xxSuccessful())
+            throw new IllegalStateException("GPT 응답 오류: " + response.getStatusCode());
+
+        GptResponseDto gptResponseDto = objectMapper.readValue(response.getBody(), GptResponseDto.class);
+        String content = gptResponseDto.getChoices().get(0).getMessage().getContent();
+        log.info("AI 질문 Generate: {}", content);
+        return parse(content);
+    }
+
+    private Quiz parse(String content) {
+        Map<Field, String> values = new EnumMap<>(Field.class);
+        for (String part : content.split("\n")) {
+            Matcher matcher = LINE.matcher(part.trim());
+            if (matcher.matches())
+                values.put(FIELDS.get(matcher.group(1)), matcher.group(2));
+        }
+        if (!values.containsKey(Field.QUESTION) || !values.containsKey(Field.ANSWER))
+            throw new IllegalStateException("GPT 응답 형식이 올바르지 않습니다.");
+        return Quiz.builder()
+                .quizQuestion(values.get(Field.QUESTION))
+                .quizChoice1(values.getOrDefault(Field.CHOICE1, ""))
+                .quizChoice2(values.getOrDefault(Field.CHOICE2, ""))
+                .quizChoice3(values.getOrDefault(Field.CHOICE3, ""))
+                .quizChoice4(values.getOrDefault(Field.CHOICE4, ""))
+                .quizChoice5(values.getOrDefault(Field.CHOICE5, ""))
+                .quizAnswer(values.get(Field.ANSWER))
+                .quizCommentary(values.getOrDefault(Field.COMMENTARY, ""))
+                .build();
+    }
+}
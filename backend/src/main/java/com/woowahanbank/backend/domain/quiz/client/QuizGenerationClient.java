@@ -0,0 +1,13 @@
+package com.woowahanbank.backend.domain.quiz.client;
+
+import com.woowahanbank.backend.domain.quiz.domain.Quiz;
+
+/**
+ * 퀴즈 생성 클라이언트. 테스트나 로컬에서는 OpenAI 대신 고정 문제를 돌려주는 구현으로 바꿔 끼울 수 있다.
+ */
+public interface QuizGenerationClient {
+    /**
+     * 아직 저장하지 않은 새 퀴즈를 만든다. 생성에 실패하면 예외를 던진다.
+     */
+    Quiz generate() throws Exception;
+}
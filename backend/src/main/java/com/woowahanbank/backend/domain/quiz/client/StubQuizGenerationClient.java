@@ -0,0 +1,31 @@
+package com.woowahanbank.backend.domain.quiz.client;
+
+import com.woowahanbank.backend.domain.quiz.domain.Quiz;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 외부 호출 없이 고정된 형식의 문제를 만드는 클라이언트. quiz.client=stub 일 때 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "quiz.client", havingValue = "stub")
+public class StubQuizGenerationClient implements QuizGenerationClient {
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public Quiz generate() {
+        long n = sequence.incrementAndGet();
+        return Quiz.builder()
+                .quizQuestion("1000원을 넣고 " + n + "00원을 더 넣으면 모두 얼마일까요?")
+                .quizChoice1(String.valueOf(1000 + n * 100))
+                .quizChoice2(String.valueOf(1000 + n * 100 + 100))
+                .quizChoice3(String.valueOf(1000 + n * 100 + 200))
+                .quizChoice4(String.valueOf(1000 + n * 100 + 300))
+                .quizChoice5(String.valueOf(1000 + n * 100 + 400))
+                .quizAnswer("1")
+                .quizCommentary("넣은 돈을 모두 더하면 됩니다.")
+                .build();
+    }
+}
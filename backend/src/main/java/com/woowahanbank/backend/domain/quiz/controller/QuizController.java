@@ -2,18 +2,19 @@ package com.woowahanbank.backend.domain.quiz.controller;
 
 import java.util.Optional;
 
-import com.woowahanbank.backend.domain.quiz.dto.QuizPoint;
+import com.woowahanbank.backend.domain.quiz.dto.QuizAnswer;
+import com.woowahanbank.backend.domain.quiz.dto.QuizSnapshot;
 import com.woowahanbank.backend.global.response.BaseResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import com.woowahanbank.backend.domain.quiz.domain.Quiz;
 import com.woowahanbank.backend.domain.quiz.service.QuizService;
-import com.woowahanbank.backend.domain.user.domain.User;
 import com.woowahanbank.backend.global.auth.security.CustomUserDetails;
+import com.woowahanbank.backend.global.idempotency.Idempotent;
 
 @RestController
 @RequestMapping("/api/quiz")
@@ -27,9 +28,9 @@ public class QuizController {
 	}
 
 	@GetMapping("/todayQuiz")
-	public ResponseEntity<Quiz> getQuiz(@AuthenticationPrincipal CustomUserDetails customUserDetails) {
-		Optional<Quiz> todayQuiz = quizService.findTodayQuiz();
-		return todayQuiz.map(quiz -> ResponseEntity.ok().body(quiz))
+	public ResponseEntity<String> getQuiz(@AuthenticationPrincipal CustomUserDetails customUserDetails) {
+		Optional<QuizSnapshot> todayQuiz = quizService.findTodayQuiz();
+		return todayQuiz.map(quiz -> ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(quiz.getJson()))
 			.orElseGet(() -> ResponseEntity.notFound().build());
 	}
 
@@ -39,27 +40,25 @@ public class QuizController {
 		return ResponseEntity.ok("Quiz 생성 요청이 수행되었습니다.");
 	}
 
-	@PutMapping("/updatePoint")
-	public ResponseEntity<?> updatePoint(@AuthenticationPrincipal CustomUserDetails customUserDetails, @RequestBody QuizPoint quizPoint){
-		User user = customUserDetails.getUser();
-		Long point = Long.valueOf(quizPoint.getQuizPoint());
-		quizService.saveQuizPoint(user, point);
-		return BaseResponse.ok(HttpStatus.OK, "포인트 업데이트 됨");
-	}
-
-
-
 	@DeleteMapping("/deleteQuiz")
 	public ResponseEntity<String> deleteQuiz() {
 		quizService.deleteQuiz();
 		return ResponseEntity.ok("Quiz를 전부 삭제 했습니다.");
 	}
 
-	@PostMapping("/solved")
-	public ResponseEntity<String> solvedQuiz(@AuthenticationPrincipal CustomUserDetails customUserDetails) {
-		User user = customUserDetails.getUser();
-		quizService.solvedQuiz(user);
-		return ResponseEntity.ok("Quiz를 푸셨습니다.");
+	@Idempotent
+	@PostMapping("/answer")
+	public ResponseEntity<?> submitAnswer(@AuthenticationPrincipal CustomUserDetails customUserDetails,
+		@RequestBody QuizAnswer quizAnswer) {
+		return BaseResponse.okWithData(HttpStatus.OK, "퀴즈 답안을 제출했습니다.",
+			quizService.submitAnswer(customUserDetails.getUser(), quizAnswer));
+	}
+
+	@GetMapping("/{quizId}/stats")
+	public ResponseEntity<?> getStats(@AuthenticationPrincipal CustomUserDetails customUserDetails,
+		@PathVariable Long quizId) {
+		return BaseResponse.okWithData(HttpStatus.OK, "퀴즈 통계를 조회했습니다.",
+			quizService.getStats(quizId, customUserDetails.getUser()));
 	}
 
 }
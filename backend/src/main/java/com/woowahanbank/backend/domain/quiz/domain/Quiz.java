@@ -2,13 +2,14 @@ package com.woowahanbank.backend.domain.quiz.domain;
 
 import javax.persistence.*;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.sun.istack.NotNull;
 import com.woowahanbank.backend.domain.quiz.dto.QuizDto;
 
 import lombok.*;
 
 @Entity
-@Table(name = "quiz")
+@Table(name = "quiz", indexes = @Index(name = "uk_quiz_served_period", columnList = "served_period", unique = true))
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -37,6 +38,14 @@ public class Quiz {
 	@Column(name = "quiz_question", length = 1000)
 	private String quizQuestion;
 
+	// 출제된 10분 구간 번호. 구간마다 한 문제만 가질 수 있고, 아직 출제되지 않은 풀의 문제는 null 이다.
+	@JsonIgnore
+	private Long servedPeriod;
+
+	public void serve(long period) {
+		this.servedPeriod = period;
+	}
+
 	// @NotNull
 	// @Column(name = "quiz_detail", length = 3000)
 	// private String quizDetail;
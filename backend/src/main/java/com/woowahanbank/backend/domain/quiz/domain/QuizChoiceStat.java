@@ -0,0 +1,30 @@
+package com.woowahanbank.backend.domain.quiz.domain;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 퀴즈 선지별 응답 수 집계. (퀴즈, 선지)마다 한 행을 유지한다.
+ */
+@Entity
+@Table(name = "quiz_choice_stat", uniqueConstraints = @UniqueConstraint(name = "uk_quiz_choice_stat",
+	columnNames = {"quiz_id", "choice"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class QuizChoiceStat {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+	private Long quizId;
+	private int choice;
+	private boolean correct;
+	private long attempts;
+}
@@ -0,0 +1,30 @@
+package com.woowahanbank.backend.domain.quiz.domain;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 퀴즈별 가족 참여 집계. (퀴즈, 가족)마다 한 행을 유지한다.
+ */
+@Entity
+@Table(name = "quiz_family_stat", uniqueConstraints = @UniqueConstraint(name = "uk_quiz_family_stat",
+	columnNames = {"quiz_id", "family_id"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class QuizFamilyStat {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+	private Long quizId;
+	private Long familyId;
+	private long attempts;
+	private long correctCount;
+}
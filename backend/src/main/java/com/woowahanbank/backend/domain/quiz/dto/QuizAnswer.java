@@ -1,12 +1,12 @@
-package com.woowahanbank.backend.domain.quiz.dto;
-
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@AllArgsConstructor
-@NoArgsConstructor
-public class QuizPoint {
-    int quizPoint;
-}
+package com.woowahanbank.backend.domain.quiz.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuizAnswer {
+    int choice;
+}
@@ -0,0 +1,22 @@
+package com.woowahanbank.backend.domain.quiz.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채점 결과. 정답 선지와 해설은 답안을 제출한 뒤에만 알려준다.
+ */
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuizAnswerResultDto {
+    private Long quizId;
+    private boolean correct;
+    private int answerChoice;
+    private String commentary;
+    private long point;
+}
@@ -0,0 +1,35 @@
+package com.woowahanbank.backend.domain.quiz.dto;
+
+import com.woowahanbank.backend.domain.quiz.domain.Quiz;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 출제 중인 퀴즈의 문제와 선지. 정답과 해설은 답안을 제출한 뒤 QuizAnswerResultDto 로만 내려준다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class QuizQuestionDto {
+    private Long id;
+    private String quizChoice1;
+    private String quizChoice2;
+    private String quizChoice3;
+    private String quizChoice4;
+    private String quizChoice5;
+    private String quizQuestion;
+
+    public static QuizQuestionDto from(Quiz quiz) {
+        return QuizQuestionDto.builder()
+                .id(quiz.getId())
+                .quizChoice1(quiz.getQuizChoice1())
+                .quizChoice2(quiz.getQuizChoice2())
+                .quizChoice3(quiz.getQuizChoice3())
+                .quizChoice4(quiz.getQuizChoice4())
+                .quizChoice5(quiz.getQuizChoice5())
+                .quizQuestion(quiz.getQuizQuestion())
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.woowahanbank.backend.domain.quiz.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 지금 출제 중인 퀴즈의 불변 스냅샷. 응답 본문은 미리 직렬화해 둔다.
+ * 본문에는 문제와 선지만 담고, 정답과 해설은 채점 결과로만 내려준다.
+ */
+@Getter
+@AllArgsConstructor
+public class QuizSnapshot {
+	private final Long quizId;
+	private final long period;
+	private final int answerChoice;
+	private final String commentary;
+	private final String json;
+}
@@ -0,0 +1,23 @@
+package com.woowahanbank.backend.domain.quiz.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuizStatsDto {
+    private Long quizId;
+    private long attempts;
+    private long correctCount;
+    // 1번부터 5번 선지까지 고른 수
+    private List<Long> choiceCounts;
+    private long familyCount;
+    private long myFamilyAttempts;
+    private long myFamilyCorrectCount;
+}
@@ -0,0 +1,11 @@
+package com.woowahanbank.backend.domain.quiz.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.woowahanbank.backend.domain.quiz.domain.QuizChoiceStat;
+
+public interface QuizChoiceStatRepository extends JpaRepository<QuizChoiceStat, Long> {
+	List<QuizChoiceStat> findAllByQuizIdOrderByChoice(Long quizId);
+}
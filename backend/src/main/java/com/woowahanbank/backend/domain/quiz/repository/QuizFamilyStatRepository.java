@@ -0,0 +1,13 @@
+package com.woowahanbank.backend.domain.quiz.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.woowahanbank.backend.domain.quiz.domain.QuizFamilyStat;
+
+public interface QuizFamilyStatRepository extends JpaRepository<QuizFamilyStat, Long> {
+	long countByQuizId(Long quizId);
+
+	Optional<QuizFamilyStat> findByQuizIdAndFamilyId(Long quizId, Long familyId);
+}
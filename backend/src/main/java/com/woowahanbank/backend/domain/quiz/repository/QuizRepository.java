@@ -2,14 +2,30 @@ package com.woowahanbank.backend.domain.quiz.repository;
 
 import java.util.Optional;
 
+import javax.persistence.LockModeType;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.woowahanbank.backend.domain.quiz.domain.Quiz;
-import com.woowahanbank.backend.domain.quiz.dto.QuizDto;
 
 @Repository
 public interface QuizRepository extends JpaRepository<Quiz, Long> {
 
+	Optional<Quiz> findTopByServedPeriodIsNotNullOrderByServedPeriodDesc();
+
+	Optional<Quiz> findByServedPeriod(long servedPeriod);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<Quiz> findFirstByServedPeriodIsNullOrderByIdAsc();
+
+	long countByServedPeriodIsNull();
 
+	@Modifying
+	@Query("DELETE FROM Quiz q WHERE q.servedPeriod < :period")
+	int deleteServedBefore(@Param("period") long period);
 }
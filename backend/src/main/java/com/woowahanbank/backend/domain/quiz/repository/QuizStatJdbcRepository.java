@@ -0,0 +1,64 @@
+package com.woowahanbank.backend.domain.quiz.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+/**
+ * 퀴즈 응답 집계 반영용 JDBC 저장소. 메모리에 모아 둔 증분을 배치 upsert로 더한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuizStatJdbcRepository {
+	private static final String UPSERT_CHOICE =
+		"INSERT INTO quiz_choice_stat (quiz_id, choice, correct, attempts) VALUES (?, ?, ?, ?)"
+			+ " ON DUPLICATE KEY UPDATE attempts = attempts + VALUES(attempts)";
+	private static final String UPSERT_FAMILY =
+		"INSERT INTO quiz_family_stat (quiz_id, family_id, attempts, correct_count) VALUES (?, ?, ?, ?)"
+			+ " ON DUPLICATE KEY UPDATE attempts = attempts + VALUES(attempts),"
+			+ " correct_count = correct_count + VALUES(correct_count)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void addChoiceCounts(List<ChoiceDelta> deltas) {
+		if (deltas.isEmpty())
+			return;
+		jdbcTemplate.batchUpdate(UPSERT_CHOICE, deltas, deltas.size(), (ps, delta) -> {
+			ps.setLong(1, delta.getQuizId());
+			ps.setInt(2, delta.getChoice());
+			ps.setBoolean(3, delta.isCorrect());
+			ps.setLong(4, delta.getAttempts());
+		});
+	}
+
+	public void addFamilyCounts(List<FamilyDelta> deltas) {
+		if (deltas.isEmpty())
+			return;
+		jdbcTemplate.batchUpdate(UPSERT_FAMILY, deltas, deltas.size(), (ps, delta) -> {
+			ps.setLong(1, delta.getQuizId());
+			ps.setLong(2, delta.getFamilyId());
+			ps.setLong(3, delta.getAttempts());
+			ps.setLong(4, delta.getCorrectCount());
+		});
+	}
+
+	@Value
+	public static class ChoiceDelta {
+		Long quizId;
+		int choice;
+		boolean correct;
+		long attempts;
+	}
+
+	@Value
+	public static class FamilyDelta {
+		Long quizId;
+		Long familyId;
+		long attempts;
+		long correctCount;
+	}
+}
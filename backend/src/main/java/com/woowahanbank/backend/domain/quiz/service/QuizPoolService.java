@@ -0,0 +1,174 @@
+package com.woowahanbank.backend.domain.quiz.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.woowahanbank.backend.domain.quiz.client.QuizGenerationClient;
+import com.woowahanbank.backend.domain.quiz.domain.Quiz;
+import com.woowahanbank.backend.domain.quiz.dto.QuizQuestionDto;
+import com.woowahanbank.backend.domain.quiz.dto.QuizSnapshot;
+import com.woowahanbank.backend.domain.quiz.repository.QuizRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 퀴즈 풀.
+ * 출제할 문제를 백그라운드에서 미리 만들어 쌓아 두고, 10분 구간마다 가장 오래된 문제를 꺼내 출제한다.
+ * 출제 중인 문제는 불변 스냅샷으로 메모리에 들고 있다가 교체할 때 한 번에 바꿔 끼우므로 조회는 DB를 거치지 않는다.
+ * 생성에 실패하면 간격을 두 배씩 늘리며 다시 시도하고, 그동안 들어온 채우기 요청은 기다리는 재시도에 맡긴다.
+ */
+@Service
+@Slf4j
+public class QuizPoolService {
+    private static final long PERIOD_SECONDS = 600;
+
+    private final QuizRepository quizRepository;
+    private final QuizGenerationClient quizGenerationClient;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int targetSize;
+    private final long retryInitialMillis;
+    private final long retryMaxMillis;
+    private final ScheduledExecutorService generator = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "quiz-pool");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean filling = new AtomicBoolean();
+    private final AtomicReference<QuizSnapshot> current = new AtomicReference<>();
+    // 생성 스레드에서만 읽고 쓴다.
+    private long retryDelayMillis;
+
+    public QuizPoolService(QuizRepository quizRepository, QuizGenerationClient quizGenerationClient,
+                           ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                           @Value("${quiz.pool.target-size:3}") int targetSize,
+                           @Value("${quiz.pool.retry-initial-ms:1000}") long retryInitialMillis,
+                           @Value("${quiz.pool.retry-max-ms:600000}") long retryMaxMillis) {
+        this.quizRepository = quizRepository;
+        this.quizGenerationClient = quizGenerationClient;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.targetSize = targetSize;
+        this.retryInitialMillis = retryInitialMillis;
+        this.retryMaxMillis = retryMaxMillis;
+        this.retryDelayMillis = retryInitialMillis;
+    }
+
+    public static long currentPeriod() {
+        return Instant.now().getEpochSecond() / PERIOD_SECONDS;
+    }
+
+    public Optional<QuizSnapshot> current() {
+        return Optional.ofNullable(current.get());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rotate();
+    }
+
+    // 이번 구간의 문제로 바꿔 끼운다. 여러 서버가 동시에 돌려도 구간마다 같은 문제를 고르도록 DB에서 정한다.
+    // served_period 는 유니크이므로 두 서버가 서로 다른 문제를 같은 구간에 배정하면 늦은 쪽이 실패하고, 먼저 배정된 문제를 다시 읽는다.
+    public void rotate() {
+        long period = currentPeriod();
+        Quiz quiz;
+        try {
+            quiz = transactionTemplate.execute(status -> claim(period));
+        } catch (DataIntegrityViolationException e) {
+            log.info("다른 서버가 {} 구간 퀴즈를 먼저 배정했습니다.", period);
+            quiz = quizRepository.findByServedPeriod(period).orElse(null);
+        }
+        if (quiz != null) {
+            QuizSnapshot snapshot = current.get();
+            if (snapshot == null || !snapshot.getQuizId().equals(quiz.getId()))
+                current.set(toSnapshot(quiz));
+        }
+        refill();
+    }
+
+    public void refill() {
+        if (!filling.compareAndSet(false, true))
+            return;
+        generator.execute(this::fill);
+    }
+
+    // 실패하면 filling 을 잡은 채로 재시도를 예약하므로, 기다리는 동안 다른 요청이 생성을 다시 부르지 않는다.
+    private void fill() {
+        try {
+            while (quizRepository.countByServedPeriodIsNull() < targetSize)
+                quizRepository.save(quizGenerationClient.generate());
+        } catch (Exception e) {
+            long delay = retryDelayMillis;
+            retryDelayMillis = Math.min(retryDelayMillis * 2, retryMaxMillis);
+            log.warn("퀴즈 생성 실패, {}ms 후 재시도: {}", delay, e.getMessage());
+            if (!generator.isShutdown())
+                generator.schedule(this::fill, delay, TimeUnit.MILLISECONDS);
+            return;
+        }
+        retryDelayMillis = retryInitialMillis;
+        filling.set(false);
+        // 풀이 비어 출제하지 못했던 경우 새로 만든 문제로 바로 출제한다.
+        if (current.get() == null)
+            rotate();
+    }
+
+    public void clear() {
+        quizRepository.deleteAll();
+        current.set(null);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        generator.shutdownNow();
+    }
+
+    private Quiz claim(long period) {
+        Optional<Quiz> latest = quizRepository.findTopByServedPeriodIsNotNullOrderByServedPeriodDesc();
+        if (latest.isPresent() && latest.get().getServedPeriod() == period)
+            return latest.get();
+        Optional<Quiz> next = quizRepository.findFirstByServedPeriodIsNullOrderByIdAsc();
+        if (next.isEmpty()) {
+            // 풀이 비었으면 지난 문제를 계속 출제한다.
+            log.warn("출제할 퀴즈가 풀에 없습니다.");
+            return latest.orElse(null);
+        }
+        next.get().serve(period);
+        quizRepository.saveAndFlush(next.get());
+        quizRepository.deleteServedBefore(period);
+        return next.get();
+    }
+
+    private QuizSnapshot toSnapshot(Quiz quiz) {
+        try {
+            return new QuizSnapshot(quiz.getId(), quiz.getServedPeriod(), answerChoice(quiz.getQuizAnswer()),
+                    quiz.getQuizCommentary(), objectMapper.writeValueAsString(QuizQuestionDto.from(quiz)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 생성된 정답은 "3" 이나 "3번" 처럼 오므로 첫 숫자를 선지 번호로 쓴다.
+    private static int answerChoice(String quizAnswer) {
+        if (quizAnswer == null)
+            return 0;
+        for (char c : quizAnswer.toCharArray()) {
+            if (c >= '1' && c <= '5')
+                return c - '0';
+        }
+        return 0;
+    }
+}
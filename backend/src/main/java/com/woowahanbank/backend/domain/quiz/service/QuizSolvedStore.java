@@ -0,0 +1,52 @@
+package com.woowahanbank.backend.domain.quiz.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 퀴즈 풀이 여부를 출제 구간별 Redis 비트맵에 기록한다. 유저 id가 비트 위치다.
+ * 구간이 바뀌면 새 키를 쓰고 지난 키는 TTL로 사라지므로 교체할 때 따로 지울 것이 없다.
+ * 풀이 비어 같은 문제를 오래 출제하는 동안 키가 먼저 사라지지 않도록, 교체 주기마다 출제 중인 문제의 키 TTL을 다시 늘린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizSolvedStore {
+    private static final String KEY_PREFIX = "quiz:solved:";
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final QuizPoolService quizPoolService;
+
+    // 이번 구간에 처음 푼 경우에만 true
+    public boolean markSolved(Integer userId) {
+        String key = currentKey();
+        Boolean previous = redisTemplate.opsForValue().setBit(key, userId, true);
+        redisTemplate.expire(key, TTL);
+        return !Boolean.TRUE.equals(previous);
+    }
+
+    // 풀이 기록 뒤 처리가 실패했을 때 다시 제출할 수 있도록 되돌린다.
+    public void unmarkSolved(Integer userId) {
+        redisTemplate.opsForValue().setBit(currentKey(), userId, false);
+    }
+
+    // 출제 중인 문제의 키를 TTL만큼 더 살려 둔다. 교체 주기(10분)가 TTL보다 짧아야 한다.
+    public void touch() {
+        redisTemplate.expire(currentKey(), TTL);
+    }
+
+    public boolean isSolved(Integer userId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().getBit(currentKey(), userId));
+    }
+
+    // 풀이 비어 지난 문제를 계속 출제하는 동안에는 그 문제의 구간 키를 그대로 쓴다.
+    private String currentKey() {
+        long period = quizPoolService.current()
+                .map(snapshot -> snapshot.getPeriod())
+                .orElseGet(QuizPoolService::currentPeriod);
+        return KEY_PREFIX + period;
+    }
+}
@@ -0,0 +1,190 @@
+package com.woowahanbank.backend.domain.quiz.service;
+
+import com.woowahanbank.backend.domain.quiz.repository.QuizStatJdbcRepository;
+import com.woowahanbank.backend.domain.quiz.repository.QuizStatJdbcRepository.ChoiceDelta;
+import com.woowahanbank.backend.domain.quiz.repository.QuizStatJdbcRepository.FamilyDelta;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * 퀴즈 응답 수를 메모리 카운터로 모았다가 주기적으로 DB에 배치 반영한다.
+ * 응답 한 건은 LongAdder 증가뿐이라 새 퀴즈가 나오는 순간 몰려도 DB 쓰기가 늘지 않는다.
+ * 카운터는 초기화하지 않고 마지막으로 반영한 값을 기억해 차이만 보내므로 반영 중에 들어온 응답도 잃지 않는다.
+ * 지난 퀴즈의 카운터는 맵에서 뺀 뒤 이미 집어 든 응답이 끝나기를 기다려 닫고, 남은 증분을 모두 반영하면 버린다.
+ * 두 배치는 한 트랜잭션으로 보내므로 일부만 반영된 채 재시도되어 두 번 더해지는 일이 없다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QuizStatsAggregator {
+    private final QuizStatJdbcRepository quizStatJdbcRepository;
+    private final QuizPoolService quizPoolService;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<ChoiceKey, Counter> choices = new ConcurrentHashMap<>();
+    private final Map<FamilyKey, Counter> families = new ConcurrentHashMap<>();
+    // 맵에서 빠졌지만 아직 반영하지 못한 증분이 남은 카운터
+    private final Map<ChoiceKey, List<Counter>> closedChoices = new ConcurrentHashMap<>();
+    private final Map<FamilyKey, List<Counter>> closedFamilies = new ConcurrentHashMap<>();
+
+    public void record(Long quizId, int choice, boolean correct, Long familyId) {
+        add(choices, new ChoiceKey(quizId, choice, correct), correct);
+        if (familyId != null)
+            add(families, new FamilyKey(quizId, familyId), correct);
+    }
+
+    // 닫힌 카운터를 집어 들었으면 맵에 새로 생긴 카운터로 다시 더한다.
+    private static <K> void add(Map<K, Counter> counters, K key, boolean correct) {
+        while (!counters.computeIfAbsent(key, k -> new Counter()).add(correct)) {
+            // 닫는 쪽이 맵에서 먼저 빼므로 다음 조회는 새 카운터를 돌려준다.
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${quiz.stats.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Long currentQuizId = quizPoolService.current().map(snapshot -> snapshot.getQuizId()).orElse(null);
+        close(choices, closedChoices, key -> key.getQuizId().equals(currentQuizId));
+        close(families, closedFamilies, key -> key.getQuizId().equals(currentQuizId));
+
+        List<ChoiceDelta> choiceDeltas = new ArrayList<>();
+        List<Counter> pending = new ArrayList<>();
+        collect(choices, closedChoices, pending, (key, counter) -> choiceDeltas.add(
+                new ChoiceDelta(key.getQuizId(), key.getChoice(), key.isCorrect(), counter.pendingAttempts)));
+        List<FamilyDelta> familyDeltas = new ArrayList<>();
+        collect(families, closedFamilies, pending, (key, counter) -> familyDeltas.add(
+                new FamilyDelta(key.getQuizId(), key.getFamilyId(), counter.pendingAttempts, counter.pendingCorrect)));
+        if (pending.isEmpty())
+            return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                quizStatJdbcRepository.addChoiceCounts(choiceDeltas);
+                quizStatJdbcRepository.addFamilyCounts(familyDeltas);
+            });
+        } catch (RuntimeException e) {
+            // 트랜잭션이 통째로 롤백되었으므로 증분은 카운터에 남겨 두고 다음 주기에 다시 보낸다.
+            log.warn("퀴즈 통계 반영 실패: {}", e.getMessage());
+            return;
+        }
+        pending.forEach(Counter::commit);
+        dropFlushed(closedChoices);
+        dropFlushed(closedFamilies);
+    }
+
+    // 지난 퀴즈의 카운터를 맵에서 빼고 닫아 닫힌 목록으로 옮긴다.
+    private static <K> void close(Map<K, Counter> counters, Map<K, List<Counter>> closed,
+                                  Predicate<K> isCurrent) {
+        for (Iterator<Map.Entry<K, Counter>> it = counters.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<K, Counter> entry = it.next();
+            if (isCurrent.test(entry.getKey()))
+                continue;
+            Counter counter = entry.getValue();
+            if (counters.remove(entry.getKey(), counter)) {
+                counter.close();
+                closed.computeIfAbsent(entry.getKey(), key -> new ArrayList<>()).add(counter);
+            }
+        }
+    }
+
+    private static <K> void collect(Map<K, Counter> counters, Map<K, List<Counter>> closed, List<Counter> pending,
+                                    BiConsumer<K, Counter> delta) {
+        counters.forEach((key, counter) -> {
+            if (counter.snapshot()) {
+                delta.accept(key, counter);
+                pending.add(counter);
+            }
+        });
+        closed.forEach((key, list) -> list.forEach(counter -> {
+            if (counter.snapshot()) {
+                delta.accept(key, counter);
+                pending.add(counter);
+            }
+        }));
+    }
+
+    private static <K> void dropFlushed(Map<K, List<Counter>> closed) {
+        closed.values().forEach(list -> list.removeIf(counter -> !counter.snapshot()));
+        closed.values().removeIf(List::isEmpty);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @Value
+    private static class ChoiceKey {
+        Long quizId;
+        int choice;
+        boolean correct;
+    }
+
+    @Value
+    private static class FamilyKey {
+        Long quizId;
+        Long familyId;
+    }
+
+    private static class Counter {
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder correct = new LongAdder();
+        // 더하는 중인 응답 수를 재기 위한 입장/퇴장 카운터
+        private final LongAdder entered = new LongAdder();
+        private final LongAdder exited = new LongAdder();
+        private volatile boolean closed;
+        private long flushedAttempts;
+        private long flushedCorrect;
+        private long pendingAttempts;
+        private long pendingCorrect;
+
+        // 닫힌 카운터면 더하지 않고 false
+        boolean add(boolean isCorrect) {
+            entered.increment();
+            try {
+                if (closed)
+                    return false;
+                attempts.increment();
+                if (isCorrect)
+                    correct.increment();
+                return true;
+            } finally {
+                exited.increment();
+            }
+        }
+
+        // 맵에서 뺀 뒤 호출한다. 닫기 전에 들어온 응답이 더하기를 마칠 때까지 기다린다.
+        // 퇴장을 먼저 읽어야 두 합이 같을 때 들어온 응답이 모두 끝났다고 볼 수 있다.
+        void close() {
+            closed = true;
+            while (exited.sum() != entered.sum())
+                Thread.onSpinWait();
+        }
+
+        // 반영할 증분을 계산해 두고, 보낼 것이 있으면 true
+        boolean snapshot() {
+            long totalAttempts = attempts.sum();
+            long totalCorrect = correct.sum();
+            pendingAttempts = totalAttempts - flushedAttempts;
+            pendingCorrect = totalCorrect - flushedCorrect;
+            return pendingAttempts > 0;
+        }
+
+        void commit() {
+            flushedAttempts += pendingAttempts;
+            flushedCorrect += pendingCorrect;
+        }
+    }
+}
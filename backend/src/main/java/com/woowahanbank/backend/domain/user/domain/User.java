@@ -10,6 +10,7 @@ import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
@@ -23,7 +24,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-@Table(name = "`user`")
+@Table(name = "`user`", indexes = @Index(name = "uk_user_nickname", columnList = "nickname", unique = true))
 @Entity(name = "user")
 @NoArgsConstructor
 @Builder
@@ -48,8 +49,6 @@ public class User {
 	@Column(name = "money", nullable = false, columnDefinition = "bigint default 0")
 	private Long money;
 
-	private Long quiz;
-
 	private Integer score;
 
 	@Enumerated(EnumType.STRING)
@@ -69,10 +68,6 @@ public class User {
 		this.family = family;
 	}
 
-	public void moneyTransfer(long money) {
-		this.money += money;
-	}
-
 	public void setUser(SignupDto signupDto) {
 		this.nickname = signupDto.getNickname();
 		this.roles = signupDto.getRoles();
@@ -92,16 +87,4 @@ public class User {
 			.build();
 	}
 
-	public void solvedQuiz(Long quiz) {
-		this.quiz = quiz;
-	}
-
-	public void updatePoint(Long plusMoney) {
-		this.money += plusMoney;
-	}
-
-	public void minusPoint(Long plusMoney) {
-		this.money -= plusMoney;
-	}
-
 }
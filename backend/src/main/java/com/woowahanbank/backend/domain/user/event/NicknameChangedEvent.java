@@ -0,0 +1,20 @@
+package com.woowahanbank.backend.domain.user.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import lombok.Getter;
+
+/**
+ * 유저 닉네임이 새로 정해지거나 바뀌었을 때 발행한다. 처음 정해진 경우 oldNickname은 null이다.
+ */
+@Getter
+public class NicknameChangedEvent extends ApplicationEvent {
+	private final String oldNickname;
+	private final String newNickname;
+
+	public NicknameChangedEvent(Object source, String oldNickname, String newNickname) {
+		super(source);
+		this.oldNickname = oldNickname;
+		this.newNickname = newNickname;
+	}
+}
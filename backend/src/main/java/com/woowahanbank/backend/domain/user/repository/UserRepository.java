@@ -3,6 +3,9 @@ package com.woowahanbank.backend.domain.user.repository;
         import com.woowahanbank.backend.domain.family.domain.Family;
         import com.woowahanbank.backend.domain.user.domain.User;
         import org.springframework.data.jpa.repository.JpaRepository;
+        import org.springframework.data.jpa.repository.Modifying;
+        import org.springframework.data.jpa.repository.Query;
+        import org.springframework.data.repository.query.Param;
         import org.springframework.stereotype.Repository;
 
         import java.util.List;
@@ -14,8 +17,17 @@ public interface UserRepository extends JpaRepository<User, Integer> {
 
     Optional<User> findByNickname(String nickname);
 
-    List<User> findNicknameByNicknameContaining(String keyword);
+    boolean existsByNickname(String nickname);
+
+    @Query("SELECT u.nickname FROM user u WHERE u.nickname IS NOT NULL")
+    List<String> findAllNicknames();
 
     List<User> findByFamily(Family family);
 
+    // 잔액이 음수가 되지 않는 경우에만 반영하고, 반영된 행 수를 돌려준다.
+    // 영속성 컨텍스트를 비우지 않으므로 이미 읽어 둔 엔티티는 BalanceLedgerService가 직접 새로 읽는다.
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE user u SET u.money = u.money + :delta WHERE u.id = :id AND u.money + :delta >= 0")
+    int addMoney(@Param("id") Integer id, @Param("delta") long delta);
+
 }
@@ -0,0 +1,207 @@
+package com.woowahanbank.backend.domain.user.service;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.google.common.hash.Hashing;
+import com.woowahanbank.backend.domain.user.event.NicknameChangedEvent;
+import com.woowahanbank.backend.domain.user.repository.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 닉네임 사용 가능 여부 확인. 사용 중인 닉네임을 Redis 비트맵 블룸 필터에 담아 두고, 필터에 없는 닉네임은 DB 조회 없이 바로 사용 가능으로 답한다.
+ * 필터가 "있을 수도 있다"고 한 닉네임과 필터가 아직 없을 때만 닉네임 인덱스로 존재 여부를 확인한다.
+ * 필터는 모든 서버가 같이 쓰므로 어느 서버에서 바뀐 닉네임이든 저장 직후부터 다른 서버의 확인에도 걸린다.
+ * 필터에서는 지울 수 없으므로 한 서버가 주기적으로 비어 있는 쪽 비트맵에 새로 만들어 바꿔 끼운다.
+ * 만드는 동안 저장된 닉네임은 스크립트가 새 비트맵에도 같이 넣는다.
+ * 여기서 답한 결과는 참고용이고, 실제 중복은 저장할 때 다시 확인하고 유니크 인덱스로 막는다.
+ */
+@Service
+@Slf4j
+public class NicknameAvailabilityService {
+	private static final String CURRENT_KEY = "nickname:bloom:current";
+	private static final String NEXT_KEY = "nickname:bloom:next";
+	private static final String LOCK_KEY = "nickname:bloom:lock";
+	private static final String TMP_KEY = "nickname:bloom:tmp";
+	private static final String BITMAP_A = "nickname:bloom:a";
+	private static final String BITMAP_B = "nickname:bloom:b";
+	private static final long[] BOUNDS_MICROS = {100, 250, 500, 1000, 2500, 5000, 10000, 25000, 50000, 100000,
+		Long.MAX_VALUE};
+
+	// 지금 쓰는 비트맵과, 재구성 중이면 새 비트맵에도 같이 넣는다.
+	private static final RedisScript<Long> PUT = new DefaultRedisScript<>(
+		"for _, pointer in ipairs(KEYS) do "
+			+ "local key = redis.call('GET', pointer) "
+			+ "if key then for i = 1, #ARGV do redis.call('SETBIT', key, ARGV[i], 1) end end "
+			+ "end "
+			+ "return 1", Long.class);
+	// 필터가 없으면 -1, 비트 하나라도 꺼져 있으면 0, 모두 켜져 있으면 1
+	private static final RedisScript<Long> MIGHT_CONTAIN = new DefaultRedisScript<>(
+		"local key = redis.call('GET', KEYS[1]) "
+			+ "if not key then return -1 end "
+			+ "for i = 1, #ARGV do if redis.call('GETBIT', key, ARGV[i]) == 0 then return 0 end end "
+			+ "return 1", Long.class);
+
+	private final UserRepository userRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final long bits;
+	private final int hashes;
+	private final Duration rebuildLock;
+	private final LongAdder checks = new LongAdder();
+	private final LongAdder dbLookups = new LongAdder();
+	private final LongAdder falsePositives = new LongAdder();
+	private final AtomicLongArray latency = new AtomicLongArray(BOUNDS_MICROS.length);
+	private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+	public NicknameAvailabilityService(UserRepository userRepository, RedisTemplate<String, String> redisTemplate,
+		@Value("${user.nickname-filter.expected-nicknames:2000000}") long expectedNicknames,
+		@Value("${user.nickname-filter.false-positive-rate:0.01}") double falsePositiveRate,
+		@Value("${user.nickname-filter.rebuild-interval-ms:600000}") long rebuildIntervalMillis) {
+		this.userRepository = userRepository;
+		this.redisTemplate = redisTemplate;
+		// 모든 서버가 같은 비트 위치를 쓰도록 크기는 재구성 때 세지 않고 설정값으로 고정한다.
+		this.bits = (long)Math.ceil(-expectedNicknames * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		this.hashes = Math.max(1, (int)Math.round((double)bits / expectedNicknames * Math.log(2)));
+		// 한 주기에 한 서버만 재구성하도록 잠금은 주기보다 조금 짧게 둔다.
+		this.rebuildLock = Duration.ofMillis(rebuildIntervalMillis * 9 / 10);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(initialDelayString = "${user.nickname-filter.rebuild-interval-ms:600000}",
+		fixedDelayString = "${user.nickname-filter.rebuild-interval-ms:600000}")
+	public void rebuild() {
+		if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", rebuildLock)))
+			return;
+		try {
+			String next = BITMAP_A.equals(redisTemplate.opsForValue().get(CURRENT_KEY)) ? BITMAP_B : BITMAP_A;
+			redisTemplate.delete(next);
+			redisTemplate.opsForValue().set(NEXT_KEY, next);
+			List<String> nicknames = userRepository.findAllNicknames();
+			byte[] bitmap = new byte[(int)((bits + 7) / 8)];
+			for (String nickname : nicknames) {
+				for (long position : positions(nickname))
+					bitmap[(int)(position >>> 3)] |= (byte)(0x80 >>> (position & 7));
+			}
+			// 그 사이에 스크립트가 새 비트맵에 넣은 비트를 지우지 않도록 덮어쓰지 않고 OR 한다.
+			redisTemplate.execute((RedisCallback<Void>)connection -> {
+				byte[] tmp = TMP_KEY.getBytes(StandardCharsets.UTF_8);
+				byte[] target = next.getBytes(StandardCharsets.UTF_8);
+				connection.stringCommands().set(tmp, bitmap);
+				connection.stringCommands().bitOp(RedisStringCommands.BitOperation.OR, target, target, tmp);
+				connection.keyCommands().del(tmp);
+				return null;
+			});
+			redisTemplate.opsForValue().set(CURRENT_KEY, next);
+			redisTemplate.delete(NEXT_KEY);
+			log.info("닉네임 필터 재구성: {}건, 비트 {}개, 해시 {}개", nicknames.size(), bits, hashes);
+		} catch (RuntimeException e) {
+			redisTemplate.delete(List.of(NEXT_KEY, LOCK_KEY));
+			throw e;
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onNicknameChanged(NicknameChangedEvent event) {
+		String nickname = event.getNewNickname();
+		if (nickname == null)
+			return;
+		redisTemplate.execute(PUT, List.of(CURRENT_KEY, NEXT_KEY), arguments(nickname));
+	}
+
+	public boolean isAvailable(String nickname) {
+		long startedAt = System.nanoTime();
+		try {
+			checks.increment();
+			Long answer = redisTemplate.execute(MIGHT_CONTAIN, List.of(CURRENT_KEY), arguments(nickname));
+			if (answer != null && answer == 0)
+				return true;
+			dbLookups.increment();
+			boolean exists = userRepository.existsByNickname(nickname);
+			if (!exists && answer != null && answer == 1)
+				falsePositives.increment();
+			return !exists;
+		} finally {
+			record(System.nanoTime() - startedAt);
+		}
+	}
+
+	// 지난 보고 이후 확인 요청 수, DB까지 간 비율, 필터 오탐 수, 응답 시간 분포를 서버마다 남긴다.
+	@Scheduled(initialDelayString = "${user.nickname-filter.report-interval-ms:600000}",
+		fixedDelayString = "${user.nickname-filter.report-interval-ms:600000}")
+	public void report() {
+		long total = checks.sumThenReset();
+		long lookups = dbLookups.sumThenReset();
+		long misses = falsePositives.sumThenReset();
+		long[] counts = new long[BOUNDS_MICROS.length];
+		for (int i = 0; i < counts.length; i++)
+			counts[i] = latency.getAndSet(i, 0);
+		long max = maxMicros.getThenReset();
+		if (total == 0)
+			return;
+		long negatives = total - lookups + misses;
+		log.info("닉네임 확인 {}건: DB 조회 {}건, 오탐 {}건 (관측 오탐률 {}), p50 {}us, p99 {}us, 최대 {}us", total, lookups,
+			misses, negatives == 0 ? 0.0 : (double)misses / negatives, percentile(counts, 0.5, max),
+			percentile(counts, 0.99, max), max);
+	}
+
+	private void record(long elapsedNanos) {
+		long micros = elapsedNanos / 1_000;
+		int i = 0;
+		while (micros > BOUNDS_MICROS[i])
+			i++;
+		latency.incrementAndGet(i);
+		maxMicros.accumulate(micros);
+	}
+
+	// 백분위는 해당 구간의 상한으로 어림한다.
+	private static long percentile(long[] counts, double percentile, long max) {
+		long total = Arrays.stream(counts).sum();
+		long rank = (long)Math.ceil(total * percentile);
+		long seen = 0;
+		for (int i = 0; i < counts.length; i++) {
+			seen += counts[i];
+			if (seen >= rank)
+				return Math.min(BOUNDS_MICROS[i], max);
+		}
+		return max;
+	}
+
+	private Object[] arguments(String nickname) {
+		return Arrays.stream(positions(nickname)).mapToObj(String::valueOf).toArray();
+	}
+
+	// murmur3 128비트 해시의 두 절반을 섞어 비트 위치 hashes개를 만든다.
+	private long[] positions(String nickname) {
+		ByteBuffer hash = ByteBuffer.wrap(Hashing.murmur3_128().hashString(nickname, StandardCharsets.UTF_8).asBytes())
+			.order(ByteOrder.LITTLE_ENDIAN);
+		long h1 = hash.getLong();
+		long h2 = hash.getLong();
+		long[] positions = new long[hashes];
+		long combined = h1;
+		for (int i = 0; i < hashes; i++) {
+			positions[i] = (combined & Long.MAX_VALUE) % bits;
+			combined += h2;
+		}
+		return positions;
+	}
+}
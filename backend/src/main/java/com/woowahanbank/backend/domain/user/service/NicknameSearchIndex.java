@@ -0,0 +1,246 @@
+package com.woowahanbank.backend.domain.user.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.woowahanbank.backend.domain.user.event.NicknameChangedEvent;
+import com.woowahanbank.backend.domain.user.repository.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가족 초대 검색용 닉네임 색인.
+ * 닉네임을 (길이, 가나다) 순으로 정렬해 번호를 매기고, 2글자 조각마다 그 조각을 포함한 닉네임 번호를 int 배열로 둔다.
+ * 번호 순서가 곧 정렬 순서이므로 배열을 앞에서부터 읽으면 짧은 순, 가나다 순이다.
+ * 1글자 검색어는 그 글자로 시작하는 닉네임만 찾는다. 포함 검색은 흔한 글자 하나에 수십만 건이 걸려 매 키 입력마다 훑기에는 너무 크다.
+ * 재구성 사이에 바뀐 닉네임은 추가/삭제 집합에 따로 두고 검색 때 합친다.
+ * 재구성 중에 들어온 변경은 모아 두었다가 새 색인으로 바꾼 직후 다시 적용해 잃지 않는다.
+ */
+@Component
+@Slf4j
+public class NicknameSearchIndex {
+	// 길이가 짧은 순, 같으면 가나다 순
+	private static final Comparator<String> ORDER = Comparator.comparingInt(String::length)
+		.thenComparing(Comparator.naturalOrder());
+
+	private final UserRepository userRepository;
+	private final int maxResults;
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private Snapshot snapshot = Snapshot.of(Collections.emptyList());
+	private Set<String> added = new HashSet<>();
+	private Set<String> removed = new HashSet<>();
+	// 재구성 중에만 null이 아니다.
+	private List<NicknameChangedEvent> buffered;
+
+	public NicknameSearchIndex(UserRepository userRepository,
+		@Value("${user.nickname-search.max-results:20}") int maxResults) {
+		this.userRepository = userRepository;
+		this.maxResults = maxResults;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(initialDelayString = "${user.nickname-search.rebuild-interval-ms:600000}",
+		fixedDelayString = "${user.nickname-search.rebuild-interval-ms:600000}")
+	public synchronized void rebuild() {
+		lock.writeLock().lock();
+		try {
+			buffered = new ArrayList<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+		Snapshot rebuilt = null;
+		try {
+			rebuilt = Snapshot.of(userRepository.findAllNicknames());
+		} finally {
+			lock.writeLock().lock();
+			try {
+				if (rebuilt != null) {
+					snapshot = rebuilt;
+					added = new HashSet<>();
+					removed = new HashSet<>();
+					buffered.forEach(this::apply);
+				}
+				buffered = null;
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+		log.info("닉네임 검색 색인 재구성: {}건", rebuilt.nicknames.length);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onNicknameChanged(NicknameChangedEvent event) {
+		lock.writeLock().lock();
+		try {
+			apply(event);
+			if (buffered != null)
+				buffered.add(event);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 색인에 있는 닉네임은 삭제 집합으로 가리고, 없는 닉네임은 추가 집합에 둔다.
+	private void apply(NicknameChangedEvent event) {
+		String oldNickname = event.getOldNickname();
+		if (oldNickname != null) {
+			added.remove(oldNickname);
+			if (snapshot.contains(oldNickname))
+				removed.add(oldNickname);
+		}
+		String newNickname = event.getNewNickname();
+		if (newNickname != null) {
+			removed.remove(newNickname);
+			if (!snapshot.contains(newNickname))
+				added.add(newNickname);
+		}
+	}
+
+	// 검색어로 시작하는 닉네임을 먼저, 그 안에서는 짧은 순, 가나다 순으로 최대 maxResults개 돌려준다.
+	public List<String> search(String keyword) {
+		if (keyword == null || keyword.isEmpty())
+			return Collections.emptyList();
+		Comparator<String> rank = Comparator.<String, Boolean>comparing(nickname -> !nickname.startsWith(keyword))
+			.thenComparing(ORDER);
+		PriorityQueue<String> top = new PriorityQueue<>(rank.reversed());
+
+		lock.readLock().lock();
+		try {
+			if (keyword.length() == 1) {
+				// 번호 순서가 곧 순위이므로 앞에서 maxResults개만 읽으면 된다.
+				int taken = 0;
+				for (int id : snapshot.firsts.getOrDefault(keyword.charAt(0), Snapshot.NONE)) {
+					if (taken == maxResults)
+						break;
+					String nickname = snapshot.nicknames[id];
+					if (removed.contains(nickname))
+						continue;
+					offer(top, rank, nickname);
+					taken++;
+				}
+				for (String nickname : added) {
+					if (nickname.startsWith(keyword))
+						offer(top, rank, nickname);
+				}
+			} else {
+				for (int id : snapshot.candidates(keyword)) {
+					String nickname = snapshot.nicknames[id];
+					if (nickname.contains(keyword) && !removed.contains(nickname))
+						offer(top, rank, nickname);
+				}
+				for (String nickname : added) {
+					if (nickname.contains(keyword))
+						offer(top, rank, nickname);
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		List<String> result = new ArrayList<>(top);
+		result.sort(rank);
+		return result;
+	}
+
+	// 가득 찼을 때 지금 가장 낮은 순위보다 못하면 넣지 않는다.
+	private void offer(PriorityQueue<String> top, Comparator<String> rank, String nickname) {
+		if (top.size() == maxResults && rank.compare(nickname, top.peek()) >= 0)
+			return;
+		top.offer(nickname);
+		if (top.size() > maxResults)
+			top.poll();
+	}
+
+	/**
+	 * 재구성 한 번으로 만든 읽기 전용 색인. 닉네임 문자열은 한 벌만 두고 나머지는 번호 배열이다.
+	 */
+	private static final class Snapshot {
+		private static final int[] NONE = new int[0];
+
+		private final String[] nicknames;
+		private final Map<Character, int[]> firsts;
+		private final Map<String, int[]> bigrams;
+
+		private Snapshot(String[] nicknames, Map<Character, int[]> firsts, Map<String, int[]> bigrams) {
+			this.nicknames = nicknames;
+			this.firsts = firsts;
+			this.bigrams = bigrams;
+		}
+
+		static Snapshot of(List<String> source) {
+			String[] nicknames = new LinkedHashSet<>(source).toArray(new String[0]);
+			Arrays.sort(nicknames, ORDER);
+			Map<Character, IntList> firsts = new HashMap<>();
+			Map<String, IntList> bigrams = new HashMap<>();
+			Set<String> seen = new HashSet<>();
+			for (int id = 0; id < nicknames.length; id++) {
+				String nickname = nicknames[id];
+				if (nickname.isEmpty())
+					continue;
+				firsts.computeIfAbsent(nickname.charAt(0), key -> new IntList()).add(id);
+				seen.clear();
+				for (int i = 0; i + 2 <= nickname.length(); i++) {
+					String gram = nickname.substring(i, i + 2);
+					if (seen.add(gram))
+						bigrams.computeIfAbsent(gram, key -> new IntList()).add(id);
+				}
+			}
+			return new Snapshot(nicknames, toArrays(firsts), toArrays(bigrams));
+		}
+
+		boolean contains(String nickname) {
+			return Arrays.binarySearch(nicknames, nickname, ORDER) >= 0;
+		}
+
+		// 검색어의 2글자 조각 중 가장 작은 목록. 조각 하나라도 없으면 맞는 닉네임이 없다.
+		int[] candidates(String keyword) {
+			int[] smallest = null;
+			for (int i = 0; i + 2 <= keyword.length(); i++) {
+				int[] posting = bigrams.get(keyword.substring(i, i + 2));
+				if (posting == null)
+					return NONE;
+				if (smallest == null || posting.length < smallest.length)
+					smallest = posting;
+			}
+			return smallest;
+		}
+
+		private static <K> Map<K, int[]> toArrays(Map<K, IntList> lists) {
+			Map<K, int[]> arrays = new HashMap<>(lists.size() * 4 / 3 + 1);
+			lists.forEach((key, list) -> arrays.put(key, list.toArray()));
+			return arrays;
+		}
+	}
+
+	private static final class IntList {
+		private int[] values = new int[4];
+		private int size;
+
+		void add(int value) {
+			if (size == values.length)
+				values = Arrays.copyOf(values, size * 2);
+			values[size++] = value;
+		}
+
+		int[] toArray() {
+			return Arrays.copyOf(values, size);
+		}
+	}
+}
@@ -1,18 +1,23 @@
 package com.woowahanbank.backend.domain.user.service;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import com.woowahanbank.backend.domain.banking.service.BalanceLedgerService;
 import com.woowahanbank.backend.domain.family.domain.Family;
+import com.woowahanbank.backend.domain.quiz.service.QuizSolvedStore;
 import com.woowahanbank.backend.domain.user.domain.User;
 import com.woowahanbank.backend.domain.user.dto.JoinDto;
 import com.woowahanbank.backend.domain.user.dto.SignupDto;
 import com.woowahanbank.backend.domain.user.dto.UserInfoDto;
+import com.woowahanbank.backend.domain.user.event.NicknameChangedEvent;
 import com.woowahanbank.backend.domain.user.repository.UserRepository;
+import com.woowahanbank.backend.global.auth.jwt.PrincipalChangedEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +28,11 @@ import lombok.extern.slf4j.Slf4j;
 public class UserService {
 
 	private final UserRepository userRepository;
+	private final BalanceLedgerService balanceLedgerService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final QuizSolvedStore quizSolvedStore;
+	private final NicknameSearchIndex nicknameSearchIndex;
+	private final NicknameAvailabilityService nicknameAvailabilityService;
 
 	public User findByUserId(String userId) {
 		return userRepository.findByUserId(userId).orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
@@ -40,8 +50,7 @@ public class UserService {
 	public void moneyTransfer(String userId, long money) {
 		User user = userRepository.findByUserId(userId)
 			.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
-		user.moneyTransfer(money);
-		userRepository.save(user);
+		balanceLedgerService.apply(user.getId(), money);
 	}
 
 	public SignupDto signup(String userId) {
@@ -53,37 +62,38 @@ public class UserService {
 			.nickname(user.getNickname())
 			.roles(user.getRoles())
 			.money(user.getMoney())
-			.quiz(user.getQuiz())
+			.quiz(quizSolvedStore.isSolved(user.getId()) ? 1L : null)
 			.score(user.getScore())
 			.familyName(familyName)
 			.characterNum(user.getCharacterNum())
 			.build();
 	}
 
+	// 사용 가능 여부 확인은 참고용이므로 저장할 때 다시 확인하고, 그 사이에 끼어든 저장은 유니크 인덱스가 막는다.
 	public void saveUser(SignupDto signupDto) {
 		User user = userRepository.findByUserId(signupDto.getUserId()).orElse(null);
+		String oldNickname = user.getNickname();
+		if (signupDto.getNickname() != null && !Objects.equals(oldNickname, signupDto.getNickname())
+			&& userRepository.existsByNickname(signupDto.getNickname()))
+			throw new IllegalArgumentException("이미 사용 중인 닉네임입니다.");
 		user.setUser(signupDto);
 		user.setParentMoney();
-		userRepository.save(user);
-	}
-
-	public boolean duplicationNickname(String nickname) throws IllegalArgumentException {
-		User user = userRepository.findByNickname(nickname).orElse(null);
-		if (user == null) {
-			return true;
+		try {
+			userRepository.saveAndFlush(user);
+		} catch (DataIntegrityViolationException e) {
+			throw new IllegalArgumentException("이미 사용 중인 닉네임입니다.");
 		}
-		return false;
+		eventPublisher.publishEvent(new PrincipalChangedEvent(this, List.of(user.getUserId())));
+		if (!Objects.equals(oldNickname, user.getNickname()))
+			eventPublisher.publishEvent(new NicknameChangedEvent(this, oldNickname, user.getNickname()));
+	}
 
+	public boolean duplicationNickname(String nickname) {
+		return nicknameAvailabilityService.isAvailable(nickname);
 	}
 
-	@Transactional
 	public List<String> findFamily(String keyword) {
-		List<User> users = userRepository.findNicknameByNicknameContaining(keyword);
-		List<String> userNicknames = new ArrayList<>();
-		for (User list : users) {
-			userNicknames.add(list.getNickname());
-		}
-		return userNicknames;
+		return nicknameSearchIndex.search(keyword);
 	}
 
 	public UserInfoDto userInfo(String nickname) {
@@ -95,7 +105,7 @@ public class UserService {
 				.nickname(user.getNickname())
 				.roles(String.valueOf(user.getRoles()))
 				.money(user.getMoney())
-				.quiz(user.getQuiz())
+				.quiz(quizSolvedStore.isSolved(user.getId()) ? 1L : null)
 				.score(user.getScore())
 				.familyName(user.getFamily() == null ? null : user.getFamily().getFamilyName())
 				.characterNum(user.getCharacterNum())
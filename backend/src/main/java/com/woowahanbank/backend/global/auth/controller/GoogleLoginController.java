@@ -2,22 +2,18 @@ package com.woowahanbank.backend.global.auth.controller;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
-import org.springframework.security.oauth2.core.endpoint.OAuth2AccessTokenResponse;
-import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationExchange;
-import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
-import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationResponse;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.Duration;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -28,6 +24,8 @@ import com.woowahanbank.backend.domain.user.dto.JoinDto;
 import com.woowahanbank.backend.domain.user.repository.UserRepository;
 import com.woowahanbank.backend.domain.user.service.UserService;
 import com.woowahanbank.backend.global.auth.jwt.JwtPayloadDto;
+import com.woowahanbank.backend.global.outbound.OutboundClient;
+import com.woowahanbank.backend.global.outbound.OutboundClients;
 import com.woowahanbank.backend.global.response.BaseResponse;
 import com.woowahanbank.backend.global.util.JwtTokenUtil;
 import com.woowahanbank.backend.global.util.OidcUtil;
@@ -46,14 +44,14 @@ public class GoogleLoginController {
 	@Value("${spring.security.oauth2.client.registration.google.redirect-uri}")
 	private String redirectUri;
 
-	private final WebClient webClient;
+	private final OutboundClient outboundClient;
 	private final OidcUtil oidcUtil;
 	private final UserService userService;
 	private final UserRepository userRepository;
 	private final RedisTemplate<String, String> template;
 
-	public GoogleLoginController(WebClient.Builder webClientBuilder, OidcUtil oidcUtil, UserService userService, UserRepository userRepository, RedisTemplate<String, String> template) {
-		this.webClient = webClientBuilder.baseUrl("https://oauth2.googleapis.com/token").build();
+	public GoogleLoginController(OutboundClients outboundClients, OidcUtil oidcUtil, UserService userService, UserRepository userRepository, RedisTemplate<String, String> template) {
+		this.outboundClient = outboundClients.get(OutboundClients.GOOGLE_OAUTH);
 		this.oidcUtil = oidcUtil;
 		this.userService = userService;
 		this.userRepository = userRepository;
@@ -64,17 +62,17 @@ public class GoogleLoginController {
 	public ResponseEntity<?> googleLogin(@RequestBody Map<String, Object> data) {
 		String code = (String) data.get("code");
 
-		Map<String, Object> response = webClient.post()
-			.contentType(MediaType.APPLICATION_FORM_URLENCODED)
-			.body(BodyInserters
-				.fromFormData("grant_type", "authorization_code")
-				.with("client_id", clientId)
-				.with("client_secret", clientSecret)
-				.with("redirect_uri", redirectUri)
-				.with("code", code))
-			.retrieve()
-			.bodyToMono(Map.class)
-			.block();
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+		MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+		form.add("grant_type", "authorization_code");
+		form.add("client_id", clientId);
+		form.add("client_secret", clientSecret);
+		form.add("redirect_uri", redirectUri);
+		form.add("code", code);
+		HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(form, headers);
+
+		Map<String, Object> response = outboundClient.execute(rt -> rt.postForObject("/token", request, Map.class));
 
 		String idToken = (String) response.get("id_token");
 		log.info("구글로 얻어온 id_token {}", idToken);
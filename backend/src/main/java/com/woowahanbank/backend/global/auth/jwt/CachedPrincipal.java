@@ -0,0 +1,53 @@
+package com.woowahanbank.backend.global.auth.jwt;
+
+import com.woowahanbank.backend.domain.family.domain.Family;
+import com.woowahanbank.backend.domain.user.domain.Role;
+import com.woowahanbank.backend.domain.user.domain.User;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인증 캐시에 저장하는 유저 스냅샷.
+ * 잔액과 점수는 변경 때마다 캐시를 지우지 않으므로 담지 않는다. 필요하면 디비에서 다시 읽는다.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedPrincipal {
+	private Integer id;
+	private String userId;
+	private String nickname;
+	private Role roles;
+	private Long characterNum;
+	private Long familyId;
+	private String familyName;
+
+	public static CachedPrincipal from(User user) {
+		Family family = user.getFamily();
+		return CachedPrincipal.builder()
+			.id(user.getId())
+			.userId(user.getUserId())
+			.nickname(user.getNickname())
+			.roles(user.getRoles())
+			.characterNum(user.getCharacterNum())
+			.familyId(family == null ? null : family.getId())
+			.familyName(family == null ? null : family.getFamilyName())
+			.build();
+	}
+
+	public User toUser() {
+		Family family = familyId == null ? null : Family.builder().id(familyId).familyName(familyName).build();
+		return User.builder()
+			.id(id)
+			.userId(userId)
+			.nickname(nickname)
+			.roles(roles)
+			.characterNum(characterNum)
+			.family(family)
+			.build();
+	}
+}
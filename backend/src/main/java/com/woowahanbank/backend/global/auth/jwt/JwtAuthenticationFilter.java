@@ -7,7 +7,6 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -17,7 +16,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
-import com.auth0.jwt.interfaces.JWTVerifier;
 import com.woowahanbank.backend.domain.user.domain.User;
 import com.woowahanbank.backend.domain.user.service.UserService;
 import com.woowahanbank.backend.global.auth.security.CustomUserDetails;
@@ -28,13 +26,13 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	private final UserService userService;
-	private final RedisTemplate<String, String> template;
+	private final PrincipalCache principalCache;
 
 	public JwtAuthenticationFilter(AuthenticationManager authenticationManager, UserService userService,
-		RedisTemplate<String, String> template) {
+		PrincipalCache principalCache) {
 		// super(authenticationManager);
 		this.userService = userService;
-		this.template = template;
+		this.principalCache = principalCache;
 	}
 
 	@Override
@@ -73,14 +71,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		// 요청 헤더에 Authorization 키값에 jwt 토큰이 포함된 경우에만, 토큰 검증 및 인증 처리 로직 실행.
 		if (token != null) {
 			// parse the token and validate it (decode)
-			JWTVerifier verifier = JwtTokenUtil.getVerifier();
-			JwtTokenUtil.handleError(token);
-			DecodedJWT decodedJWT = verifier.verify(token.replace(JwtTokenUtil.TOKEN_PREFIX, ""));
+			DecodedJWT decodedJWT = JwtTokenUtil.handleError(token);
 			String userId = decodedJWT.getSubject();
 
 			if (userId != null) { //23023923
 				// jwt 토큰에 포함된 계정 정보(userId) 통해 실제 디비에 해당 정보의 계정이 있는지 조회.
-				User user = userService.findByUserId(userId);
+				// 캐시에 있으면 디비를 거치지 않는다.
+				User user = principalCache.get(userId).orElseGet(() -> {
+					User found = userService.findByUserId(userId);
+					principalCache.put(found);
+					// 캐시에서 꺼낸 경우와 같은 필드만 보이도록 맞춘다.
+					return CachedPrincipal.from(found).toUser();
+				});
 				// 식별된 정상 유저인 경우, 요청 context 내에서 참조 가능한 인증 정보(jwtAuthentication) 생성.
 				CustomUserDetails userDetails = new CustomUserDetails(user);
 				UsernamePasswordAuthenticationToken jwtAuthentication = new UsernamePasswordAuthenticationToken(
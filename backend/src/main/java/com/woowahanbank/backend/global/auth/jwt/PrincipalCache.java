@@ -0,0 +1,62 @@
+package com.woowahanbank.backend.global.auth.jwt;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.woowahanbank.backend.domain.user.domain.User;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 토큰 sub(userId)를 키로 인증 유저 정보를 Redis에 잠깐 보관한다.
+ * 역할, 가족, 닉네임이 바뀌면 커밋 이후 해당 키를 지운다.
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+	private static final String KEY_PREFIX = "principal:";
+
+	private final RedisTemplate<String, String> template;
+	private final ObjectMapper objectMapper;
+	private final Duration ttl;
+
+	public PrincipalCache(RedisTemplate<String, String> template, ObjectMapper objectMapper,
+		@Value("${auth.principal-cache.ttl-seconds:60}") long ttlSeconds) {
+		this.template = template;
+		this.objectMapper = objectMapper;
+		this.ttl = Duration.ofSeconds(ttlSeconds);
+	}
+
+	public Optional<User> get(String userId) {
+		try {
+			String value = template.opsForValue().get(KEY_PREFIX + userId);
+			if (value == null)
+				return Optional.empty();
+			return Optional.of(objectMapper.readValue(value, CachedPrincipal.class).toUser());
+		} catch (Exception e) {
+			log.warn("인증 캐시 조회 실패: {}", e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	public void put(User user) {
+		try {
+			template.opsForValue()
+				.set(KEY_PREFIX + user.getUserId(), objectMapper.writeValueAsString(CachedPrincipal.from(user)), ttl);
+		} catch (Exception e) {
+			log.warn("인증 캐시 저장 실패: {}", e.getMessage());
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void evict(PrincipalChangedEvent event) {
+		template.delete(event.getUserIds().stream().map(userId -> KEY_PREFIX + userId).collect(Collectors.toList()));
+	}
+}
@@ -0,0 +1,20 @@
+package com.woowahanbank.backend.global.auth.jwt;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEvent;
+
+import lombok.Getter;
+
+/**
+ * 인증 정보에 담긴 유저 정보(역할, 가족, 닉네임)가 바뀌었을 때 발행한다.
+ */
+@Getter
+public class PrincipalChangedEvent extends ApplicationEvent {
+	private final List<String> userIds;
+
+	public PrincipalChangedEvent(Object source, List<String> userIds) {
+		super(source);
+		this.userIds = userIds;
+	}
+}
@@ -0,0 +1,150 @@
+package com.woowahanbank.backend.global.auth.oauth.oidc.publickey;
+
+import java.security.interfaces.RSAPublicKey;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.woowahanbank.backend.global.outbound.OutboundClients;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카카오/구글 OIDC 공개키 캐시.
+ * 파싱된 RSAPublicKey를 메모리에 두고 Redis(publicKey 해시, 제공자:kid)를 2차 저장소로 쓴다.
+ * 키 교체 전에 주기적으로 미리 갱신하며, 모르는 kid가 오면 제공자별로 한 번만 JWKS를 받아온다.
+ * Redis 항목은 갱신 주기의 두 배가 지나면 만료되고, 받아온 JWKS에서 빠진 kid는 바로 지운다.
+ * JWKS는 제공자별 {@link OutboundClients} 클라이언트로 받아오므로 커넥션 풀, 타임아웃, 벌크헤드, 서킷, 호출 통계를 같이 쓴다.
+ */
+@Component
+@Slf4j
+public class JwksKeyCache {
+	private final PublicKeyRepository publicKeyRepository;
+	private final OutboundClients outboundClients;
+	private final long minRefreshIntervalMs;
+	private final long keyTtlSeconds;
+
+	private final Map<OidcProvider, Map<String, RSAPublicKey>> keys = new ConcurrentHashMap<>();
+	private final Map<OidcProvider, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+	private final Map<OidcProvider, Long> lastFetchedAt = new ConcurrentHashMap<>();
+
+	public JwksKeyCache(PublicKeyRepository publicKeyRepository, OutboundClients outboundClients,
+		@Value("${oidc.jwks.min-refresh-interval-ms:60000}") long minRefreshIntervalMs,
+		@Value("${oidc.jwks.refresh-interval-ms:21600000}") long refreshIntervalMs) {
+		this.publicKeyRepository = publicKeyRepository;
+		this.outboundClients = outboundClients;
+		this.minRefreshIntervalMs = minRefreshIntervalMs;
+		this.keyTtlSeconds = refreshIntervalMs * 2 / 1000;
+	}
+
+	public RSAPublicKey getPublicKey(OidcProvider provider, String kid) {
+		RSAPublicKey key = keys.getOrDefault(provider, Map.of()).get(kid);
+		if (key != null)
+			return key;
+
+		key = loadFromRedis(provider, kid);
+		if (key != null)
+			return key;
+
+		// 키가 교체되었을 수 있으므로 JWKS를 다시 받아온다. 동시에 들어온 요청은 같은 갱신을 기다린다.
+		Long last = lastFetchedAt.get(provider);
+		if (last == null || System.currentTimeMillis() - last >= minRefreshIntervalMs) {
+			try {
+				refreshOnce(provider).join();
+			} catch (CompletionException e) {
+				log.warn("{} 공개키 갱신 실패: {}", provider, e.getMessage());
+			}
+		}
+
+		key = keys.getOrDefault(provider, Map.of()).get(kid);
+		if (key == null)
+			throw new IllegalArgumentException("해당하는 공개키가 없습니다.");
+		return key;
+	}
+
+	// 애플리케이션 기동을 막지 않도록 스케줄러 스레드에서 처음 로드하고, 이후 주기적으로 미리 갱신한다.
+	@Scheduled(initialDelay = 0, fixedDelayString = "${oidc.jwks.refresh-interval-ms:21600000}")
+	public void refreshAll() {
+		for (OidcProvider provider : OidcProvider.values()) {
+			try {
+				refreshOnce(provider).join();
+			} catch (Exception e) {
+				log.warn("{} 공개키 갱신 실패: {}", provider, e.getMessage());
+			}
+		}
+	}
+
+	private CompletableFuture<Void> refreshOnce(OidcProvider provider) {
+		CompletableFuture<Void> created = new CompletableFuture<>();
+		CompletableFuture<Void> running = inFlight.putIfAbsent(provider, created);
+		if (running != null)
+			return running;
+		try {
+			fetch(provider);
+			created.complete(null);
+		} catch (Exception e) {
+			created.completeExceptionally(e);
+		} finally {
+			inFlight.remove(provider, created);
+		}
+		return created;
+	}
+
+	private void fetch(OidcProvider provider) throws Exception {
+		lastFetchedAt.put(provider, System.currentTimeMillis());
+		String body = outboundClients.get(provider.getClientName())
+			.execute(rest -> rest.getForObject(provider.getJwksPath(), String.class));
+		JWKSet jwkSet = JWKSet.parse(body);
+		List<RSAKey> rsaKeys = jwkSet.getKeys().stream()
+			.filter(jwk -> jwk instanceof RSAKey)
+			.map(jwk -> (RSAKey)jwk)
+			.collect(Collectors.toList());
+
+		Map<String, RSAPublicKey> fetched = new HashMap<>();
+		for (RSAKey rsaKey : rsaKeys) {
+			fetched.put(rsaKey.getKeyID(), rsaKey.toRSAPublicKey());
+			publicKeyRepository.save(new PublicKeyDto(PublicKeyDto.idOf(provider, rsaKey.getKeyID()),
+				rsaKey.getKeyID(), rsaKey.getKeyType().getValue(),
+				rsaKey.getAlgorithm() == null ? null : rsaKey.getAlgorithm().getName(),
+				rsaKey.getKeyUse() == null ? null : rsaKey.getKeyUse().identifier(),
+				rsaKey.getModulus().toString(), rsaKey.getPublicExponent().toString(), keyTtlSeconds));
+		}
+		Map<String, RSAPublicKey> previous = keys.put(provider, Map.copyOf(fetched));
+		if (previous != null) {
+			publicKeyRepository.deleteAllById(previous.keySet().stream()
+				.filter(kid -> !fetched.containsKey(kid))
+				.map(kid -> PublicKeyDto.idOf(provider, kid))
+				.collect(Collectors.toList()));
+		}
+		log.info("{} 공개키 {}개 갱신", provider, fetched.size());
+	}
+
+	private RSAPublicKey loadFromRedis(OidcProvider provider, String kid) {
+		try {
+			Optional<PublicKeyDto> cached = publicKeyRepository.findById(PublicKeyDto.idOf(provider, kid));
+			if (cached.isEmpty())
+				return null;
+			RSAPublicKey key = (RSAPublicKey)cached.get().toPublicKey();
+			keys.compute(provider, (p, current) -> {
+				Map<String, RSAPublicKey> next = current == null ? new HashMap<>() : new HashMap<>(current);
+				next.put(kid, key);
+				return Map.copyOf(next);
+			});
+			return key;
+		} catch (Exception e) {
+			log.warn("Redis 공개키 조회 실패: {}", e.getMessage());
+			return null;
+		}
+	}
+}
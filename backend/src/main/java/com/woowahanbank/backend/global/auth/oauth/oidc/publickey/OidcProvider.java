@@ -0,0 +1,17 @@
+package com.woowahanbank.backend.global.auth.oauth.oidc.publickey;
+
+import com.woowahanbank.backend.global.outbound.OutboundClients;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// JWKS는 제공자별 외부 클라이언트의 base URL 기준 경로로 받아온다.
+@Getter
+@RequiredArgsConstructor
+public enum OidcProvider {
+	KAKAO(OutboundClients.KAKAO_AUTH, "/.well-known/jwks.json"),
+	GOOGLE(OutboundClients.GOOGLE_APIS, "/oauth2/v3/certs");
+
+	private final String clientName;
+	private final String jwksPath;
+}
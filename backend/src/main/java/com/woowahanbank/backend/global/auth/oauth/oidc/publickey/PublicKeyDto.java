@@ -10,6 +10,7 @@ import java.util.Base64;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.TimeToLive;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -20,13 +21,22 @@ import lombok.NoArgsConstructor;
 @Data
 @RedisHash("publicKey")
 public class PublicKeyDto {
+	// 제공자마다 kid가 겹칠 수 있으므로 "제공자:kid"를 키로 쓴다.
 	@Id
+	public String id;
 	public String kid;
 	public String kty;
 	public String alg;
 	public String use;
 	public String n;
 	public String e;
+	// 교체되어 JWKS에서 빠진 키가 Redis에 남아 다시 읽히지 않도록 만료시킨다(초).
+	@TimeToLive
+	public Long ttl;
+
+	public static String idOf(OidcProvider provider, String kid) {
+		return provider.name() + ":" + kid;
+	}
 
 	public PublicKey toPublicKey() throws NoSuchAlgorithmException, InvalidKeySpecException {
 		// RSA 알고리즘을 이용하여 KeyFactory 생성
@@ -1,6 +1,9 @@
 package com.woowahanbank.backend.global.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.woowahanbank.backend.global.notification.listener.NotificationMessageConverter;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -19,14 +22,31 @@ public class RabbitMQConfig {
     @Value("${spring.rabbitmq.queue-name}")
     private String queueName;
 
+    @Value("${notification.batch.size:500}")
+    private int batchSize;
+
+    @Value("${notification.batch.receive-timeout-ms:200}")
+    private long batchReceiveTimeoutMs;
+
+    @Value("${notification.batch.concurrency:2}")
+    private int batchConcurrency;
+
     @Bean
     public RabbitAdmin rabbitAdmin(ConnectionFactory connectionFactory) {
         return new RabbitAdmin(connectionFactory);
     }
 
     @Bean
-    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
-        return new RabbitTemplate(connectionFactory);
+    public NotificationMessageConverter notificationMessageConverter(ObjectMapper objectMapper) {
+        return new NotificationMessageConverter(objectMapper);
+    }
+
+    @Bean
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory,
+                                         NotificationMessageConverter notificationMessageConverter) {
+        RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
+        rabbitTemplate.setMessageConverter(notificationMessageConverter);
+        return rabbitTemplate;
     }
 
     @Bean
@@ -43,4 +63,21 @@ public class RabbitMQConfig {
     public Binding binding(Queue myQueue, TopicExchange exchange) {
         return BindingBuilder.bind(myQueue).to(exchange).with(routingKey);
     }
-}
\ No newline at end of file
+
+    // 알림 큐를 최대 batchSize개씩 묶어 소비하고, 동시 소비자 수를 제한한다.
+    @Bean
+    public SimpleRabbitListenerContainerFactory notificationBatchListenerFactory(ConnectionFactory connectionFactory,
+            NotificationMessageConverter notificationMessageConverter) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(notificationMessageConverter);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(batchSize);
+        factory.setReceiveTimeout(batchReceiveTimeoutMs);
+        factory.setConcurrentConsumers(batchConcurrency);
+        factory.setMaxConcurrentConsumers(batchConcurrency);
+        return factory;
+    }
+}
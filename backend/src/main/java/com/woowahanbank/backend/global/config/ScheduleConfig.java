@@ -4,11 +4,12 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 
-import com.woowahanbank.backend.domain.banking.service.BankingService;
+import com.woowahanbank.backend.domain.banking.service.PinMoneyBatchService;
 import com.woowahanbank.backend.domain.customer.dto.DepositorDto;
 import com.woowahanbank.backend.domain.customer.dto.LoanerDto;
 import com.woowahanbank.backend.domain.customer.dto.SavingserDto;
 import com.woowahanbank.backend.domain.customer.service.CustomerService;
+import com.woowahanbank.backend.domain.point.service.PointRollupService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -17,15 +18,17 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ScheduleConfig {
 
-	private final BankingService bankingService;
+	private final PinMoneyBatchService pinMoneyBatchService;
 
 	private final CustomerService<DepositorDto> depositorService;
 	private final CustomerService<LoanerDto> loanerService;
 	private final CustomerService<SavingserDto> savingserService;
 
+	private final PointRollupService pointRollupService;
+
 	@Scheduled(cron = "0 0 6 * * ?")
 	public void runAtSixAM() {
-		bankingService.updatePinMoneyAndTransfer();
+		pinMoneyBatchService.run();
 	}
 
 	@Scheduled(cron = "0 0 2 * * ?")
@@ -41,4 +44,9 @@ public class ScheduleConfig {
 		loanerService.calculateRates();
 		savingserService.calculateRates();
 	}
-}
\ No newline at end of file
+
+	@Scheduled(cron = "0 0 3 * * SUN")
+	public void rebuildPointRollups() {
+		pointRollupService.rebuild();
+	}
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.woowahanbank.backend.global.exception;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.http.ResponseEntity;
@@ -8,6 +9,8 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.woowahanbank.backend.global.exception.custom.AuthorizedException;
 import com.woowahanbank.backend.global.exception.custom.ForbiddenException;
+import com.woowahanbank.backend.global.exception.custom.OutboundUnavailableException;
+import com.woowahanbank.backend.global.idempotency.IdempotencyFilter;
 import com.woowahanbank.backend.global.response.BaseResponse;
 
 @RestControllerAdvice
@@ -28,6 +31,14 @@ public class GlobalAdvice {
 		return new BaseResponse().fail(ex.getMessage(), HttpServletResponse.SC_FORBIDDEN);
 	}
 
+	// 요청이 상대에게 닿지 않았으면 같은 멱등 키로 다시 시도할 수 있게 표시한다.
+	@ExceptionHandler(OutboundUnavailableException.class)
+	public ResponseEntity<?> outboundUnavailableResponse(OutboundUnavailableException ex, HttpServletRequest request) {
+		if (!ex.isSent())
+			request.setAttribute(IdempotencyFilter.RELEASE_ATTRIBUTE, Boolean.TRUE);
+		return new BaseResponse().fail(ex.getMessage(), HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+	}
+
 	// @ExceptionHandler(RuntimeException.class)
 	// public ResponseEntity<?> runtimeResponse(RuntimeException ex) {
 	//     return new BaseResponse().fail(ex.getMessage(), HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
@@ -0,0 +1,20 @@
+package com.woowahanbank.backend.global.exception.custom;
+
+public class OutboundUnavailableException extends RuntimeException {
+    // 상대 서버에 요청이 닿았을 수도 있으면 true. 벌크헤드/서킷에 막혔거나 연결조차 못 했으면 false.
+    private final boolean sent;
+
+    public OutboundUnavailableException(String message) {
+        super(message);
+        this.sent = false;
+    }
+
+    public OutboundUnavailableException(String message, Throwable cause, boolean sent) {
+        super(message, cause);
+        this.sent = sent;
+    }
+
+    public boolean isSent() {
+        return sent;
+    }
+}
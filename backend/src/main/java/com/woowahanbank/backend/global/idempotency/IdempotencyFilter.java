@@ -0,0 +1,278 @@
+package com.woowahanbank.backend.global.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import com.woowahanbank.backend.global.response.FailResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link Idempotent} 가 붙은 핸들러의 요청을 Idempotency-Key 헤더로 한 번만 실행한다.
+ * 처음 온 요청이 Redis에 키를 선점해 실행하고, 같은 키의 동시 요청은 그 결과가 저장될 때까지 기다렸다가 같은 응답을 받는다.
+ * 같은 키로 내용이 다른 요청이 오면 거절한다. 응답은 상태 코드와 상관없이 저장한다.
+ * 업무 오류도 500으로 끝나므로 상태 코드만으로는 부작용이 있었는지 알 수 없기 때문이다.
+ * 키를 지워 다시 시도할 수 있게 하는 것은 예외가 필터까지 올라와 트랜잭션이 롤백된 경우와,
+ * 외부 호출이 상대에게 닿지도 못하고 실패한 경우({@link #RELEASE_ATTRIBUTE})뿐이다.
+ * 핸들러가 잠금 TTL보다 오래 걸려도 다른 요청이 끼어들지 않도록 실행 중에는 잠금을 주기적으로 늘린다.
+ * 인증된 유저별로 키를 나누기 위해 시큐리티 필터 뒤에서 돈다.
+ */
+@Component
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+	public static final String HEADER = "Idempotency-Key";
+	// 핸들러 쪽에서 부작용 없이 실패했다고 표시하면 키를 지운다.
+	public static final String RELEASE_ATTRIBUTE = IdempotencyFilter.class.getName() + ".release";
+	private static final String KEY_PREFIX = "idempotency:";
+	private static final long MIN_POLL_MILLIS = 50;
+	private static final long MAX_POLL_MILLIS = 500;
+	private static final RedisScript<Long> RENEW = new DefaultRedisScript<>(
+		"if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end "
+			+ "return 0", Long.class);
+
+	private final RequestMappingHandlerMapping handlerMapping;
+	private final RedisTemplate<String, String> template;
+	private final ObjectMapper objectMapper;
+	private final Duration lockTtl;
+	private final long waitMillis;
+	private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "idempotency-lock-renewer");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public IdempotencyFilter(@Lazy @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping,
+		RedisTemplate<String, String> template, ObjectMapper objectMapper,
+		@Value("${idempotency.lock-ttl-ms:30000}") long lockTtlMillis,
+		@Value("${idempotency.wait-ms:10000}") long waitMillis) {
+		this.handlerMapping = handlerMapping;
+		this.template = template;
+		this.objectMapper = objectMapper;
+		this.lockTtl = Duration.ofMillis(lockTtlMillis);
+		this.waitMillis = waitMillis;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		String idempotencyKey = request.getHeader(HEADER);
+		Idempotent idempotent = idempotencyKey == null || idempotencyKey.isEmpty() ? null : findAnnotation(request);
+		if (idempotent == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+		String key = KEY_PREFIX + principalName() + ":" + idempotencyKey;
+		String fingerprint = fingerprint(cachedRequest);
+		String pending = objectMapper.writeValueAsString(
+			IdempotencyRecord.builder().done(false).fingerprint(fingerprint).build());
+
+		if (Boolean.TRUE.equals(template.opsForValue().setIfAbsent(key, pending, lockTtl))) {
+			execute(cachedRequest, response, filterChain, key, pending, fingerprint, idempotent);
+			return;
+		}
+		IdempotencyRecord record = awaitDone(key);
+		if (record == null) {
+			writeFail(response, "같은 요청을 처리 중입니다. 잠시 후 다시 시도해 주세요.", HttpServletResponse.SC_CONFLICT);
+		} else if (!fingerprint.equals(record.getFingerprint())) {
+			writeFail(response, "같은 Idempotency-Key로 다른 요청을 보냈습니다.", 422);
+		} else if (!record.isDone()) {
+			writeFail(response, "같은 요청을 처리 중입니다. 잠시 후 다시 시도해 주세요.", HttpServletResponse.SC_CONFLICT);
+		} else {
+			replay(response, record);
+		}
+	}
+
+	private void execute(CachedBodyRequest request, HttpServletResponse response, FilterChain filterChain, String key,
+		String pending, String fingerprint, Idempotent idempotent) throws ServletException, IOException {
+		ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+		long renewMillis = Math.max(1, lockTtl.toMillis() / 3);
+		ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> renew(key, pending), renewMillis, renewMillis,
+			TimeUnit.MILLISECONDS);
+		boolean stored = false;
+		try {
+			filterChain.doFilter(request, cachedResponse);
+			if (!Boolean.TRUE.equals(request.getAttribute(RELEASE_ATTRIBUTE))) {
+				IdempotencyRecord record = IdempotencyRecord.builder()
+					.done(true)
+					.fingerprint(fingerprint)
+					.status(cachedResponse.getStatus())
+					.contentType(cachedResponse.getContentType())
+					.body(new String(cachedResponse.getContentAsByteArray(), StandardCharsets.UTF_8))
+					.build();
+				template.opsForValue()
+					.set(key, objectMapper.writeValueAsString(record), Duration.ofSeconds(idempotent.ttlSeconds()));
+				stored = true;
+			}
+		} finally {
+			renewal.cancel(false);
+			if (!stored)
+				template.delete(key);
+			cachedResponse.copyBodyToResponse();
+		}
+	}
+
+	// 실행 중인 동안 잠금이 풀리지 않도록 TTL을 다시 건다.
+	// 결과를 저장한 뒤에 늦게 돌더라도 저장된 응답의 TTL을 줄이지 않도록 실행 중 표시일 때만 늘린다.
+	private void renew(String key, String pending) {
+		try {
+			template.execute(RENEW, Collections.singletonList(key), pending, String.valueOf(lockTtl.toMillis()));
+		} catch (RuntimeException e) {
+			log.warn("멱등 키 잠금 연장 실패: {}", e.getMessage());
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		renewer.shutdownNow();
+	}
+
+	// 먼저 온 요청이 끝날 때까지 간격을 늘려 가며 기다린다. 키가 사라지면(실패) null, 시간이 다 되면 마지막 상태를 돌려준다.
+	private IdempotencyRecord awaitDone(String key) throws IOException {
+		long deadline = System.currentTimeMillis() + waitMillis;
+		long pollMillis = MIN_POLL_MILLIS;
+		while (true) {
+			String value = template.opsForValue().get(key);
+			if (value == null)
+				return null;
+			IdempotencyRecord record = objectMapper.readValue(value, IdempotencyRecord.class);
+			if (record.isDone() || System.currentTimeMillis() + pollMillis > deadline)
+				return record;
+			try {
+				Thread.sleep(pollMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return record;
+			}
+			pollMillis = Math.min(pollMillis * 2, MAX_POLL_MILLIS);
+		}
+	}
+
+	private void replay(HttpServletResponse response, IdempotencyRecord record) throws IOException {
+		response.setStatus(record.getStatus());
+		if (record.getContentType() != null)
+			response.setContentType(record.getContentType());
+		response.setHeader("Idempotent-Replayed", "true");
+		byte[] body = record.getBody() == null ? new byte[0] : record.getBody().getBytes(StandardCharsets.UTF_8);
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+	}
+
+	private void writeFail(HttpServletResponse response, String msg, int status) throws IOException {
+		response.setStatus(status);
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		response.getWriter().write(objectMapper.writeValueAsString(new FailResponse(false, msg, status)));
+	}
+
+	private Idempotent findAnnotation(HttpServletRequest request) {
+		try {
+			HandlerExecutionChain chain = handlerMapping.getHandler(request);
+			if (chain != null && chain.getHandler() instanceof HandlerMethod)
+				return ((HandlerMethod)chain.getHandler()).getMethodAnnotation(Idempotent.class);
+		} catch (Exception e) {
+			log.warn("핸들러 조회 실패: {}", e.getMessage());
+		}
+		return null;
+	}
+
+	private String principalName() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		return authentication == null ? "anonymous" : authentication.getName();
+	}
+
+	private String fingerprint(CachedBodyRequest request) {
+		String target = request.getMethod() + " " + request.getRequestURI() + "?" + request.getQueryString() + "\n";
+		return Hashing.sha256().newHasher()
+			.putString(target, StandardCharsets.UTF_8)
+			.putBytes(request.body)
+			.hash()
+			.toString();
+	}
+
+	// 지문을 만들려고 읽은 본문을 핸들러가 다시 읽을 수 있도록 보관한다.
+	private static class CachedBodyRequest extends HttpServletRequestWrapper {
+		private final byte[] body;
+
+		CachedBodyRequest(HttpServletRequest request) throws IOException {
+			super(request);
+			this.body = StreamUtils.copyToByteArray(request.getInputStream());
+		}
+
+		@Override
+		public ServletInputStream getInputStream() {
+			ByteArrayInputStream input = new ByteArrayInputStream(body);
+			return new ServletInputStream() {
+				@Override
+				public boolean isFinished() {
+					return input.available() == 0;
+				}
+
+				@Override
+				public boolean isReady() {
+					return true;
+				}
+
+				// 본문은 이미 메모리에 있으므로 바로 읽을 수 있다고 알린다.
+				@Override
+				public void setReadListener(ReadListener readListener) {
+					try {
+						if (!isFinished())
+							readListener.onDataAvailable();
+						readListener.onAllDataRead();
+					} catch (IOException e) {
+						readListener.onError(e);
+					}
+				}
+
+				@Override
+				public int read() {
+					return input.read();
+				}
+			};
+		}
+
+		@Override
+		public BufferedReader getReader() {
+			return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package com.woowahanbank.backend.global.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Redis에 저장하는 멱등 키 상태. 실행 중에는 fingerprint만, 끝나면 응답까지 담는다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+	private boolean done;
+	private String fingerprint;
+	private int status;
+	private String contentType;
+	private String body;
+}
@@ -0,0 +1,17 @@
+package com.woowahanbank.backend.global.idempotency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Idempotency-Key 헤더가 붙은 요청을 한 번만 실행하고, 같은 키로 다시 오면 저장해 둔 응답을 그대로 돌려준다.
+ * 헤더가 없는 요청은 평소처럼 실행한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+	// 응답을 보관하는 시간(초)
+	long ttlSeconds() default 86400;
+}
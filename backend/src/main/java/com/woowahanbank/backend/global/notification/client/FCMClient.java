@@ -0,0 +1,16 @@
+package com.woowahanbank.backend.global.notification.client;
+
+import com.google.firebase.messaging.Message;
+
+import java.util.List;
+
+/**
+ * FCM 전송 클라이언트. 처리량 테스트에서는 가짜 구현으로 바꿔 끼울 수 있다.
+ */
+public interface FCMClient {
+    /**
+     * 메시지를 한 번에 보내고 메시지별 결과를 같은 순서로 돌려준다.
+     * 호출 자체가 실패하면 예외를 던진다.
+     */
+    List<FCMSendResult> sendAll(List<Message> messages) throws Exception;
+}
@@ -0,0 +1,16 @@
+package com.woowahanbank.backend.global.notification.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FCMSendResult {
+    private final boolean success;
+    private final boolean retryable;
+    private final String error;
+
+    public static FCMSendResult ok() {
+        return new FCMSendResult(true, false, null);
+    }
+}
@@ -0,0 +1,31 @@
+package com.woowahanbank.backend.global.notification.client;
+
+import com.google.firebase.messaging.Message;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 실제로 보내지 않고 개수만 세는 클라이언트. fcm.client=fake 일 때 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "fcm.client", havingValue = "fake")
+@Slf4j
+public class FakeFCMClient implements FCMClient {
+    private final LongAdder sent = new LongAdder();
+
+    @Override
+    public List<FCMSendResult> sendAll(List<Message> messages) {
+        sent.add(messages.size());
+        log.debug("fake FCM 전송 {}건, 누적 {}건", messages.size(), sent.sum());
+        return messages.stream().map(message -> FCMSendResult.ok()).collect(Collectors.toList());
+    }
+
+    public long getSentCount() {
+        return sent.sum();
+    }
+}
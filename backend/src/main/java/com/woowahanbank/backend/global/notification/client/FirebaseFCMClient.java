@@ -0,0 +1,37 @@
+package com.woowahanbank.backend.global.notification.client;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.SendResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "fcm.client", havingValue = "firebase", matchIfMissing = true)
+public class FirebaseFCMClient implements FCMClient {
+    // 잠시 후 다시 보내면 성공할 수 있는 오류
+    private static final Set<String> RETRYABLE_ERRORS = Set.of(
+            "internal-error", "unavailable", "message-rate-exceeded", "device-message-rate-exceeded");
+
+    @Override
+    public List<FCMSendResult> sendAll(List<Message> messages) throws FirebaseMessagingException {
+        BatchResponse response = FirebaseMessaging.getInstance().sendAll(messages);
+        return response.getResponses().stream()
+                .map(this::toResult)
+                .collect(Collectors.toList());
+    }
+
+    private FCMSendResult toResult(SendResponse response) {
+        if (response.isSuccessful()) {
+            return FCMSendResult.ok();
+        }
+        FirebaseMessagingException e = response.getException();
+        return new FCMSendResult(false, RETRYABLE_ERRORS.contains(e.getErrorCode()), e.getErrorCode());
+    }
+}
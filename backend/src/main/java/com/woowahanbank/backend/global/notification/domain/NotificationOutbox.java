@@ -0,0 +1,58 @@
+package com.woowahanbank.backend.global.notification.domain;
+
+import com.woowahanbank.backend.global.notification.dto.NotificationMessage;
+import com.woowahanbank.backend.global.notification.event.NotificationEvent;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 아직 RabbitMQ로 보내지 않은 알림. 비즈니스 트랜잭션과 함께 저장되고, 릴레이가 발행한 뒤 지운다.
+ */
+@Entity
+@Table(name = "notification_outbox")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+@Builder
+public class NotificationOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String nickname;
+    private String clickAction;
+    private String title;
+    @Column(length = 1000)
+    private String body;
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    public static NotificationOutbox from(NotificationEvent event) {
+        return NotificationOutbox.builder()
+                .nickname(event.getNickname())
+                .clickAction(event.getClickAction())
+                .title(event.getNotificationDto().getTitle())
+                .body(event.getNotificationDto().getBody())
+                .build();
+    }
+
+    public NotificationMessage toMessage() {
+        return NotificationMessage.builder()
+                .nickname(nickname)
+                .clickAction(clickAction)
+                .title(title)
+                .body(body)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.woowahanbank.backend.global.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * RabbitMQ로 주고받는 알림 메시지. 전송에 필요한 값만 담는다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationMessage {
+    private String nickname;
+    private String clickAction;
+    private String title;
+    private String body;
+
+    public NotificationDto toNotificationDto() {
+        return NotificationDto.builder().title(title).body(body).build();
+    }
+}
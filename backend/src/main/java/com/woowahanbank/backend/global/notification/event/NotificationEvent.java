@@ -4,11 +4,9 @@ import com.woowahanbank.backend.global.notification.dto.NotificationDto;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
-import java.io.Serializable;
-
 
 @Getter
-public class NotificationEvent extends ApplicationEvent implements Serializable {
+public class NotificationEvent extends ApplicationEvent {
     private NotificationDto notificationDto;
     private String clickAction;
     private String nickname;
@@ -0,0 +1,48 @@
+package com.woowahanbank.backend.global.notification.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.woowahanbank.backend.global.notification.dto.NotificationMessage;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.io.IOException;
+
+/**
+ * NotificationMessage 전용 JSON 변환기. 타입 정보 헤더 없이 미리 만든 reader/writer로 직렬화한다.
+ */
+public class NotificationMessageConverter implements MessageConverter {
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+
+    public NotificationMessageConverter(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writerFor(NotificationMessage.class);
+        this.reader = objectMapper.readerFor(NotificationMessage.class);
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        if (!(object instanceof NotificationMessage)) {
+            throw new MessageConversionException("지원하지 않는 메시지 타입입니다: " + object.getClass());
+        }
+        try {
+            messageProperties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+            messageProperties.setContentEncoding("UTF-8");
+            return new Message(writer.writeValueAsBytes(object), messageProperties);
+        } catch (IOException e) {
+            throw new MessageConversionException("알림 메시지 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        try {
+            return reader.readValue(message.getBody());
+        } catch (IOException e) {
+            throw new MessageConversionException("알림 메시지 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.woowahanbank.backend.global.notification.listener;
+
+import com.woowahanbank.backend.global.notification.domain.NotificationOutbox;
+import com.woowahanbank.backend.global.notification.repository.NotificationOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * outbox에 쌓인 알림을 묶음으로 RabbitMQ에 발행한다.
+ * 브로커 확인(publisher confirm)을 받은 뒤에만 행을 지우므로 최소 한 번 전달된다.
+ */
+@Component
+@Slf4j
+public class NotificationOutboxRelay {
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String exchangeName;
+    private final String routingKey;
+    private final int batchSize;
+    private final long confirmTimeoutMs;
+
+    public NotificationOutboxRelay(NotificationOutboxRepository notificationOutboxRepository,
+                                   RabbitTemplate rabbitTemplate, TransactionTemplate transactionTemplate,
+                                   @Value("${spring.rabbitmq.exchange-name}") String exchangeName,
+                                   @Value("${spring.rabbitmq.routing-key}") String routingKey,
+                                   @Value("${notification.outbox.batch-size:200}") int batchSize,
+                                   @Value("${notification.outbox.confirm-timeout-ms:5000}") long confirmTimeoutMs) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.exchangeName = exchangeName;
+        this.routingKey = routingKey;
+        this.batchSize = batchSize;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:500}")
+    public void relay() {
+        try {
+            Integer published;
+            do {
+                published = transactionTemplate.execute(status -> publishBatch());
+            } while (published != null && published == batchSize);
+        } catch (Exception e) {
+            log.warn("알림 outbox 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    private int publishBatch() {
+        List<NotificationOutbox> batch = notificationOutboxRepository.findBatchForPublish(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        rabbitTemplate.invoke(operations -> {
+            batch.forEach(outbox -> operations.convertAndSend(exchangeName, routingKey, outbox.toMessage()));
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        });
+        notificationOutboxRepository.deleteAllByIdInBatch(
+                batch.stream().map(NotificationOutbox::getId).collect(Collectors.toList()));
+        return batch.size();
+    }
+}
@@ -1,24 +1,23 @@
 package com.woowahanbank.backend.global.notification.listener;
 
+import com.woowahanbank.backend.global.notification.domain.NotificationOutbox;
 import com.woowahanbank.backend.global.notification.event.NotificationEvent;
+import com.woowahanbank.backend.global.notification.repository.NotificationOutboxRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+/**
+ * 알림 이벤트를 발행한 트랜잭션 안에서 outbox에 적는다.
+ * 트랜잭션이 롤백되면 알림도 남지 않고, 실제 발행은 NotificationOutboxRelay가 요청 스레드 밖에서 한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class NotificationQueueProducer {
-    private final RabbitTemplate rabbitTemplate;
-    @Value("${spring.rabbitmq.exchange-name}")
-    private String exchangeName;
-
-    @Value("${spring.rabbitmq.routing-key}")
-    private String routingKey;
+    private final NotificationOutboxRepository notificationOutboxRepository;
 
     @EventListener
     public void handleCustomEvent(NotificationEvent event) {
-        rabbitTemplate.convertAndSend(exchangeName, routingKey, event);
+        notificationOutboxRepository.save(NotificationOutbox.from(event));
     }
 }
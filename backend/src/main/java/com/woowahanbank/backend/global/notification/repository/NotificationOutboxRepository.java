@@ -0,0 +1,15 @@
+package com.woowahanbank.backend.global.notification.repository;
+
+import com.woowahanbank.backend.global.notification.domain.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+    // 여러 인스턴스가 동시에 릴레이해도 같은 행을 집지 않도록 잠긴 행은 건너뛴다.
+    @Query(value = "SELECT * FROM notification_outbox ORDER BY id LIMIT :size FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<NotificationOutbox> findBatchForPublish(@Param("size") int size);
+}
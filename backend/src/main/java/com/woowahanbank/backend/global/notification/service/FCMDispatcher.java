@@ -0,0 +1,110 @@
+package com.woowahanbank.backend.global.notification.service;
+
+import com.google.firebase.messaging.Message;
+import com.woowahanbank.backend.global.notification.client.FCMClient;
+import com.woowahanbank.backend.global.notification.client.FCMSendResult;
+import com.woowahanbank.backend.global.notification.dto.NotificationMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 메시지 묶음을 FCM으로 보낸다.
+ * 토큰은 한 번에 조회하고, 최대 500건씩 sendAll로 보내며 일시적인 실패만 지수 백오프로 다시 보낸다.
+ */
+@Service
+@Slf4j
+public class FCMDispatcher {
+    private static final int MAX_MESSAGES_PER_CALL = 500;
+    private static final String ICON = "/char5x4.png";
+
+    private final FCMTokenService fcmTokenService;
+    private final FCMClient fcmClient;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+
+    public FCMDispatcher(FCMTokenService fcmTokenService, FCMClient fcmClient,
+                         @Value("${fcm.dispatch.max-attempts:3}") int maxAttempts,
+                         @Value("${fcm.dispatch.initial-backoff-ms:500}") long initialBackoffMs) {
+        this.fcmTokenService = fcmTokenService;
+        this.fcmClient = fcmClient;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+    }
+
+    public void dispatch(List<NotificationMessage> notifications) {
+        Map<String, String> tokens = fcmTokenService.getTokens(notifications.stream()
+                .map(NotificationMessage::getNickname)
+                .distinct()
+                .collect(Collectors.toList()));
+
+        List<Message> messages = new ArrayList<>();
+        for (NotificationMessage notification : notifications) {
+            String token = tokens.get(notification.getNickname());
+            if (token == null) {
+                log.info("FCM Token을 찾을 수 없습니다: {}", notification.getNickname());
+                continue;
+            }
+            messages.add(Message.builder()
+                    .setNotification(notification.toNotificationDto().toNotification())
+                    .setToken(token)
+                    .putData("clickAction", notification.getClickAction())
+                    .putData("icon", ICON)
+                    .build());
+        }
+
+        for (int from = 0; from < messages.size(); from += MAX_MESSAGES_PER_CALL) {
+            sendWithRetry(messages.subList(from, Math.min(from + MAX_MESSAGES_PER_CALL, messages.size())));
+        }
+    }
+
+    private void sendWithRetry(List<Message> batch) {
+        List<Message> pending = batch;
+        long backoff = initialBackoffMs;
+        for (int attempt = 1; attempt <= maxAttempts && !pending.isEmpty(); attempt++) {
+            if (attempt > 1 && !sleep(backoff)) {
+                break;
+            }
+            backoff *= 2;
+            try {
+                List<FCMSendResult> results = fcmClient.sendAll(pending);
+                List<Message> retry = new ArrayList<>();
+                int succeeded = 0;
+                for (int i = 0; i < results.size(); i++) {
+                    FCMSendResult result = results.get(i);
+                    if (result.isSuccess()) {
+                        succeeded++;
+                        continue;
+                    }
+                    if (result.isRetryable()) {
+                        retry.add(pending.get(i));
+                    } else {
+                        log.warn("FCM 전송 실패: {}", result.getError());
+                    }
+                }
+                log.info("FCM 전송 {}건 중 {}건 성공 ({}회차)", pending.size(), succeeded, attempt);
+                pending = retry;
+            } catch (Exception e) {
+                log.warn("FCM 호출 실패 ({}회차): {}", attempt, e.getMessage());
+            }
+        }
+        if (!pending.isEmpty()) {
+            log.error("FCM 재시도 초과로 {}건을 보내지 못했습니다.", pending.size());
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
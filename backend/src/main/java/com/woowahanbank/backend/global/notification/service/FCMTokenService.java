@@ -5,16 +5,27 @@ import com.woowahanbank.backend.global.notification.domain.FCMToken;
 import com.woowahanbank.backend.global.notification.repository.FCMTokenRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class FCMTokenService {
 
+    // FCMToken(@RedisHash("nickname"))이 저장되는 해시 키와 필드
+    private static final String TOKEN_KEY_PREFIX = "nickname:";
+    private static final byte[] TOKEN_FIELD = "token".getBytes(StandardCharsets.UTF_8);
+
     private final FCMTokenRepository fcmTokenRepository;
+    private final RedisTemplate<String, String> template;
 
     public void saveToken(String nickname, String token) {
         FCMToken fcmToken = new FCMToken();
@@ -29,4 +40,25 @@ public class FCMTokenService {
 
         return fcmToken.getToken();
     }
+
+    /**
+     * 여러 닉네임의 토큰을 파이프라인 한 번으로 조회한다. 토큰이 없는 닉네임은 결과에서 빠진다.
+     */
+    public Map<String, String> getTokens(List<String> nicknames) {
+        List<String> keys = new ArrayList<>(nicknames);
+        List<Object> tokens = template.executePipelined((RedisCallback<Object>) connection -> {
+            for (String nickname : keys) {
+                connection.hashCommands()
+                        .hGet((TOKEN_KEY_PREFIX + nickname).getBytes(StandardCharsets.UTF_8), TOKEN_FIELD);
+            }
+            return null;
+        });
+        Map<String, String> result = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (tokens.get(i) != null) {
+                result.put(keys.get(i), (String) tokens.get(i));
+            }
+        }
+        return result;
+    }
 }
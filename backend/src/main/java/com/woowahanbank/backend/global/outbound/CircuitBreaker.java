@@ -0,0 +1,66 @@
+package com.woowahanbank.backend.global.outbound;
+
+/**
+ * 연속 실패가 기준을 넘으면 일정 시간 호출을 막고, 그 뒤 한 건만 시험 삼아 보내 회복 여부를 본다.
+ */
+class CircuitBreaker {
+	enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final int failureThreshold;
+	private final long openMillis;
+
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private long openedAt;
+	private boolean probing;
+
+	CircuitBreaker(int failureThreshold, long openMillis) {
+		this.failureThreshold = failureThreshold;
+		this.openMillis = openMillis;
+	}
+
+	synchronized boolean tryAcquire() {
+		if (state == State.OPEN) {
+			if (System.currentTimeMillis() - openedAt < openMillis)
+				return false;
+			state = State.HALF_OPEN;
+			probing = false;
+		}
+		if (state == State.HALF_OPEN) {
+			if (probing)
+				return false;
+			probing = true;
+		}
+		return true;
+	}
+
+	synchronized void onSuccess() {
+		if (state == State.OPEN)
+			return;
+		state = State.CLOSED;
+		consecutiveFailures = 0;
+		probing = false;
+	}
+
+	synchronized void onFailure() {
+		if (state == State.OPEN)
+			return;
+		if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+			state = State.OPEN;
+			openedAt = System.currentTimeMillis();
+			consecutiveFailures = 0;
+			probing = false;
+		}
+	}
+
+	synchronized void onAbandoned() {
+		if (state == State.HALF_OPEN)
+			probing = false;
+	}
+
+	synchronized State state() {
+		return state;
+	}
+}
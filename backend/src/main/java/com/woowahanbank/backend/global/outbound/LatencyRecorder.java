@@ -0,0 +1,77 @@
+package com.woowahanbank.backend.global.outbound;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 호출 응답 시간을 고정 구간 히스토그램으로 모은다. 백분위는 해당 구간의 상한으로 어림한다.
+ */
+class LatencyRecorder {
+	private static final long[] BOUNDS_MILLIS = {10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000, 60000,
+		Long.MAX_VALUE};
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BOUNDS_MILLIS.length);
+	private final LongAdder calls = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder totalMillis = new LongAdder();
+	private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+
+	void record(long elapsedNanos, boolean failed) {
+		long millis = elapsedNanos / 1_000_000;
+		int i = 0;
+		while (millis > BOUNDS_MILLIS[i])
+			i++;
+		buckets.incrementAndGet(i);
+		calls.increment();
+		if (failed)
+			failures.increment();
+		totalMillis.add(millis);
+		maxMillis.accumulate(millis);
+	}
+
+	void reject() {
+		rejected.increment();
+	}
+
+	long calls() {
+		return calls.sum();
+	}
+
+	long failures() {
+		return failures.sum();
+	}
+
+	long rejected() {
+		return rejected.sum();
+	}
+
+	long averageMillis() {
+		long count = calls.sum();
+		return count == 0 ? 0 : totalMillis.sum() / count;
+	}
+
+	long maxMillis() {
+		return maxMillis.get();
+	}
+
+	long percentileMillis(double percentile) {
+		long[] counts = new long[BOUNDS_MILLIS.length];
+		long total = 0;
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = buckets.get(i);
+			total += counts[i];
+		}
+		if (total == 0)
+			return 0;
+		long rank = (long)Math.ceil(total * percentile);
+		long seen = 0;
+		for (int i = 0; i < counts.length; i++) {
+			seen += counts[i];
+			if (seen >= rank)
+				return Math.min(BOUNDS_MILLIS[i], maxMillis());
+		}
+		return maxMillis();
+	}
+}
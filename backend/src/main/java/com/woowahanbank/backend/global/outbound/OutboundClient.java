@@ -0,0 +1,149 @@
+package com.woowahanbank.backend.global.outbound;
+
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.http.client.OkHttp3ClientHttpRequestFactory;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import com.woowahanbank.backend.global.exception.custom.OutboundUnavailableException;
+import com.woowahanbank.backend.global.outbound.dto.OutboundStatsDto;
+
+import lombok.Builder;
+import lombok.Getter;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+
+/**
+ * 외부 의존성 하나에 대한 HTTP 클라이언트.
+ * 의존성마다 커넥션 풀과 타임아웃을 따로 두고, 동시 호출 수(벌크헤드)와 서킷 브레이커로 느린 상대가 다른 요청을 붙잡지 못하게 한다.
+ * 호출 경로는 base URL 기준 상대 경로로 넘긴다.
+ */
+public class OutboundClient {
+	@Getter
+	private final String name;
+	@Getter
+	private final String baseUrl;
+	private final OkHttpClient okHttpClient;
+	private final RestTemplate restTemplate;
+	private final Semaphore bulkhead;
+	private final int maxConcurrent;
+	private final long acquireTimeoutMillis;
+	private final CircuitBreaker circuitBreaker;
+	private final LatencyRecorder latency = new LatencyRecorder();
+
+	@Builder
+	private OutboundClient(String name, String baseUrl, long connectTimeoutMillis, long readTimeoutMillis,
+		long callTimeoutMillis, int maxIdleConnections, int maxConcurrent, long acquireTimeoutMillis,
+		int failureThreshold, long openMillis) {
+		this.name = name;
+		this.baseUrl = baseUrl;
+		this.okHttpClient = new OkHttpClient.Builder()
+			.connectionPool(new ConnectionPool(maxIdleConnections, 5, TimeUnit.MINUTES))
+			.connectTimeout(connectTimeoutMillis, TimeUnit.MILLISECONDS)
+			.readTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS)
+			.writeTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS)
+			.callTimeout(callTimeoutMillis, TimeUnit.MILLISECONDS)
+			.build();
+		this.restTemplate = new RestTemplate(new OkHttp3ClientHttpRequestFactory(okHttpClient));
+		this.restTemplate.setUriTemplateHandler(new DefaultUriBuilderFactory(baseUrl));
+		this.bulkhead = new Semaphore(maxConcurrent);
+		this.maxConcurrent = maxConcurrent;
+		this.acquireTimeoutMillis = acquireTimeoutMillis;
+		this.circuitBreaker = new CircuitBreaker(failureThreshold, openMillis);
+	}
+
+	/**
+	 * 벌크헤드 자리를 얻고 서킷이 열려 있지 않을 때만 호출한다.
+	 * 연결 실패, 타임아웃, 5xx는 서킷 실패로 세고 {@link OutboundUnavailableException} 으로 바꿔 던진다. 4xx는 그대로 던진다.
+	 */
+	public <T> T execute(Function<RestTemplate, T> call) {
+		if (!acquireBulkhead()) {
+			latency.reject();
+			throw new OutboundUnavailableException(name + " 호출이 몰려 있습니다. 잠시 후 다시 시도해 주세요.");
+		}
+		try {
+			if (!circuitBreaker.tryAcquire()) {
+				latency.reject();
+				throw new OutboundUnavailableException(name + " 호출이 잠시 중단되었습니다. 잠시 후 다시 시도해 주세요.");
+			}
+			long start = System.nanoTime();
+			boolean settled = false;
+			try {
+				T result = call.apply(restTemplate);
+				latency.record(System.nanoTime() - start, false);
+				settled = true;
+				circuitBreaker.onSuccess();
+				return result;
+			} catch (HttpClientErrorException e) {
+				latency.record(System.nanoTime() - start, true);
+				settled = true;
+				circuitBreaker.onSuccess();
+				throw e;
+			} catch (ResourceAccessException | HttpServerErrorException e) {
+				latency.record(System.nanoTime() - start, true);
+				settled = true;
+				circuitBreaker.onFailure();
+				throw new OutboundUnavailableException(name + " 응답을 받지 못했습니다.", e, !notConnected(e));
+			} catch (RuntimeException e) {
+				latency.record(System.nanoTime() - start, true);
+				settled = true;
+				circuitBreaker.onFailure();
+				throw e;
+			} finally {
+				// Error처럼 성공도 실패도 기록하지 못하고 끝나면 시험 호출 자리를 풀어 서킷이 반열림에 묶이지 않게 한다.
+				if (!settled)
+					circuitBreaker.onAbandoned();
+			}
+		} finally {
+			bulkhead.release();
+		}
+	}
+
+	// 연결을 맺지 못한 실패만 요청이 상대에게 닿지 않았다고 본다. 읽기 타임아웃은 상대가 처리했을 수도 있다.
+	private static boolean notConnected(RuntimeException e) {
+		Throwable cause = e.getCause();
+		return e instanceof ResourceAccessException
+			&& (cause instanceof ConnectException || cause instanceof UnknownHostException);
+	}
+
+	private boolean acquireBulkhead() {
+		try {
+			return bulkhead.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	public OutboundStatsDto stats() {
+		return OutboundStatsDto.builder()
+			.name(name)
+			.baseUrl(baseUrl)
+			.circuitState(circuitBreaker.state().name())
+			.inFlight(maxConcurrent - bulkhead.availablePermits())
+			.maxConcurrent(maxConcurrent)
+			.idleConnections(okHttpClient.connectionPool().idleConnectionCount())
+			.calls(latency.calls())
+			.failures(latency.failures())
+			.rejected(latency.rejected())
+			.avgMillis(latency.averageMillis())
+			.p50Millis(latency.percentileMillis(0.5))
+			.p95Millis(latency.percentileMillis(0.95))
+			.p99Millis(latency.percentileMillis(0.99))
+			.maxMillis(latency.maxMillis())
+			.build();
+	}
+
+	void close() {
+		okHttpClient.dispatcher().executorService().shutdown();
+		okHttpClient.connectionPool().evictAll();
+	}
+}
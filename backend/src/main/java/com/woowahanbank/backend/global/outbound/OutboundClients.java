@@ -0,0 +1,88 @@
+package com.woowahanbank.backend.global.outbound;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.woowahanbank.backend.global.outbound.dto.OutboundStatsDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 의존성별 {@link OutboundClient} 를 만들어 보관한다.
+ * 설정은 outbound.&lt;이름&gt;.* 로 덮어쓸 수 있고, 테스트에서는 base-url을 로컬 스텁 서버로 바꾸면 된다.
+ */
+@Component
+@Slf4j
+public class OutboundClients {
+	public static final String KAKAO_PAY = "kakao-pay";
+	public static final String OPENAI = "openai";
+	public static final String GOOGLE_OAUTH = "google-oauth";
+	public static final String KAKAO_AUTH = "kakao-auth";
+	public static final String GOOGLE_APIS = "google-apis";
+
+	private final Map<String, OutboundClient> clients = new LinkedHashMap<>();
+
+	public OutboundClients(Environment env) {
+		register(env, KAKAO_PAY, "https://kapi.kakao.com", 5000, 20);
+		register(env, OPENAI, "https://api.openai.com", 60000, 2);
+		register(env, GOOGLE_OAUTH, "https://oauth2.googleapis.com", 5000, 20);
+		// OIDC 공개키(JWKS) 조회. 갱신은 제공자별로 한 번씩만 돌므로 동시 호출은 적게 둔다.
+		register(env, KAKAO_AUTH, "https://kauth.kakao.com", 2000, 4);
+		register(env, GOOGLE_APIS, "https://www.googleapis.com", 2000, 4);
+	}
+
+	private void register(Environment env, String name, String baseUrl, long readTimeoutMillis, int maxConcurrent) {
+		String prefix = "outbound." + name + ".";
+		long connectTimeout = env.getProperty(prefix + "connect-timeout-ms", Long.class, 2000L);
+		long readTimeout = env.getProperty(prefix + "read-timeout-ms", Long.class, readTimeoutMillis);
+		int concurrent = env.getProperty(prefix + "max-concurrent", Integer.class, maxConcurrent);
+		OutboundClient client = OutboundClient.builder()
+			.name(name)
+			.baseUrl(env.getProperty(prefix + "base-url", baseUrl))
+			.connectTimeoutMillis(connectTimeout)
+			.readTimeoutMillis(readTimeout)
+			.callTimeoutMillis(env.getProperty(prefix + "call-timeout-ms", Long.class, connectTimeout + readTimeout))
+			.maxIdleConnections(env.getProperty(prefix + "max-idle-connections", Integer.class, concurrent))
+			.maxConcurrent(concurrent)
+			.acquireTimeoutMillis(env.getProperty(prefix + "acquire-timeout-ms", Long.class, 100L))
+			.failureThreshold(env.getProperty(prefix + "failure-threshold", Integer.class, 5))
+			.openMillis(env.getProperty(prefix + "open-ms", Long.class, 30000L))
+			.build();
+		clients.put(name, client);
+	}
+
+	public OutboundClient get(String name) {
+		OutboundClient client = clients.get(name);
+		if (client == null)
+			throw new IllegalArgumentException("등록되지 않은 외부 의존성입니다: " + name);
+		return client;
+	}
+
+	public List<OutboundStatsDto> stats() {
+		return clients.values().stream().map(OutboundClient::stats).collect(Collectors.toList());
+	}
+
+	@Scheduled(fixedDelayString = "${outbound.stats-log-interval-ms:60000}")
+	public void logStats() {
+		for (OutboundStatsDto stats : stats()) {
+			if (stats.getCalls() == 0 && stats.getRejected() == 0)
+				continue;
+			log.info("외부 호출 {}: calls={}, failures={}, rejected={}, p50={}ms, p95={}ms, p99={}ms, max={}ms, circuit={}",
+				stats.getName(), stats.getCalls(), stats.getFailures(), stats.getRejected(), stats.getP50Millis(),
+				stats.getP95Millis(), stats.getP99Millis(), stats.getMaxMillis(), stats.getCircuitState());
+		}
+	}
+
+	@PreDestroy
+	public void close() {
+		clients.values().forEach(OutboundClient::close);
+	}
+}
@@ -0,0 +1,24 @@
+package com.woowahanbank.backend.global.outbound.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.woowahanbank.backend.global.outbound.OutboundClients;
+import com.woowahanbank.backend.global.response.BaseResponse;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/outbound")
+@RequiredArgsConstructor
+public class OutboundStatsController {
+	private final OutboundClients outboundClients;
+
+	@GetMapping("/stats")
+	public ResponseEntity<?> getStats() {
+		return BaseResponse.okWithData(HttpStatus.OK, "외부 호출 통계 조회 완료", outboundClients.stats());
+	}
+}
@@ -0,0 +1,27 @@
+package com.woowahanbank.backend.global.outbound.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboundStatsDto {
+	private String name;
+	private String baseUrl;
+	private String circuitState;
+	private int inFlight;
+	private int maxConcurrent;
+	private int idleConnections;
+	private long calls;
+	private long failures;
+	private long rejected;
+	private long avgMillis;
+	private long p50Millis;
+	private long p95Millis;
+	private long p99Millis;
+	private long maxMillis;
+}
@@ -4,7 +4,6 @@ import java.util.Arrays;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.annotation.Order;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
@@ -22,6 +21,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.woowahanbank.backend.domain.user.service.UserService;
 import com.woowahanbank.backend.global.auth.jwt.JwtAuthenticationFilter;
+import com.woowahanbank.backend.global.auth.jwt.PrincipalCache;
 import com.woowahanbank.backend.global.auth.security.CustomUserDetailService;
 import com.woowahanbank.backend.global.auth.security.RestAccessDeniedHandler;
 import com.woowahanbank.backend.global.auth.security.RestAuthenticationEntryPoint;
@@ -35,7 +35,7 @@ public class SecurityConfig {
 
 	private final UserService userService;
 	private final PasswordEncoder passwordEncoder;
-	private final RedisTemplate<String, String> template;
+	private final PrincipalCache principalCache;
 	private final CustomUserDetailService customUserDetailService;
 
 	@Bean
@@ -64,6 +64,8 @@ public class SecurityConfig {
 			.antMatchers("/api/depositor/**").authenticated()
 			.antMatchers("/api/savingser/**").authenticated()
 			.antMatchers("/api/loaner/**").authenticated()
+			.antMatchers("/api/approvals/**").authenticated()
+			.antMatchers("/api/outbound/**").hasAuthority("ROLE_ADMIN")
 			.antMatchers("/api/user/info").authenticated()
 			.antMatchers("/**").permitAll()
 			.and().oauth2Login().permitAll();
@@ -124,8 +126,8 @@ public class SecurityConfig {
 		@Override
 		public void configure(HttpSecurity http) throws Exception {
 			AuthenticationManager authenticationManager = http.getSharedObject(AuthenticationManager.class);
-			http.addFilterBefore(new JwtAuthenticationFilter(authenticationManager, userService, template),
+			http.addFilterBefore(new JwtAuthenticationFilter(authenticationManager, userService, principalCache),
 				UsernamePasswordAuthenticationFilter.class);
 		}
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
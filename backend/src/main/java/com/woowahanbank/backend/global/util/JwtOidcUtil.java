@@ -1,8 +1,9 @@
 package com.woowahanbank.backend.global.util;
 
-import java.security.PublicKey;
 import java.security.interfaces.RSAPublicKey;
 import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,7 +18,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.woowahanbank.backend.global.auth.jwt.JwtHeaderDto;
 import com.woowahanbank.backend.global.auth.jwt.JwtPayloadDto;
-import com.woowahanbank.backend.global.auth.oauth.oidc.publickey.PublicKeyService;
+import com.woowahanbank.backend.global.auth.oauth.oidc.publickey.JwksKeyCache;
+import com.woowahanbank.backend.global.auth.oauth.oidc.publickey.OidcProvider;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,13 +28,17 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtOidcUtil {
 	private static final String ISS = "https://kauth.kakao.com";
 	private final String aud;
-	private final PublicKeyService publicKeyService;
+	private final JwksKeyCache jwksKeyCache;
+	private final ObjectMapper objectMapper;
+	// kid가 같으면 키도 같으므로 검증기를 재사용한다.
+	private final Map<String, JWTVerifier> verifiers = new ConcurrentHashMap<>();
 
 	@Autowired // 생성자를 통한 주입을 위해 @Autowired 어노테이션 추가
 	public JwtOidcUtil(@Value("${spring.security.oauth2.client.registration.kakao.client-id}") String aud,
-		PublicKeyService publicKeyService) {
+		JwksKeyCache jwksKeyCache, ObjectMapper objectMapper) {
 		this.aud = aud;
-		this.publicKeyService = publicKeyService;
+		this.jwksKeyCache = jwksKeyCache;
+		this.objectMapper = objectMapper;
 	}
 
 	public JwtPayloadDto decodeIdToken(String idToken) throws JsonProcessingException {
@@ -46,7 +52,6 @@ public class JwtOidcUtil {
 		String headerJson = new String(Base64.getUrlDecoder().decode(jwtParts[0]));
 		String payloadJson = new String(Base64.getUrlDecoder().decode(jwtParts[1]));
 
-		ObjectMapper objectMapper = new ObjectMapper();
 		JwtHeaderDto jwtHeaderDto = objectMapper.readValue(headerJson, JwtHeaderDto.class);
 		JwtPayloadDto jwtPayloadDto = objectMapper.readValue(payloadJson, JwtPayloadDto.class);
 
@@ -56,15 +61,15 @@ public class JwtOidcUtil {
 		}
 
 		// 검증에 필요한 시크릿 키나 공개키를 생성합니다.
-		PublicKey publicKey = publicKeyService.getPublicKeyByKid(jwtHeaderDto.getKid());
+		RSAPublicKey publicKey = jwksKeyCache.getPublicKey(OidcProvider.KAKAO, jwtHeaderDto.getKid());
 
 		// JWTVerifier를 생성하고 토큰을 검증합니다.
-		JWTVerifier verifier = JWT
-			.require(Algorithm.RSA256((RSAPublicKey)publicKey, null))
+		JWTVerifier verifier = verifiers.computeIfAbsent(OidcProvider.KAKAO + ":" + jwtHeaderDto.getKid(), key -> JWT
+			.require(Algorithm.RSA256(publicKey, null))
 			.ignoreIssuedAt()
 			.withIssuer(ISS)
 			.withAudience(aud)
-			.build();
+			.build());
 
 		DecodedJWT decodedJWT = verifier.verify(idToken);
 		return jwtPayloadDto;
@@ -37,6 +37,7 @@ public class JwtTokenUtil {
 	private static String secretKey;
 	private static long accessExpirationTime;
 	private static long refreshExpirationTime;
+	private static JWTVerifier verifier;
 
 	@Autowired
 	public JwtTokenUtil(@Value("${jwt.secret}") String secretKey,
@@ -45,20 +46,19 @@ public class JwtTokenUtil {
 		JwtTokenUtil.secretKey = secretKey;
 		JwtTokenUtil.accessExpirationTime = accessExpirationTime;
 		JwtTokenUtil.refreshExpirationTime = refreshExpirationTime;
-	}
-
-	public static JWTVerifier getVerifier() {
-		return JWT
+		// JWTVerifier는 상태가 없어 여러 스레드에서 공유해도 안전하다.
+		JwtTokenUtil.verifier = JWT
 			.require(Algorithm.HMAC512(secretKey.getBytes()))
 			.withIssuer(ISSUER)
 			.build();
 	}
 
+	public static JWTVerifier getVerifier() {
+		return verifier;
+	}
+
 	public static JWTVerifier getVerifier(String token) {
-		return JWT
-			.require(Algorithm.HMAC512(secretKey.getBytes()))
-			.withIssuer(ISSUER)
-			.build();
+		return verifier;
 	}
 
 	public static String getAccessToken(String userId) {
@@ -87,11 +87,6 @@ public class JwtTokenUtil {
 	}
 
 	public static DecodedJWT handleError(String token) {
-		JWTVerifier verifier = JWT
-			.require(Algorithm.HMAC512(secretKey.getBytes()))
-			.withIssuer(ISSUER)
-			.build();
-
 		try {
 			return verifier.verify(token.replace(TOKEN_PREFIX, ""));
 		} catch (AlgorithmMismatchException ex) {
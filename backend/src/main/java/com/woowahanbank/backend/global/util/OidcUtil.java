@@ -1,8 +1,9 @@
 package com.woowahanbank.backend.global.util;
 
-import java.security.PublicKey;
 import java.security.interfaces.RSAPublicKey;
 import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,8 +18,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.woowahanbank.backend.global.auth.jwt.JwtHeaderDto;
 import com.woowahanbank.backend.global.auth.jwt.JwtPayloadDto;
-import com.woowahanbank.backend.global.auth.oauth.oidc.publickey.GooglePublicKeyService;
-import com.woowahanbank.backend.global.auth.oauth.oidc.publickey.PublicKeyService;
+import com.woowahanbank.backend.global.auth.oauth.oidc.publickey.JwksKeyCache;
+import com.woowahanbank.backend.global.auth.oauth.oidc.publickey.OidcProvider;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -29,19 +30,21 @@ public class OidcUtil {
 	private static final String GOOGLE_ISS = "https://accounts.google.com";
 	private final String kakaoAud;
 	private final String googleAud;
-	private final PublicKeyService publicKeyService;
-	private final GooglePublicKeyService googlePublicKeyService;
+	private final JwksKeyCache jwksKeyCache;
+	private final ObjectMapper objectMapper;
+	// kid가 같으면 키도 같으므로 검증기를 재사용한다.
+	private final Map<String, JWTVerifier> verifiers = new ConcurrentHashMap<>();
 
 	@Autowired
 	public OidcUtil(
 		@Value("${spring.security.oauth2.client.registration.kakao.client-id}") String kakaoAud,
 		@Value("${spring.security.oauth2.client.registration.google.client-id}") String googleAud,
-		PublicKeyService publicKeyService,
-		GooglePublicKeyService googlePublicKeyService) {
+		JwksKeyCache jwksKeyCache,
+		ObjectMapper objectMapper) {
 		this.kakaoAud = kakaoAud;
 		this.googleAud = googleAud;
-		this.publicKeyService = publicKeyService;
-		this.googlePublicKeyService= googlePublicKeyService;
+		this.jwksKeyCache = jwksKeyCache;
+		this.objectMapper = objectMapper;
 	}
 
 	public JwtPayloadDto decodeIdToken(String idToken, String service) throws JsonProcessingException {
@@ -55,7 +58,6 @@ public class OidcUtil {
 		String headerJson = new String(Base64.getUrlDecoder().decode(jwtParts[0]));
 		String payloadJson = new String(Base64.getUrlDecoder().decode(jwtParts[1]));
 
-		ObjectMapper objectMapper = new ObjectMapper();
 		JwtHeaderDto jwtHeaderDto = objectMapper.readValue(headerJson, JwtHeaderDto.class);
 		JwtPayloadDto jwtPayloadDto = objectMapper.readValue(payloadJson, JwtPayloadDto.class);
 
@@ -66,29 +68,30 @@ public class OidcUtil {
 		}
 
 		// 검증에 필요한 시크릿 키나 공개키를 생성합니다.
-		PublicKey publicKey;
+		OidcProvider provider;
 		String issuer;
 		String audience;
 
 		if ("kakao".equals(service)) {
+			provider = OidcProvider.KAKAO;
 			issuer = KAKAO_ISS;
 			audience = kakaoAud;
-			publicKey = publicKeyService.getPublicKeyByKid(jwtHeaderDto.getKid());
 		} else if ("google".equals(service)) {
+			provider = OidcProvider.GOOGLE;
 			issuer = GOOGLE_ISS;
 			audience = googleAud;
-			publicKey = googlePublicKeyService.getPublicKey(jwtHeaderDto.getKid());
 		} else {
 			throw new IllegalArgumentException("Unknown service: " + service);
 		}
+		RSAPublicKey publicKey = jwksKeyCache.getPublicKey(provider, jwtHeaderDto.getKid());
 
 		// JWTVerifier를 생성하고 토큰을 검증합니다.
-		JWTVerifier verifier = JWT
-			.require(Algorithm.RSA256((RSAPublicKey)publicKey, null))
+		JWTVerifier verifier = verifiers.computeIfAbsent(provider + ":" + jwtHeaderDto.getKid(), key -> JWT
+			.require(Algorithm.RSA256(publicKey, null))
 			.ignoreIssuedAt()
 			.withIssuer(issuer)
 			.withAudience(audience)
-			.build();
+			.build());
 
 		DecodedJWT decodedJWT = verifier.verify(idToken);
 		return jwtPayloadDto;
@@ -0,0 +1,127 @@
+package com.woowahanbank.backend.domain.banking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.woowahanbank.backend.domain.user.domain.User;
+import com.woowahanbank.backend.domain.user.repository.UserRepository;
+import com.woowahanbank.backend.support.ContainerTestSupport;
+
+/**
+ * 가족(부모-아이 한 쌍)마다 64개의 이체를 동시에 걸어 잃어버리는 갱신이나 음수 잔액이 없는지 확인한다.
+ * 가족 수를 늘려 서로 다른 행을 잠그는 이체가 섞여도 결과가 같은지도 본다.
+ */
+@SpringBootTest
+class BalanceLedgerServiceConcurrencyTest extends ContainerTestSupport {
+	private static final int CONCURRENT_PER_FAMILY = 64;
+	private static final int ROUNDS = 10;
+	private static final int OPERATIONS_PER_FAMILY = CONCURRENT_PER_FAMILY * ROUNDS;
+
+	@Autowired
+	private BalanceLedgerService balanceLedgerService;
+	@Autowired
+	private UserRepository userRepository;
+
+	private final List<User> parents = new ArrayList<>();
+	private final List<User> children = new ArrayList<>();
+
+	@AfterEach
+	void tearDown() {
+		userRepository.deleteAll(parents);
+		userRepository.deleteAll(children);
+		parents.clear();
+		children.clear();
+	}
+
+	@ParameterizedTest(name = "가족 {0}개")
+	@ValueSource(ints = {1, 4})
+	void concurrentTransfersDoNotLoseUpdates(int families) throws Exception {
+		createFamilies(families, 100_000L);
+
+		run(families, (family, i) -> {
+			if (i % 2 == 0)
+				balanceLedgerService.transfer(parents.get(family).getId(), children.get(family).getId(), 10);
+			else
+				balanceLedgerService.apply(parents.get(family).getId(), 1);
+		});
+
+		// 짝수 번째는 부모에서 아이로 10씩, 홀수 번째는 부모에게 1씩 더했다.
+		for (int family = 0; family < families; family++) {
+			assertEquals(100_000L - OPERATIONS_PER_FAMILY / 2 * 10 + OPERATIONS_PER_FAMILY / 2,
+				balance(parents.get(family)));
+			assertEquals(OPERATIONS_PER_FAMILY / 2 * 10L, balance(children.get(family)));
+		}
+	}
+
+	@ParameterizedTest(name = "가족 {0}개")
+	@ValueSource(ints = {1, 4})
+	void concurrentWithdrawalsNeverOverdraw(int families) throws Exception {
+		createFamilies(families, 0L);
+		for (int family = 0; family < families; family++)
+			balanceLedgerService.apply(children.get(family).getId(), 1_000);
+		AtomicIntegerArray succeeded = new AtomicIntegerArray(families);
+
+		run(families, (family, i) -> {
+			if (balanceLedgerService.tryApply(children.get(family).getId(), -7))
+				succeeded.incrementAndGet(family);
+		});
+
+		for (int family = 0; family < families; family++) {
+			assertEquals(1_000 / 7, succeeded.get(family));
+			assertEquals(1_000L % 7, balance(children.get(family)));
+		}
+	}
+
+	private void createFamilies(int families, long parentMoney) {
+		for (int family = 0; family < families; family++) {
+			parents.add(userRepository.save(
+				User.builder().userId("ledger-test-parent-" + family).money(parentMoney).score(0).build()));
+			children.add(userRepository.save(
+				User.builder().userId("ledger-test-child-" + family).money(0L).score(0).build()));
+		}
+	}
+
+	// 가족마다 CONCURRENT_PER_FAMILY개의 스레드가 한꺼번에 출발해 OPERATIONS_PER_FAMILY번을 나눠 돈다.
+	private void run(int families, Operation operation) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_PER_FAMILY * families);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int family = 0; family < families; family++) {
+			for (int i = 0; i < OPERATIONS_PER_FAMILY; i++) {
+				int familyIndex = family;
+				int index = i;
+				futures.add(executor.submit(() -> {
+					start.await();
+					operation.run(familyIndex, index);
+					return null;
+				}));
+			}
+		}
+		start.countDown();
+		for (Future<?> future : futures)
+			future.get(60, TimeUnit.SECONDS);
+		executor.shutdown();
+	}
+
+	private long balance(User user) {
+		return userRepository.findById(user.getId()).orElseThrow().getMoney();
+	}
+
+	private interface Operation {
+		void run(int family, int index);
+	}
+}
@@ -0,0 +1,110 @@
+package com.woowahanbank.backend.domain.customer.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.woowahanbank.backend.domain.customer.dto.RateTarget;
+import com.woowahanbank.backend.domain.financialproducts.domain.ProductType;
+import com.woowahanbank.backend.domain.user.domain.User;
+import com.woowahanbank.backend.domain.user.repository.UserRepository;
+import com.woowahanbank.backend.support.ContainerTestSupport;
+
+/**
+ * 예금 계약 수백만 건에서 이자 지급일 조회가 billing_day 인덱스 범위 스캔을 타는지 확인하고, 예전 DAY(date) 조회와 시간을 비교한다.
+ * 계약 수는 -Dbenchmark.contracts 로 바꾼다. ./gradlew benchmarkTest 로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class RateBatchRepositoryBenchmarkTest extends ContainerTestSupport {
+	private static final int CONTRACTS = Integer.getInteger("benchmark.contracts", 3_000_000);
+	private static final int PRODUCTS = 1_000;
+	private static final int BATCH = 100_000;
+	private static final int BILLING_DAY = 15;
+	private static final int CHUNK = 500;
+	private static final String DIGITS = "(SELECT 0 AS n UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3"
+		+ " UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8"
+		+ " UNION ALL SELECT 9)";
+	// 0부터 BATCH - 1 까지
+	private static final String SEQUENCE = "SELECT a.n + 10 * b.n + 100 * c.n + 1000 * d.n + 10000 * e.n AS n FROM "
+		+ DIGITS + " a, " + DIGITS + " b, " + DIGITS + " c, " + DIGITS + " d, " + DIGITS + " e";
+	// user-013 이전의 findByDate_Date 와 같은 조건
+	private static final String LEGACY_SQL = "SELECT c.id, c.user_id, c.money, p.parent_id, p.rate FROM depositor c"
+		+ " JOIN financial_product p ON p.id = c.financial_product_id"
+		+ " WHERE DAY(c.date) = ? AND c.allow_product = 1";
+
+	@Autowired
+	private RateBatchRepository rateBatchRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void billingDayLookupUsesIndexRangeScan() {
+		seed();
+
+		Map<String, Object> plan = contractPlan(jdbcTemplate.queryForList(
+			"EXPLAIN " + RateBatchRepository.targetsSql(ProductType.DEPOSIT), BILLING_DAY, 0L, CHUNK));
+		System.out.printf("billing_day 실행 계획: %s%n", plan);
+		assertEquals("idx_depositor_billing_day", plan.get("key"));
+		assertEquals("range", plan.get("type"));
+
+		Map<String, Object> legacyPlan = contractPlan(jdbcTemplate.queryForList("EXPLAIN " + LEGACY_SQL, BILLING_DAY));
+		System.out.printf("DAY(date) 실행 계획: %s%n", legacyPlan);
+		assertEquals("ALL", legacyPlan.get("type"));
+
+		long startedAt = System.nanoTime();
+		int rows = 0;
+		long lastId = 0;
+		while (true) {
+			List<RateTarget> targets = rateBatchRepository.findTargets(ProductType.DEPOSIT, BILLING_DAY, lastId, CHUNK);
+			if (targets.isEmpty())
+				break;
+			rows += targets.size();
+			lastId = targets.get(targets.size() - 1).getId();
+		}
+		long indexedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+		startedAt = System.nanoTime();
+		int legacyRows = jdbcTemplate.queryForList(LEGACY_SQL, BILLING_DAY).size();
+		long legacyMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+		assertEquals(legacyRows, rows);
+		System.out.printf("계약 %d건 중 %d일 대상 %d건: billing_day 청크 조회 %dms, DAY(date) 조회 %dms%n", CONTRACTS,
+			BILLING_DAY, rows, indexedMillis, legacyMillis);
+	}
+
+	// 계약 CONTRACTS 건을 상품 PRODUCTS 개에 나눠 넣는다. 가입일은 1년에 고르게 퍼지고, 열 건 중 한 건은 승인 전이다.
+	private void seed() {
+		User parent = userRepository.save(User.builder().userId("rate-benchmark-parent").money(0L).score(0).build());
+		for (int i = 0; i < PRODUCTS; i++) {
+			jdbcTemplate.update("INSERT INTO financial_product (name, rate, period, product_type, parent_id)"
+				+ " VALUES (?, 3, 12, 'DEPOSIT', ?)", "benchmark-" + i, parent.getId());
+		}
+		long firstProductId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM financial_product", Long.class);
+		for (int offset = 0; offset < CONTRACTS; offset += BATCH) {
+			jdbcTemplate.update("INSERT INTO depositor"
+				+ " (allow_product, money, date, expiry, billing_day, financial_product_id, user_id)"
+				+ " SELECT t.n % 10 <> 0, 10000, t.d, t.d, DAY(t.d), ? + t.n % ?, ?"
+				+ " FROM (SELECT s.n, TIMESTAMP('2023-01-01') + INTERVAL (? + s.n) % 365 DAY AS d"
+				+ " FROM (" + SEQUENCE + ") s WHERE s.n < ?) t", firstProductId, PRODUCTS, parent.getId(), offset,
+				CONTRACTS - offset);
+		}
+		jdbcTemplate.execute("ANALYZE TABLE depositor, financial_product");
+	}
+
+	private static Map<String, Object> contractPlan(List<Map<String, Object>> plan) {
+		return plan.stream()
+			.filter(row -> "c".equals(row.get("table")))
+			.findFirst()
+			.orElseThrow();
+	}
+}
@@ -0,0 +1,47 @@
+package com.woowahanbank.backend.domain.customer.service;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.woowahanbank.backend.support.JmhSupport;
+
+/**
+ * 카드 번호 한 건을 만드는 데 드는 CPU 시간을 잰다. 발급기는 블록 예약 외에는 DB를 거치지 않는다.
+ * 예전 무작위 발급은 시도마다 findByCardNumber 조회가 붙었으므로, 여기 나오는 시간은 그 조회를 뺀 하한이다.
+ * ./gradlew benchmarkTest --tests '*CardNumberAllocatorBenchmark' 로 실행한다.
+ */
+@Tag("benchmark")
+@State(Scope.Thread)
+public class CardNumberAllocatorBenchmark {
+	private static final String PREFIX = "512341";
+	private static final long BODY_SPACE = 1_000_000_000L;
+
+	private final Random random = new Random(42);
+	private long counter;
+
+	// allocate()와 같이 건너뛴 카운터는 다음 카운터로 넘어간다.
+	@Benchmark
+	public String allocatorNumber() {
+		while (true) {
+			String cardNumber = CardNumberAllocator.cardNumber(PREFIX, counter);
+			counter = (counter + 1) % BODY_SPACE;
+			if (cardNumber != null)
+				return cardNumber;
+		}
+	}
+
+	@Benchmark
+	public String legacyRandomNumber() {
+		return CardNumberAllocatorTest.legacyCardNumber(51, 234, 1, 1, random);
+	}
+
+	@Test
+	void compareWithLegacyGeneration() throws Exception {
+		JmhSupport.run(CardNumberAllocatorBenchmark.class);
+	}
+}
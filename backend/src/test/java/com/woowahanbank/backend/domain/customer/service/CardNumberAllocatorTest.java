@@ -0,0 +1,120 @@
+package com.woowahanbank.backend.domain.customer.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class CardNumberAllocatorTest {
+	private static final long BODY_SPACE = 1_000_000_000L;
+	private static final int WINDOW = 1_000_000;
+	private static final String PREFIX = "512341";
+
+	// 10^9 전체를 도는 데는 1분 이상 걸리므로 카운터 앞뒤 구간에서 범위와 중복을 확인한다.
+	@Test
+	void permuteMapsCountersToDistinctBodies() {
+		long[] bodies = new long[WINDOW * 2];
+		for (int i = 0; i < WINDOW; i++) {
+			bodies[i] = CardNumberAllocator.permute(i);
+			bodies[WINDOW + i] = CardNumberAllocator.permute(BODY_SPACE - WINDOW + i);
+		}
+		Arrays.sort(bodies);
+		assertTrue(bodies[0] >= 0);
+		assertTrue(bodies[bodies.length - 1] < BODY_SPACE);
+		for (int i = 1; i < bodies.length; i++)
+			assertNotEquals(bodies[i - 1], bodies[i]);
+	}
+
+	@Test
+	void luhnDigitMatchesKnownValues() {
+		assertEquals(3, CardNumberAllocator.luhnDigit("7992739871"));
+		assertEquals(0, CardNumberAllocator.luhnDigit("0000000000000000"));
+		assertEquals(6, CardNumberAllocator.luhnDigit("453201511283036"));
+	}
+
+	@Test
+	void luhnDigitMakesNumbersValid() {
+		Random random = new Random(42);
+		for (int i = 0; i < 10_000; i++) {
+			String payload = String.format("%06d%09d", random.nextInt(1_000_000), random.nextInt(1_000_000_000));
+			int digit = CardNumberAllocator.luhnDigit(payload);
+			assertTrue(digit >= 0 && digit <= 9);
+			assertTrue(isLuhnValid(payload + digit));
+		}
+	}
+
+	// 예전 makeCardNumber를 그대로 옮겨 와 만든 번호의 마지막 자리가 legacyCheckDigit와 같은지 본다.
+	@Test
+	void legacyCheckDigitMatchesLegacyGenerator() {
+		Random random = new Random(42);
+		for (int i = 0; i < WINDOW; i++) {
+			String legacy = legacyCardNumber(1 + random.nextInt(100_000), random.nextInt(1_000), random.nextInt(1_000),
+				1 + random.nextInt(3), random);
+			if (legacy.length() != 16)
+				continue;
+			assertEquals(legacy.charAt(15) - '0', CardNumberAllocator.legacyCheckDigit(legacy.substring(0, 15)));
+		}
+	}
+
+	// 발급한 번호가 서로 겹치지 않고, 예전 공식을 만족하는 번호(예전에 발급됐을 수 있는 번호)가 하나도 없는지 본다.
+	@Test
+	void issuedNumbersAreDistinctAndNeverLegacyShaped() {
+		Set<String> issued = new HashSet<>();
+		int skipped = 0;
+		for (long counter = 0; counter < WINDOW * 3L; counter++) {
+			String cardNumber = CardNumberAllocator.cardNumber(PREFIX, counter);
+			if (cardNumber == null) {
+				skipped++;
+				continue;
+			}
+			assertEquals(16, cardNumber.length());
+			assertTrue(isLuhnValid(cardNumber));
+			assertNotEquals(cardNumber.charAt(15) - '0', CardNumberAllocator.legacyCheckDigit(cardNumber.substring(0, 15)));
+			assertTrue(issued.add(cardNumber));
+		}
+		// 건너뛰는 카운터는 다섯 개 중 하나보다 적다.
+		assertTrue(skipped < WINDOW * 3 / 5);
+	}
+
+	static String legacyCardNumber(long familyId, long productId, int parentId, int type, Random random) {
+		int num = 0;
+		int last = (int)(familyId % 10);
+		while (familyId >= 10) {
+			familyId /= 10;
+			num++;
+		}
+		StringBuilder sb = new StringBuilder();
+		sb.append(num + 1).append(familyId).append(last).append(productId % 10).append(parentId % 10).append(type);
+		int sum = num + 1 + (int)(familyId % 10) * 2 + (int)(productId % 10) + (parentId % 10) * 2 + type;
+		for (int i = 0; i < 9; i++) {
+			int randNum = random.nextInt(10);
+			sb.append(randNum);
+			if (i % 2 == 0)
+				sum += randNum * 2;
+			else
+				sum += randNum;
+		}
+		sb.append(10 - (sum % 10));
+		return sb.toString();
+	}
+
+	private static boolean isLuhnValid(String number) {
+		int sum = 0;
+		for (int i = 0; i < number.length(); i++) {
+			int digit = number.charAt(number.length() - 1 - i) - '0';
+			if (i % 2 == 1) {
+				digit *= 2;
+				if (digit > 9)
+					digit -= 9;
+			}
+			sum += digit;
+		}
+		return sum % 10 == 0;
+	}
+}
@@ -0,0 +1,144 @@
+package com.woowahanbank.backend.domain.customer.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.woowahanbank.backend.domain.customer.domain.Depositor;
+import com.woowahanbank.backend.domain.customer.domain.Loaner;
+import com.woowahanbank.backend.domain.customer.domain.Savingser;
+import com.woowahanbank.backend.domain.customer.repository.DepositorRepository;
+import com.woowahanbank.backend.domain.customer.repository.LoanerRepository;
+import com.woowahanbank.backend.domain.customer.repository.SavingserRepository;
+import com.woowahanbank.backend.domain.family.domain.Family;
+import com.woowahanbank.backend.domain.family.repository.FamilyRepository;
+import com.woowahanbank.backend.domain.financialproducts.domain.FinancialProduct;
+import com.woowahanbank.backend.domain.financialproducts.domain.ProductType;
+import com.woowahanbank.backend.domain.financialproducts.repository.FinancialProductRepository;
+import com.woowahanbank.backend.domain.user.domain.Role;
+import com.woowahanbank.backend.domain.user.domain.User;
+import com.woowahanbank.backend.domain.user.repository.UserRepository;
+import com.woowahanbank.backend.global.auth.security.CustomUserDetails;
+import com.woowahanbank.backend.support.ContainerTestSupport;
+
+/**
+ * 예금/대출/적금 목록 조회가 계약 수와 상관없이 쿼리 한 번으로 끝나는지 Hibernate 통계로 센다.
+ * 예산을 넘는 쿼리가 하나라도 나가면 실패한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CustomerListingQueryCountTest extends ContainerTestSupport {
+	private static final long QUERY_BUDGET = 1;
+	private static final int CONTRACTS = 5;
+	private static final String CHILD_NICKNAME = "query-count-child";
+
+	@Autowired
+	private DepositorServiceImpl depositorService;
+	@Autowired
+	private LoanerServiceImpl loanerService;
+	@Autowired
+	private SavingserServiceImpl savingserService;
+	@Autowired
+	private DepositorRepository depositorRepository;
+	@Autowired
+	private LoanerRepository loanerRepository;
+	@Autowired
+	private SavingserRepository savingserRepository;
+	@Autowired
+	private FinancialProductRepository financialProductRepository;
+	@Autowired
+	private FamilyRepository familyRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+	private User parent;
+	private User child;
+	private FinancialProduct depositProduct;
+	private FinancialProduct loanProduct;
+	private FinancialProduct savingsProduct;
+
+	@BeforeAll
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		Family family = familyRepository.save(Family.builder().familyName("query-count").build());
+		parent = userRepository.save(User.builder().userId("query-count-parent").nickname("query-count-parent")
+			.family(family).roles(Role.ROLE_PARENT).money(0L).score(0).build());
+		child = userRepository.save(User.builder().userId("query-count-child").nickname(CHILD_NICKNAME)
+			.family(family).roles(Role.ROLE_CHILD).money(0L).score(0).build());
+		depositProduct = product(family, ProductType.DEPOSIT);
+		loanProduct = product(family, ProductType.LOAN);
+		savingsProduct = product(family, ProductType.SAVINGS);
+		for (int i = 0; i < CONTRACTS; i++) {
+			depositorRepository.save(Depositor.builder().user(child).financialProduct(depositProduct)
+				.familyId(family.getId()).money(1_000).build());
+			loanerRepository.save(Loaner.builder().user(child).financialProduct(loanProduct)
+				.familyId(family.getId()).money(1_000).build());
+			savingserRepository.save(Savingser.builder().user(child).financialProduct(savingsProduct)
+				.familyId(family.getId()).money(1_000).regularMoney(100).build());
+		}
+	}
+
+	@Test
+	void depositorListingsRunOneQuery() {
+		CustomUserDetails principal = new CustomUserDetails(parent);
+		assertEquals(CONTRACTS, withinBudget(() -> depositorService.getDisallow(principal)).size());
+		assertEquals(CONTRACTS, withinBudget(() -> depositorService.getDisallowProducts(depositProduct.getId())).size());
+		assertEquals(CONTRACTS, withinBudget(() -> depositorService.getProductsByNickname(CHILD_NICKNAME)).size());
+		assertEquals(CONTRACTS, withinBudget(() -> depositorService.getDepositorList(child)).size());
+	}
+
+	@Test
+	void loanerListingsRunOneQuery() {
+		CustomUserDetails principal = new CustomUserDetails(parent);
+		assertEquals(CONTRACTS, withinBudget(() -> loanerService.getDisallow(principal)).size());
+		assertEquals(CONTRACTS, withinBudget(() -> loanerService.getDisallowProducts(loanProduct.getId())).size());
+		assertEquals(CONTRACTS, withinBudget(() -> loanerService.getProductsByNickname(CHILD_NICKNAME)).size());
+		assertEquals(CONTRACTS, withinBudget(() -> loanerService.getLoanerList(child)).size());
+	}
+
+	@Test
+	void savingserListingsRunOneQuery() {
+		CustomUserDetails principal = new CustomUserDetails(parent);
+		assertEquals(CONTRACTS, withinBudget(() -> savingserService.getDisallow(principal)).size());
+		assertEquals(CONTRACTS, withinBudget(() -> savingserService.getDisallowProducts(savingsProduct.getId())).size());
+		assertEquals(CONTRACTS, withinBudget(() -> savingserService.getProductsByNickname(CHILD_NICKNAME)).size());
+		assertEquals(CONTRACTS, withinBudget(() -> savingserService.getSavingList(child)).size());
+	}
+
+	@Test
+	void unknownNicknameStillThrows() {
+		assertThrows(NoSuchElementException.class, () -> depositorService.getProductsByNickname("no-such-nickname"));
+		assertThrows(NoSuchElementException.class, () -> loanerService.getProductsByNickname("no-such-nickname"));
+		assertThrows(NoSuchElementException.class, () -> savingserService.getProductsByNickname("no-such-nickname"));
+	}
+
+	private <T> List<T> withinBudget(Supplier<List<T>> listing) {
+		statistics.clear();
+		List<T> result = listing.get();
+		long queries = statistics.getPrepareStatementCount();
+		assertTrue(queries <= QUERY_BUDGET, "쿼리 예산 " + QUERY_BUDGET + "회를 넘었습니다: " + queries + "회");
+		return result;
+	}
+
+	private FinancialProduct product(Family family, ProductType productType) {
+		return financialProductRepository.save(FinancialProduct.builder().parent(parent).family(family)
+			.name("query-count-" + productType).rate(3).period(12).productType(productType).build());
+	}
+}
@@ -0,0 +1,122 @@
+package com.woowahanbank.backend.domain.user.service;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.woowahanbank.backend.domain.user.repository.UserRepository;
+import com.woowahanbank.backend.support.JmhSupport;
+
+/**
+ * 닉네임 백만 개(-Dbenchmark.nicknames)로 색인을 만들고 검색어 길이별 검색 시간을 잰다.
+ * 닉네임은 70%가 성 + 한글 1~3자(셋 중 하나는 숫자가 붙는다), 30%가 영문 소문자 4~9자다.
+ * 검색어는 실제 닉네임에서 잘라 낸다. 1글자는 첫 글자, 나머지는 임의 위치다.
+ * 재구성 시간과 색인이 차지하는 힙은 JMH 전에 한 번 재서 출력한다.
+ * ./gradlew benchmarkTest --tests '*NicknameSearchIndexBenchmark' 로 실행한다.
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+public class NicknameSearchIndexBenchmark {
+	private static final int NICKNAMES = Integer.getInteger("benchmark.nicknames", 1_000_000);
+	private static final int KEYWORDS = 2_000;
+	private static final int MAX_RESULTS = 20;
+	private static final String SURNAMES = "김이박최정강조윤장임한오서신권황안송류전홍고문양손배백허유남심노하곽성차주우구민진나지엄채원천방공현함변염여추도소석선설마길연위표명기반왕금옥육인맹제모탁국어은편용";
+
+	@Param({"1", "2", "3", "4"})
+	public int keywordLength;
+
+	private NicknameSearchIndex index;
+	private String[] keywords;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		List<String> nicknames = nicknames();
+		index = index(nicknames);
+		index.rebuild();
+		keywords = keywords(nicknames, keywordLength);
+	}
+
+	@Benchmark
+	public List<String> search() {
+		String keyword = keywords[next];
+		next = (next + 1) % keywords.length;
+		return index.search(keyword);
+	}
+
+	@Test
+	void searchMillionNicknames() throws Exception {
+		List<String> nicknames = nicknames();
+		long before = usedHeap();
+		NicknameSearchIndex index = index(nicknames);
+		long startedAt = System.nanoTime();
+		index.rebuild();
+		long rebuildMillis = (System.nanoTime() - startedAt) / 1_000_000;
+		long indexBytes = usedHeap() - before;
+		System.out.printf("닉네임 %d개: 재구성 %dms, 색인 힙 %.1fMB (닉네임 문자열 제외)%n", nicknames.size(), rebuildMillis,
+			indexBytes / 1e6);
+		JmhSupport.run(NicknameSearchIndexBenchmark.class);
+	}
+
+	private static NicknameSearchIndex index(List<String> nicknames) {
+		UserRepository userRepository = mock(UserRepository.class);
+		when(userRepository.findAllNicknames()).thenReturn(nicknames);
+		return new NicknameSearchIndex(userRepository, MAX_RESULTS);
+	}
+
+	private static List<String> nicknames() {
+		Random random = new Random(42);
+		Set<String> nicknames = new HashSet<>();
+		while (nicknames.size() < NICKNAMES) {
+			StringBuilder nickname = new StringBuilder();
+			if (random.nextInt(10) < 7) {
+				nickname.append(SURNAMES.charAt((int)Math.abs(random.nextGaussian() * 8) % SURNAMES.length()));
+				int length = 1 + random.nextInt(3);
+				for (int i = 0; i < length; i++)
+					nickname.append((char)('가' + random.nextInt(11172)));
+				if (random.nextInt(3) == 0)
+					nickname.append(random.nextInt(1000));
+			} else {
+				int length = 4 + random.nextInt(6);
+				for (int i = 0; i < length; i++)
+					nickname.append((char)('a' + random.nextInt(26)));
+			}
+			nicknames.add(nickname.toString());
+		}
+		return new ArrayList<>(nicknames);
+	}
+
+	private static String[] keywords(List<String> nicknames, int length) {
+		Random random = new Random(length);
+		List<String> keywords = new ArrayList<>();
+		while (keywords.size() < KEYWORDS) {
+			String nickname = nicknames.get(random.nextInt(nicknames.size()));
+			if (nickname.length() < length)
+				continue;
+			int start = length == 1 ? 0 : random.nextInt(nickname.length() - length + 1);
+			keywords.add(nickname.substring(start, start + length));
+		}
+		return keywords.toArray(new String[0]);
+	}
+
+	private static long usedHeap() throws InterruptedException {
+		Runtime runtime = Runtime.getRuntime();
+		System.gc();
+		Thread.sleep(200);
+		System.gc();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
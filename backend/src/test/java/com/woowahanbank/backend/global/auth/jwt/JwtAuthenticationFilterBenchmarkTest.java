@@ -0,0 +1,106 @@
+package com.woowahanbank.backend.global.auth.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.Optional;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.woowahanbank.backend.domain.user.domain.Role;
+import com.woowahanbank.backend.domain.user.domain.User;
+import com.woowahanbank.backend.domain.user.repository.UserRepository;
+import com.woowahanbank.backend.domain.user.service.UserService;
+import com.woowahanbank.backend.global.util.JwtTokenUtil;
+import com.woowahanbank.backend.support.ContainerTestSupport;
+
+/**
+ * JwtAuthenticationFilter 한 번 통과에 드는 시간과 쿼리 수를 인증 캐시가 있을 때와 없을 때(매 요청 디비 조회)로 비교한다.
+ * 요청 수는 -Dbenchmark.requests 로 바꾼다. ./gradlew benchmarkTest 로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class JwtAuthenticationFilterBenchmarkTest extends ContainerTestSupport {
+	private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20_000);
+	private static final int WARMUP = REQUESTS / 4;
+
+	@Autowired
+	private UserService userService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private PrincipalCache principalCache;
+	@Autowired
+	private RedisTemplate<String, String> redisTemplate;
+	@Autowired
+	private ObjectMapper objectMapper;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void filterOverheadPerRequest() throws Exception {
+		User user = userRepository.save(User.builder().userId("filter-benchmark").nickname("filter-benchmark")
+			.roles(Role.ROLE_CHILD).money(0L).score(0).build());
+		String header = JwtTokenUtil.TOKEN_PREFIX + JwtTokenUtil.getAccessToken(user.getUserId());
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		// 캐시를 쓰지 않으면 변경 전처럼 요청마다 디비에서 유저를 읽는다.
+		JwtAuthenticationFilter uncached = new JwtAuthenticationFilter(null, userService,
+			new PrincipalCache(redisTemplate, objectMapper, 60) {
+				@Override
+				public Optional<User> get(String userId) {
+					return Optional.empty();
+				}
+
+				@Override
+				public void put(User user) {
+				}
+			});
+		JwtAuthenticationFilter cached = new JwtAuthenticationFilter(null, userService, principalCache);
+
+		long uncachedNanos = measure(uncached, header);
+		statistics.clear();
+		send(uncached, header, REQUESTS);
+		double uncachedQueries = (double)statistics.getPrepareStatementCount() / REQUESTS;
+
+		long cachedNanos = measure(cached, header);
+		statistics.clear();
+		send(cached, header, REQUESTS);
+		double cachedQueries = (double)statistics.getPrepareStatementCount() / REQUESTS;
+
+		assertEquals(0.0, cachedQueries);
+		System.out.printf("요청 %d건: 캐시 없음 %.1fµs/요청 (쿼리 %.2f회), 캐시 있음 %.1fµs/요청 (쿼리 %.2f회)%n", REQUESTS,
+			uncachedNanos / 1_000.0, uncachedQueries, cachedNanos / 1_000.0, cachedQueries);
+	}
+
+	// 워밍업 후 요청 한 건당 평균 나노초를 돌려준다.
+	private long measure(JwtAuthenticationFilter filter, String header) throws Exception {
+		send(filter, header, WARMUP);
+		long startedAt = System.nanoTime();
+		send(filter, header, REQUESTS);
+		return (System.nanoTime() - startedAt) / REQUESTS;
+	}
+
+	private void send(JwtAuthenticationFilter filter, String header, int requests) throws Exception {
+		for (int i = 0; i < requests; i++) {
+			MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user");
+			request.addHeader(JwtTokenUtil.HEADER_STRING, header);
+			filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+			assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+			SecurityContextHolder.clearContext();
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package com.woowahanbank.backend.global.notification.listener;
+
+import com.woowahanbank.backend.global.notification.dto.NotificationDto;
+import com.woowahanbank.backend.global.notification.dto.NotificationMessage;
+import com.woowahanbank.backend.global.notification.event.NotificationEvent;
+import com.woowahanbank.backend.support.JmhSupport;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+
+/**
+ * 알림 한 건을 예전 방식(NotificationEvent를 SimpleMessageConverter로 자바 직렬화)과
+ * NotificationMessageConverter(JSON)로 주고받을 때의 인코딩/디코딩 시간과 본문 크기를 비교한다.
+ * ./gradlew benchmarkTest --tests '*NotificationMessageConverterBenchmark' 로 실행한다.
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+public class NotificationMessageConverterBenchmark {
+    private static final String NICKNAME = "엄마";
+    private static final String CLICK_ACTION = "https://ilchonbank.com/financeDetail/12";
+    private static final String TITLE = "예금 상품 승인 신청";
+    private static final String BODY = "아기님이 예금 상품 [용돈 모으기]을 ( 10,000 )원 금액에 승인을 신청 했습니다.";
+
+    private SimpleMessageConverter javaConverter;
+    private NotificationMessageConverter jsonConverter;
+    private NotificationEvent event;
+    private NotificationMessage message;
+    private Message javaEncoded;
+    private Message jsonEncoded;
+
+    @Setup
+    public void setUp() {
+        javaConverter = new SimpleMessageConverter();
+        javaConverter.setAllowedListPatterns(
+            List.of("com.woowahanbank.*", "org.springframework.context.*", "java.util.*"));
+        jsonConverter = new NotificationMessageConverter(Jackson2ObjectMapperBuilder.json().build());
+        // 예전에는 발행한 서비스 빈이 source였다. EventObject.source는 transient라 본문에는 들어가지 않는다.
+        event = new NotificationEvent(this, NICKNAME, CLICK_ACTION,
+            NotificationDto.builder().title(TITLE).body(BODY).build());
+        message = NotificationMessage.builder()
+            .nickname(NICKNAME).clickAction(CLICK_ACTION).title(TITLE).body(BODY).build();
+        javaEncoded = javaConverter.toMessage(event, new MessageProperties());
+        jsonEncoded = jsonConverter.toMessage(message, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message javaSerializationEncode() {
+        return javaConverter.toMessage(event, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object javaSerializationDecode() {
+        return javaConverter.fromMessage(javaEncoded);
+    }
+
+    @Benchmark
+    public Message jsonEncode() {
+        return jsonConverter.toMessage(message, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object jsonDecode() {
+        return jsonConverter.fromMessage(jsonEncoded);
+    }
+
+    @Test
+    void compareWithJavaSerialization() throws Exception {
+        setUp();
+        System.out.printf("본문 크기: 자바 직렬화 %d bytes, JSON %d bytes%n",
+            javaEncoded.getBody().length, jsonEncoded.getBody().length);
+        JmhSupport.run(NotificationMessageConverterBenchmark.class);
+    }
+}
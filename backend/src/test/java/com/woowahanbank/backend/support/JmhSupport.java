@@ -0,0 +1,39 @@
+package com.woowahanbank.backend.support;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * benchmark 태그 테스트에서 JMH 벤치마크를 돌린다. 결과 표는 표준 출력으로 나온다.
+ * 반복 횟수는 -Dbenchmark.iterations 로 바꾼다.
+ */
+public final class JmhSupport {
+	private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 5);
+
+	private JmhSupport() {
+	}
+
+	public static Collection<RunResult> run(Class<?> benchmark) throws RunnerException {
+		Options options = new OptionsBuilder()
+			.include("^" + Pattern.quote(benchmark.getName()) + "\\.")
+			.mode(Mode.AverageTime)
+			.timeUnit(TimeUnit.NANOSECONDS)
+			.warmupIterations(ITERATIONS)
+			.warmupTime(TimeValue.seconds(1))
+			.measurementIterations(ITERATIONS)
+			.measurementTime(TimeValue.seconds(1))
+			.forks(1)
+			.shouldFailOnError(true)
+			.build();
+		return new Runner(options).run();
+	}
+}
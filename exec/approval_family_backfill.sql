@@ -0,0 +1,50 @@
+-- 승인 대기함용 family_id 채우기. 상품의 가족을 복사한다. approval_family_columns.sql 을 먼저 실행한다.
+-- 10000건씩 나눠 갱신하고, 채울 행이 없을 때까지 반복한다. 채운 행은 다시 건드리지 않으므로 다시 실행해도 된다.
+-- MySQL 은 여러 테이블 update 에 limit 을 허용하지 않으므로 한 테이블 update 에 서브쿼리로 가족을 읽는다.
+drop procedure if exists backfill_approval_family;
+
+delimiter $$
+create procedure backfill_approval_family()
+begin
+    declare affected int default 1;
+    while affected > 0 do
+        update depositor
+        set family_id = (select p.family_id from financial_product p where p.id = depositor.financial_product_id)
+        where family_id is null
+          and exists (select 1 from financial_product p where p.id = depositor.financial_product_id and p.family_id is not null)
+        limit 10000;
+        set affected = row_count();
+    end while;
+
+    set affected = 1;
+    while affected > 0 do
+        update loaner
+        set family_id = (select p.family_id from financial_product p where p.id = loaner.financial_product_id)
+        where family_id is null
+          and exists (select 1 from financial_product p where p.id = loaner.financial_product_id and p.family_id is not null)
+        limit 10000;
+        set affected = row_count();
+    end while;
+
+    set affected = 1;
+    while affected > 0 do
+        update savingser
+        set family_id = (select p.family_id from financial_product p where p.id = savingser.financial_product_id)
+        where family_id is null
+          and exists (select 1 from financial_product p where p.id = savingser.financial_product_id and p.family_id is not null)
+        limit 10000;
+        set affected = row_count();
+    end while;
+end$$
+delimiter ;
+
+call backfill_approval_family();
+drop procedure backfill_approval_family;
+
+-- 가족이 있는 상품의 계약 중 남은 행이 없어야 한다.
+select (select count(*) from depositor c join financial_product p on p.id = c.financial_product_id
+        where c.family_id is null and p.family_id is not null)
+     + (select count(*) from loaner c join financial_product p on p.id = c.financial_product_id
+        where c.family_id is null and p.family_id is not null)
+     + (select count(*) from savingser c join financial_product p on p.id = c.financial_product_id
+        where c.family_id is null and p.family_id is not null) as remaining;
@@ -0,0 +1,9 @@
+-- 승인 대기함용 family_id 컬럼과 인덱스를 계약 테이블에 추가한다. 한 번만 실행한다.
+-- 기존 행은 이어서 approval_family_backfill.sql 로 채운다.
+alter table depositor add column family_id bigint null;
+alter table loaner add column family_id bigint null;
+alter table savingser add column family_id bigint null;
+
+create index idx_depositor_family_pending on depositor (family_id, allow_product, date, id);
+create index idx_loaner_family_pending on loaner (family_id, allow_product, date, id);
+create index idx_savingser_family_pending on savingser (family_id, allow_product, date, id);
@@ -0,0 +1,38 @@
+-- 기존 계약의 billing_day 채우기. billing_day_columns.sql 을 먼저 실행한다.
+-- 한 번에 잠그는 행 수를 줄이기 위해 10000건씩 나눠 갱신하고, 채울 행이 없을 때까지 반복한다.
+-- 채운 행은 다시 건드리지 않으므로 중간에 끊겨도 다시 실행하면 된다.
+drop procedure if exists backfill_billing_day;
+
+delimiter $$
+create procedure backfill_billing_day()
+begin
+    declare affected int default 1;
+    while affected > 0 do
+        update depositor set billing_day = day(date) where billing_day is null and date is not null limit 10000;
+        set affected = row_count();
+    end while;
+
+    set affected = 1;
+    while affected > 0 do
+        update loaner set billing_day = day(date) where billing_day is null and date is not null limit 10000;
+        set affected = row_count();
+    end while;
+
+    set affected = 1;
+    while affected > 0 do
+        update savingser set billing_day = day(date) where billing_day is null and date is not null limit 10000;
+        set affected = row_count();
+    end while;
+end$$
+delimiter ;
+
+call backfill_billing_day();
+drop procedure backfill_billing_day;
+
+-- 남은 행이 없어야 한다.
+select (select count(*) from depositor where billing_day is null and date is not null)
+     + (select count(*) from loaner where billing_day is null and date is not null)
+     + (select count(*) from savingser where billing_day is null and date is not null) as remaining;
+
+-- 실행 계획 확인: key 가 idx_*_billing_day, type 이 range 여야 한다.
+explain select id from depositor where billing_day = 15 and allow_product = 1 and id > 0 order by id limit 500;
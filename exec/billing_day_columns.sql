@@ -0,0 +1,9 @@
+-- 계약 테이블에 이자 지급일(billing_day) 컬럼과 인덱스를 추가한다. 한 번만 실행한다.
+-- 기존 행은 이어서 billing_day_backfill.sql 로 채운다.
+alter table depositor add column billing_day int null;
+alter table loaner add column billing_day int null;
+alter table savingser add column billing_day int null;
+
+create index idx_depositor_billing_day on depositor (billing_day, allow_product);
+create index idx_loaner_billing_day on loaner (billing_day, allow_product);
+create index idx_savingser_billing_day on savingser (billing_day, allow_product);
@@ -0,0 +1,18 @@
+-- 카드 번호 발급 카운터와 계약별 카드 번호 유니크 인덱스를 기존 DB에 추가한다.
+create table if not exists card_number_sequence
+(
+    id         int    not null
+        primary key,
+    next_value bigint not null
+);
+
+insert ignore into card_number_sequence (id, next_value) values (1, 0);
+
+-- 유니크 인덱스를 만들기 전에 예전에 무작위로 발급되어 겹친 번호가 있는지 확인한다. 결과가 있으면 해당 계약의 번호를 먼저 정리한다.
+select card_number, count(*) from depositor where card_number is not null group by card_number having count(*) > 1;
+select card_number, count(*) from loaner where card_number is not null group by card_number having count(*) > 1;
+select card_number, count(*) from savingser where card_number is not null group by card_number having count(*) > 1;
+
+create unique index uk_depositor_card_number on depositor (card_number);
+create unique index uk_loaner_card_number on loaner (card_number);
+create unique index uk_savingser_card_number on savingser (card_number);
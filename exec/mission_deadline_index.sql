@@ -0,0 +1,5 @@
+-- 마감 대기열에서 빠진 미션을 DB에서 찾아 만료 처리할 때 쓰는 인덱스
+create index idx_mission_status_deadline on mission (status, mission_terminate_date);
+
+-- 실행 계획 확인: key 가 idx_mission_status_deadline 여야 한다.
+explain select id from mission where status = 'IN_PROGRESS' and mission_terminate_date < now() order by mission_terminate_date limit 200;
@@ -0,0 +1,38 @@
+-- 미션 상태를 한글 문자열(mission_status)에서 enum 컬럼(status)으로 옮긴다. mission_status_columns.sql 을 먼저 실행한다.
+-- 10000건씩 나눠 갱신하고, 옮길 행이 없을 때까지 반복한다. 옮긴 행은 다시 건드리지 않으므로 다시 실행해도 된다.
+-- '완료', '거절' 이 아닌 행은 새 컬럼 기본값 IN_PROGRESS 로 남는다. 예전 기본값 '시작전' 도 진행 중으로 옮긴다는 뜻이다.
+-- 옮기기 전에 어떤 값이 몇 건 있는지 확인한다.
+select mission_status, count(*) from mission group by mission_status;
+
+drop procedure if exists backfill_mission_status;
+
+delimiter $$
+create procedure backfill_mission_status()
+begin
+    declare affected int default 1;
+    while affected > 0 do
+        update mission set status = 'COMPLETED' where mission_status = '완료' and status = 'IN_PROGRESS' limit 10000;
+        set affected = row_count();
+    end while;
+
+    set affected = 1;
+    while affected > 0 do
+        update mission set status = 'REFUSED' where mission_status = '거절' and status = 'IN_PROGRESS' limit 10000;
+        set affected = row_count();
+    end while;
+end$$
+delimiter ;
+
+call backfill_mission_status();
+drop procedure backfill_mission_status;
+
+-- 옮긴 결과를 확인한다.
+select mission_status, status, count(*) from mission group by mission_status, status;
+
+-- 옮긴 뒤 확인이 끝나면 이전 컬럼을 지운다.
+-- alter table mission drop column mission_status;
+
+-- 실행 계획 확인: key 가 idx_mission_family_child_status 여야 한다.
+explain select id from mission where family_id_id = 1 and child_user_id = 1 and status = 'IN_PROGRESS' and id < 9223372036854775807 order by id desc limit 20;
+-- key 가 idx_mission_family_id 여야 한다.
+explain select id from mission where family_id_id = 1 and id < 9223372036854775807 order by id desc limit 20;
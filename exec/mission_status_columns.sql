@@ -0,0 +1,7 @@
+-- 미션에 enum 상태 컬럼(status)과 목록 조회용 인덱스를 추가한다. 한 번만 실행한다.
+-- 기존 행의 상태는 이어서 mission_status_backfill.sql 로 옮긴다.
+alter table mission add column status varchar(16) not null default 'IN_PROGRESS';
+
+create index idx_mission_family_child_status on mission (family_id_id, child_user_id, status, id);
+-- 부모가 아이와 상태 없이 가족 전체를 최신순으로 볼 때 쓰는 인덱스
+create index idx_mission_family_id on mission (family_id_id, id);
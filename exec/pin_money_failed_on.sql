@@ -0,0 +1,4 @@
+-- 잔액이 모자라 지급하지 못한 용돈 일정을 그날은 다시 집지 않도록 실패한 날을 남긴다.
+-- 지급일(next_run_at)은 넘기지 않으므로 다음 배치가 같은 회차부터 다시 시도한다.
+alter table pin_money
+    add column failed_on date null;
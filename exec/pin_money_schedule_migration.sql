@@ -0,0 +1,60 @@
+-- 주간 용돈 행(user_id, receive_time)을 부모-자녀 일정(parent_id, child_id, cycle, next_run_at)으로 옮긴다.
+-- 예전에는 한 번 등록할 때 자녀 행(+금액)과 부모 행(-금액)이 함께 저장되었다. 자녀 행을 일정으로 바꾸고 부모 행은 지운다.
+alter table pin_money
+    add column cycle       varchar(255) null,
+    add column next_run_at date         null,
+    add column parent_id   int          null,
+    add column child_id    int          null;
+
+-- 짝이 되는 부모 행(같은 가족, 같은 지급일, 반대 금액)을 찾고, 없으면 가족의 부모를 쓴다.
+create temporary table pin_money_pair as
+select c.id,
+       c.user_id as child_id,
+       coalesce((select min(p.user_id)
+                 from pin_money p
+                          join user pu on pu.id = p.user_id
+                 where p.pin_money = -c.pin_money
+                   and p.receive_time = c.receive_time
+                   and pu.family_id = cu.family_id),
+                (select min(u.id)
+                 from user u
+                 where u.family_id = cu.family_id
+                   and u.roles = 'ROLE_PARENT')) as parent_id
+from pin_money c
+         join user cu on cu.id = c.user_id
+where c.pin_money > 0;
+
+-- 지난 지급일은 배치가 밀린 회차를 모두 지급하지 않도록 오늘 이후의 같은 요일로 옮긴다.
+update pin_money m
+    join pin_money_pair t on t.id = m.id
+set m.child_id    = t.child_id,
+    m.parent_id   = t.parent_id,
+    m.cycle       = 'WEEKLY',
+    m.next_run_at = case
+                        when m.receive_time >= curdate() then m.receive_time
+                        else date_add(m.receive_time,
+                                      interval ceil(datediff(curdate(), m.receive_time) / 7) * 7 day) end;
+
+-- 부모 행과 부모를 찾지 못한 자녀 행은 지급할 수 없으므로 지운다.
+delete from pin_money where child_id is null or parent_id is null;
+
+drop temporary table pin_money_pair;
+
+alter table pin_money
+    drop foreign key FKnc5poofsjuon7qfe6bd1ubk4y,
+    drop column user_id,
+    drop column receive_time,
+    add constraint fk_pin_money_parent foreign key (parent_id) references user (id),
+    add constraint fk_pin_money_child foreign key (child_id) references user (id);
+
+create index idx_pin_money_next_run on pin_money (next_run_at, id);
+
+create table if not exists pin_money_run
+(
+    id          bigint auto_increment
+        primary key,
+    schedule_id bigint null,
+    run_date    date   null,
+    constraint uk_pin_money_run
+        unique (schedule_id, run_date)
+);
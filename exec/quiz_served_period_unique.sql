@@ -0,0 +1,12 @@
+-- 구간마다 출제 문제가 하나만 있도록 served_period 를 유니크로 바꾼다.
+-- 예전에 두 서버가 같은 구간에 서로 다른 문제를 배정한 경우가 있으면 id 가 가장 작은 문제만 남긴다.
+delete q
+from quiz q
+         join (select served_period, min(id) as keep_id
+               from quiz
+               where served_period is not null
+               group by served_period
+               having count(*) > 1) d on d.served_period = q.served_period and q.id <> d.keep_id;
+
+drop index idx_quiz_served_period on quiz;
+create unique index uk_quiz_served_period on quiz (served_period);
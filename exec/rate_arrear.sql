@@ -0,0 +1,11 @@
+-- 잔액 부족으로 이자 배치에서 처리하지 못한 회차를 남겨 두는 테이블. 다음 배치부터 다시 처리하고, 처리되면 지운다.
+create table if not exists rate_arrear
+(
+    id           bigint auto_increment
+        primary key,
+    product_type varchar(255) null,
+    contract_id  bigint       null,
+    due_date     date         null,
+    constraint uk_rate_arrear
+        unique (product_type, contract_id, due_date)
+);
@@ -19,9 +19,12 @@ create table if not exists quiz
     quiz_choice4    varchar(1000) null,
     quiz_choice5    varchar(1000) null,
     quiz_commentary varchar(1000) null,
-    quiz_question   varchar(1000) null
+    quiz_question   varchar(1000) null,
+    served_period   bigint        null
 );
 
+create unique index uk_quiz_served_period on quiz (served_period);
+
 create table if not exists user
 (
     id        int auto_increment
@@ -37,6 +40,8 @@ create table if not exists user
         foreign key (family_id) references family (id)
 );
 
+create unique index uk_user_nickname on user (nickname);
+
 create table if not exists financial_product
 (
     id           bigint auto_increment
@@ -60,6 +65,10 @@ create table if not exists depositor
         primary key,
     allow_product        tinyint(1) not null,
     date                 datetime   null,
+    expiry               datetime   null,
+    billing_day          int        null,
+    family_id            bigint     null,
+    card_number          varchar(255) null,
     money                int        not null,
     financial_product_id bigint     null,
     user_id              int        null,
@@ -69,6 +78,11 @@ create table if not exists depositor
         foreign key (financial_product_id) references financial_product (id)
 );
 
+create index idx_depositor_expiry on depositor (expiry);
+create index idx_depositor_billing_day on depositor (billing_day, allow_product);
+create unique index uk_depositor_card_number on depositor (card_number);
+create index idx_depositor_family_pending on depositor (family_id, allow_product, date, id);
+
 create table if not exists invitation
 (
     id        bigint auto_increment
@@ -90,6 +104,10 @@ create table if not exists loaner
         primary key,
     allow_product        tinyint(1) not null,
     date                 datetime   null,
+    expiry               datetime   null,
+    billing_day          int        null,
+    family_id            bigint     null,
+    card_number          varchar(255) null,
     money                int        not null,
     financial_product_id bigint     null,
     user_id              int        null,
@@ -99,37 +117,61 @@ create table if not exists loaner
         foreign key (user_id) references user (id)
 );
 
+create index idx_loaner_expiry on loaner (expiry);
+create index idx_loaner_billing_day on loaner (billing_day, allow_product);
+create unique index uk_loaner_card_number on loaner (card_number);
+create index idx_loaner_family_pending on loaner (family_id, allow_product, date, id);
+
 create table if not exists mission
 (
-    mission_id             bigint auto_increment
-        primary key,
-    mission_description    varchar(255)               null,
-    mission_name           varchar(255)               null,
-    mission_point          int                        null,
-    mission_status         varchar(255) default '시작전' null,
-    mission_terminate_date datetime                   null,
-    mission_child_id       int                        null,
-    mission_family_id      bigint                     null,
-    mission_parent_id      int                        null,
-    child_nickname         varchar(255)               null,
-    parent_nickname        varchar(255)               null,
+    id                     bigint auto_increment
+        primary key,
+    mission_description    varchar(255) null,
+    mission_name           varchar(255) null,
+    mission_point          int          null,
+    status                 varchar(16)  not null default 'IN_PROGRESS',
+    mission_terminate_date datetime     null,
+    child_user_id          int          null,
+    family_id_id           bigint       null,
+    parent_user_id         int          null,
     constraint FKdvkmbfsisqgt5jhuqgwpduweh
-        foreign key (mission_child_id) references user (id),
+        foreign key (child_user_id) references user (id),
     constraint FKkt0byon7ea1ly0g7jq91q2nlp
-        foreign key (mission_family_id) references family (id),
+        foreign key (family_id_id) references family (id),
     constraint FKoi5dir7w8awlxr96t5smuknmq
-        foreign key (mission_parent_id) references user (id)
+        foreign key (parent_user_id) references user (id)
 );
 
+create index idx_mission_family_child_status on mission (family_id_id, child_user_id, status, id);
+create index idx_mission_family_id on mission (family_id_id, id);
+create index idx_mission_status_deadline on mission (status, mission_terminate_date);
+
 create table if not exists pin_money
 (
-    id           bigint auto_increment
+    id          bigint auto_increment
         primary key,
-    pin_money    int  not null,
-    receive_time date null,
-    user_id      int  null,
-    constraint FKnc5poofsjuon7qfe6bd1ubk4y
-        foreign key (user_id) references user (id)
+    pin_money   int          not null,
+    cycle       varchar(255) null,
+    next_run_at date         null,
+    failed_on   date         null,
+    parent_id   int          null,
+    child_id    int          null,
+    constraint fk_pin_money_parent
+        foreign key (parent_id) references user (id),
+    constraint fk_pin_money_child
+        foreign key (child_id) references user (id)
+);
+
+create index idx_pin_money_next_run on pin_money (next_run_at, id);
+
+create table if not exists pin_money_run
+(
+    id          bigint auto_increment
+        primary key,
+    schedule_id bigint null,
+    run_date    date   null,
+    constraint uk_pin_money_run
+        unique (schedule_id, run_date)
 );
 
 create table if not exists point
@@ -147,12 +189,45 @@ create table if not exists point
         foreign key (receiver_id) references user (id)
 );
 
+create index idx_point_sender on point (sender_id, id);
+create index idx_point_receiver on point (receiver_id, id);
+
+create table if not exists notification_outbox
+(
+    id           bigint auto_increment
+        primary key,
+    nickname     varchar(255)  null,
+    click_action varchar(255)  null,
+    title        varchar(255)  null,
+    body         varchar(1000) null,
+    created_at   datetime      null
+);
+
+create table if not exists point_rollup
+(
+    id           bigint auto_increment
+        primary key,
+    user_id      int          null,
+    period_type  varchar(255) null,
+    period_start date         null,
+    memo         varchar(255) null,
+    inflow       bigint       not null,
+    outflow      bigint       not null,
+    tx_count     int          not null,
+    constraint uk_point_rollup
+        unique (user_id, period_type, period_start, memo)
+);
+
 create table if not exists savingser
 (
     id                   bigint auto_increment
         primary key,
     allow_product        tinyint(1) not null,
     date                 datetime   null,
+    expiry               datetime   null,
+    billing_day          int        null,
+    family_id            bigint     null,
+    card_number          varchar(255) null,
     money                int        not null,
     regular_money        int        not null,
     financial_product_id bigint     null,
@@ -163,3 +238,58 @@ create table if not exists savingser
         foreign key (financial_product_id) references financial_product (id)
 );
 
+create index idx_savingser_expiry on savingser (expiry);
+create index idx_savingser_billing_day on savingser (billing_day, allow_product);
+create unique index uk_savingser_card_number on savingser (card_number);
+create index idx_savingser_family_pending on savingser (family_id, allow_product, date, id);
+
+create table if not exists maturity_watermark
+(
+    product_type varchar(255) not null
+        primary key,
+    last_expiry  datetime     null,
+    last_id      bigint       not null
+);
+
+create table if not exists card_number_sequence
+(
+    id         int    not null
+        primary key,
+    next_value bigint not null
+);
+
+create table if not exists rate_arrear
+(
+    id           bigint auto_increment
+        primary key,
+    product_type varchar(255) null,
+    contract_id  bigint       null,
+    due_date     date         null,
+    constraint uk_rate_arrear
+        unique (product_type, contract_id, due_date)
+);
+
+create table if not exists quiz_choice_stat
+(
+    id       bigint auto_increment
+        primary key,
+    quiz_id  bigint     null,
+    choice   int        not null,
+    correct  tinyint(1) not null,
+    attempts bigint     not null,
+    constraint uk_quiz_choice_stat
+        unique (quiz_id, choice)
+);
+
+create table if not exists quiz_family_stat
+(
+    id            bigint auto_increment
+        primary key,
+    quiz_id       bigint null,
+    family_id     bigint null,
+    attempts      bigint not null,
+    correct_count bigint not null,
+    constraint uk_quiz_family_stat
+        unique (quiz_id, family_id)
+);
+
@@ -0,0 +1,6 @@
+-- 닉네임을 유니크로 바꾼다. 사용 가능 여부 확인과 저장 사이에 같은 닉네임이 두 번 들어가는 것을 DB가 막는다.
+-- 유니크 인덱스를 만들기 전에 이미 겹친 닉네임이 있는지 확인한다. 결과가 있으면 해당 유저의 닉네임을 먼저 정리한다.
+select nickname, count(*) from user where nickname is not null group by nickname having count(*) > 1;
+
+drop index idx_user_nickname on user;
+create unique index uk_user_nickname on user (nickname);
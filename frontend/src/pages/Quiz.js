@@ -42,38 +42,28 @@ const Quiz = () => {
   };
 
   const handleSubmit = async () => {
-    const updatedUser = { ...user, quiz: 1 };
-    dispatch(setUser(updatedUser));
+    if (selectedAnswer === null) {
+      alert("답변을 선택해주세요!");
+      return;
+    }
     try {
-      const response = await apis.post("/api/quiz/solved");
-      if (response.status === 200) {
-        // 요청이 성공했을 때의 동작
-      } else {
-        // 요청이 실패했을 때의 동작
-        // console.log("터짐");
-      }
+      // 정답 확인과 포인트 지급은 서버에서 한다.
+      const response = await apis.post("/api/quiz/answer", {
+        choice: selectedAnswer + 1,
+      });
+      const result = response.data.data;
+      dispatch(setUser({ ...user, quiz: 1 }));
+      alert(result.correct ? "정답" : "오답");
+      navigate("/QuizResult", {
+        state: {
+          ans: result.correct ? 1 : 0,
+          point: result.point,
+          answerChoice: result.answerChoice,
+          commentary: result.commentary,
+        },
+      });
     } catch (error) {
-      // 요청 중에 예외가 발생했을 때의 동작
-    }
-
-    if (selectedAnswer !== null) {
-      if (selectedAnswer + 1 == quizInfo.quizAnswer) {
-        alert("정답");
-        navigate("/QuizResult", {
-          state: {
-            ans: 1,
-          },
-        });
-      } else {
-        alert("오답");
-        navigate("/QuizResult", {
-          state: {
-            ans: 0,
-          },
-        });
-      }
-    } else {
-      alert("답변을 선택해주세요!");
+      alert("답안 제출에 실패했습니다.");
     }
   };
 
@@ -93,18 +83,22 @@ const Quiz = () => {
                 <p>{quizInfo.quizQuestion}</p>
               </div>
               <div className="choiceContainer">
-                {Object.values(quizInfo)
-                  .slice(1, 6)
-                  .map((choice, index) => (
-                    <div
-                      className={`choicearea ${
-                        selectedAnswer === index ? "selectedBox" : ""
-                      }`}
-                      onClick={() => handleAnswerSelect(index)}
-                      key={index}>
-                      {choice}
-                    </div>
-                  ))}
+                {[
+                  quizInfo.quizChoice1,
+                  quizInfo.quizChoice2,
+                  quizInfo.quizChoice3,
+                  quizInfo.quizChoice4,
+                  quizInfo.quizChoice5,
+                ].map((choice, index) => (
+                  <div
+                    className={`choicearea ${
+                      selectedAnswer === index ? "selectedBox" : ""
+                    }`}
+                    onClick={() => handleAnswerSelect(index)}
+                    key={index}>
+                    {choice}
+                  </div>
+                ))}
               </div>
               <button onClick={handleSubmit} className="quiz-submit">
                 정답 확인